@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREMIUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Measures {@link ArgumentTokenizer#tokenize} on the arguments of an add command with a growing number of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int extraTags;
+
+    private String arguments;
+
+    /**
+     * Builds the arguments of an add command for a generated person with {@code extraTags} more tags.
+     */
+    @Setup
+    public void setUp() {
+        Person person = new SyntheticData().generatePersons(1).get(0);
+        StringBuilder sb = new StringBuilder(" ").append(PersonUtil.getPersonDetails(person));
+        for (int i = 0; i < extraTags; i++) {
+            sb.append(PREFIX_TAG).append("tag").append(i).append(" ");
+        }
+        arguments = sb.toString();
+    }
+
+    /**
+     * Tokenizes the arguments with every prefix that the add command accepts.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_BIRTHDAY, PREFIX_PREMIUM, PREFIX_TAG);
+    }
+}
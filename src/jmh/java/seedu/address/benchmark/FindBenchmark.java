@@ -0,0 +1,86 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures applying the predicate of a {@code find} command to the filtered person list, both by scanning
+ * every person and through the model, which answers it from the name index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private FilteredList<Person> scannedPersons;
+    private ModelManager model;
+    private NameContainsKeywordsPredicate[] predicates;
+    private int next;
+
+    /**
+     * Generates the address book and the keywords searched for.
+     */
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData();
+        AddressBook addressBook = data.generateAddressBook(size);
+        scannedPersons = new FilteredList<>(addressBook.getPersonList());
+        model = new ModelManager(addressBook, new PolicyBook(), new UserPrefs(), new UserProfile(), null);
+
+        // Alternate between keywords so that no predicate is applied twice in a row
+        predicates = new NameContainsKeywordsPredicate[] {
+            new NameContainsKeywordsPredicate(Arrays.asList(data.pickFirstName())),
+            new NameContainsKeywordsPredicate(Arrays.asList(data.pickFirstName(), data.pickFirstName()))
+        };
+    }
+
+    /**
+     * Filters the persons by testing the predicate against each of them.
+     */
+    @Benchmark
+    public int scan() {
+        scannedPersons.setPredicate(nextPredicate());
+        return scannedPersons.size();
+    }
+
+    /**
+     * Filters the persons through the model, as the {@code find} command does.
+     */
+    @Benchmark
+    public int model() {
+        model.updateFilteredPersonList(nextPredicate());
+        return model.getFilteredPersonList().size();
+    }
+
+    private NameContainsKeywordsPredicate nextPredicate() {
+        next = (next + 1) % predicates.length;
+        return predicates[next];
+    }
+}
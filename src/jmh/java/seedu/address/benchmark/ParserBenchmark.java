@@ -0,0 +1,77 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddPolicyCommand;
+import seedu.address.logic.commands.AddPremiumCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeletePolicyCommand;
+import seedu.address.logic.commands.DeletePremiumCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditPolicyCommand;
+import seedu.address.logic.commands.EditPremiumCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindPolicyCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListPolicyCommand;
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.parser.ClientNestParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link ClientNestParser#parseCommand(String)} for every command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({
+        ExitCommand.COMMAND_WORD,
+        HelpCommand.COMMAND_WORD,
+        ProfileCommand.COMMAND_WORD + " n/John Doe p/98765432 e/johnd@example.com",
+        AddCommand.COMMAND_WORD + " n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25"
+                + " b/1990-01-01 pr/LifeShield $300 t/friends t/owesMoney",
+        EditCommand.COMMAND_WORD + " 1 p/91234567 e/johndoe@example.com",
+        DeleteCommand.COMMAND_WORD + " 1",
+        ClearCommand.COMMAND_WORD,
+        FindCommand.COMMAND_WORD + " alice bob charlie",
+        ListCommand.COMMAND_WORD,
+        AddPremiumCommand.COMMAND_WORD + " 1 pr/LifeShield $300",
+        EditPremiumCommand.COMMAND_WORD + " 1 pr/LifeShield $300",
+        DeletePremiumCommand.COMMAND_WORD + " 1 pr/LifeShield",
+        AddPolicyCommand.COMMAND_WORD + " pn/POL123 n/LifeShield pc/ShieldCorp"
+                + " pl/https://www.shieldcorp.com/policy123",
+        ListPolicyCommand.COMMAND_WORD,
+        FindPolicyCommand.COMMAND_WORD + " health insurance",
+        EditPolicyCommand.COMMAND_WORD + " 1 n/New Policy Name pc/ABC Insurance",
+        DeletePolicyCommand.COMMAND_WORD + " 1"
+    })
+    private String userInput;
+
+    private final ClientNestParser parser = new ClientNestParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
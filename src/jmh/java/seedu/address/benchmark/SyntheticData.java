@@ -0,0 +1,125 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+import seedu.address.model.person.PremiumList;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Generates reproducible books of any size for benchmarks.
+ * Persons are variations of the sample persons in {@link SampleDataUtil}, so they exercise the same
+ * code paths as real data, and the same seed always generates the same persons.
+ */
+public class SyntheticData {
+
+    public static final long DEFAULT_SEED = 2103L;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Alice", "Benson", "Carl", "Daniel",
+        "Elle", "Fiona", "George", "Hoon", "Ida", "Amy", "Bob", "Wei Ming", "Siti", "Ravi"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Pauline", "Meier", "Kurz", "Tan",
+        "Lim", "Kunz", "Best", "Meyer", "Mueller", "Ng", "Choo", "Koh", "Wong", "Kumar"
+    };
+
+    private static final int MIN_BIRTH_YEAR = 1950;
+    private static final int BIRTH_YEAR_RANGE = 55;
+    private static final int MAX_PREMIUMS_PER_PERSON = 3;
+    private static final int MAX_PREMIUM_AMOUNT = 10000;
+
+    private final Random random;
+    private final Person[] samplePersons = SampleDataUtil.getSamplePersons();
+    private final Policy[] samplePolicies = SampleDataUtil.getSamplePolicies();
+
+    /**
+     * Creates a {@code SyntheticData} that generates data from {@code seed}.
+     */
+    public SyntheticData(long seed) {
+        random = new Random(seed);
+    }
+
+    public SyntheticData() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Returns {@code count} persons with unique names, phones and emails.
+     */
+    public List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book containing {@code count} generated persons.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns a randomly picked first name, which is shared by roughly one in every
+     * {@code FIRST_NAMES.length} generated persons.
+     */
+    public String pickFirstName() {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    /**
+     * Returns the {@code index}-th person; the index keeps the person's name, phone and email unique.
+     */
+    private Person generatePerson(int index) {
+        Person sample = samplePersons[random.nextInt(samplePersons.length)];
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + index;
+        LocalDate birthday = LocalDate.of(MIN_BIRTH_YEAR + random.nextInt(BIRTH_YEAR_RANGE), 1, 1)
+                .plusDays(random.nextInt(365));
+
+        return new PersonBuilder(sample)
+                .withName(name)
+                .withPhone(String.valueOf(80000000 + index))
+                .withEmail("user" + index + "@example.com")
+                .withBirthday(birthday.format(Birthday.FORMATTER))
+                .withPremiumList(generatePremiumList())
+                .withTags(generateTags())
+                .build();
+    }
+
+    private PremiumList generatePremiumList() {
+        PremiumList premiumList = new PremiumList();
+        int count = random.nextInt(MAX_PREMIUMS_PER_PERSON + 1);
+        for (int i = 0; i < count; i++) {
+            String policyName = samplePolicies[random.nextInt(samplePolicies.length)].getPolicyName().policyName;
+            Premium premium = new Premium(policyName, random.nextInt(MAX_PREMIUM_AMOUNT));
+            if (!premiumList.contains(premium)) {
+                premiumList = premiumList.with(premium);
+            }
+        }
+        return premiumList;
+    }
+
+    private String[] generateTags() {
+        Tag[] sampleTags = samplePersons[random.nextInt(samplePersons.length)].getTags().toArray(new Tag[0]);
+        String[] tags = new String[sampleTags.length];
+        for (int i = 0; i < sampleTags.length; i++) {
+            tags[i] = sampleTags[i].tagName;
+        }
+        return tags;
+    }
+}
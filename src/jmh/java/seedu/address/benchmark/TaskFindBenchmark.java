@@ -0,0 +1,91 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.tasklist.commands.Find;
+import seedu.address.tasklist.tasks.IndexedTaskList;
+import seedu.address.tasklist.tasks.Task;
+import seedu.address.tasklist.tasks.ToDo;
+
+/**
+ * Measures the tasklist {@code find} command, both by scanning the name of every task and through the word
+ * index of the task list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskFindBenchmark {
+
+    private static final String[] WORDS = {
+        "call", "client", "review", "policy", "renewal", "submit", "report", "meeting", "email", "claim",
+        "follow", "up", "prepare", "quote", "send", "documents", "update", "premium", "schedule", "visit"
+    };
+    private static final int WORDS_PER_TASK = 3;
+    private static final List<String> KEYWORDS = List.of("renew", "client");
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private IndexedTaskList tasks;
+
+    /**
+     * Generates the tasks searched through.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(SyntheticData.DEFAULT_SEED);
+        tasks = new IndexedTaskList();
+        for (int i = 0; i < size; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 0; j < WORDS_PER_TASK; j++) {
+                name.append(WORDS[random.nextInt(WORDS.length)]).append(" ");
+            }
+            tasks.add(new ToDo(name.append(i).toString()));
+        }
+    }
+
+    /**
+     * Counts the tasks with names containing any keyword by lower-casing and testing each name.
+     */
+    @Benchmark
+    public long scan() {
+        return tasks.stream()
+                .map(Task::getName)
+                .map(String::toLowerCase)
+                .filter(name -> KEYWORDS.stream().anyMatch(name::contains))
+                .count();
+    }
+
+    /**
+     * Finds the tasks through the word index, as the {@code find} command does.
+     */
+    @Benchmark
+    public int index() {
+        return tasks.findIndices(KEYWORDS).size();
+    }
+
+    /**
+     * Executes the {@code find} command, including formatting its results.
+     */
+    @Benchmark
+    public int find() {
+        return Find.execute("find " + String.join(" ", KEYWORDS), tasks).length();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures {@link UniquePersonList#add(Person)} and {@link UniquePersonList#contains(Person)}
+ * on lists of generated persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList filledList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    /**
+     * Generates the persons and a list that already contains all of them.
+     */
+    @Setup
+    public void setUp() {
+        persons = new SyntheticData().generatePersons(size);
+        filledList = new UniquePersonList();
+        persons.forEach(filledList::add);
+        // A copy, so that finding it cannot rely on identity
+        presentPerson = new PersonBuilder(persons.get(size / 2)).build();
+        absentPerson = new PersonBuilder().withName("Absent Person").build();
+    }
+
+    /**
+     * Adds every generated person to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return filledList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return filledList.contains(absentPerson);
+    }
+}
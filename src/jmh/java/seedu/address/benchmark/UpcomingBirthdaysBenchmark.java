@@ -0,0 +1,50 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures {@link ModelManager#getUpcomingBirthdays()} on generated address books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpcomingBirthdaysBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(new SyntheticData().generateAddressBook(size), new PolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+    }
+
+    @Benchmark
+    public List<Person> getUpcomingBirthdays() {
+        return model.getUpcomingBirthdays();
+    }
+}
@@ -3,9 +3,12 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -20,21 +23,25 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.PolicyBook;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JournalPolicyBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonPolicyBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonUserProfileStorage;
 import seedu.address.storage.PolicyBookStorage;
+import seedu.address.storage.StagedAddressBookLoader;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.UserProfileStorage;
+import seedu.address.storage.WriteBehindPersistence;
+import seedu.address.tasklist.main.TaskManager;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -52,9 +59,15 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected WriteBehindPersistence persistence;
+    protected StagedAddressBookLoader loader;
+    protected CompletableFuture<TaskManager> taskManager;
+
+    private long initStartNanos;
 
     @Override
     public void init() throws Exception {
+        initStartNanos = System.nanoTime();
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
@@ -65,47 +78,48 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
 
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        PolicyBookStorage policyBookStorage = new JsonPolicyBookStorage(userPrefs.getPolicyBookFilePath());
+        AddressBookStorage addressBookStorage;
+        PolicyBookStorage policyBookStorage;
+        if (userPrefs.getStorageFormat() == UserPrefs.StorageFormat.JOURNAL) {
+            addressBookStorage = new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+            policyBookStorage = new JournalPolicyBookStorage(userPrefs.getPolicyBookFilePath());
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+            policyBookStorage = new JsonPolicyBookStorage(userPrefs.getPolicyBookFilePath());
+        }
         UserProfileStorage userProfileStorage = new JsonUserProfileStorage(userPrefs.getUserProfileFilePath());
         storage = new StorageManager(addressBookStorage, policyBookStorage, userPrefsStorage, userProfileStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        // The persons are loaded while the window is shown, rather than before
+        loader = new StagedAddressBookLoader(storage, model, Platform::runLater);
+        loader.start();
+
+        persistence = new WriteBehindPersistence(storage, model);
+        logic = new LogicManager(model, storage, persistence, loader);
 
-        ui = new UiManager(logic);
+        // The tasks are loaded once, in the background, and shared by every task manager window
+        logger.info("Using task list file : " + userPrefs.getTaskListFilePath());
+        taskManager = TaskManager.loadAsync(userPrefs.getTaskListFilePath());
+
+        ui = new UiManager(logic, taskManager);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s
-     * address book and premium book and {@code userPrefs}.
+     * Returns a {@code ModelManager} with the data from {@code storage}'s premium book and {@code userPrefs},
+     * and an empty address book to be filled by the {@code StagedAddressBookLoader}.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
         logger.info("Using premium data file : " + storage.getPolicyBookFilePath());
         logger.info("Using profile data file : " + storage.getUserProfileFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
         Optional<ReadOnlyPolicyBook> policyBookOptional;
         Optional<UserProfile> userProfileOptional;
-        ReadOnlyAddressBook initialAddressBookData;
         ReadOnlyPolicyBook initialPolicyBookData;
         UserProfile initialUserProfileData;
 
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialAddressBookData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialAddressBookData = new AddressBook();
-        }
-
         try {
             policyBookOptional = storage.readPolicyBook();
             if (!policyBookOptional.isPresent()) {
@@ -132,7 +146,7 @@ public class MainApp extends Application {
             initialUserProfileData = new UserProfile();
         }
 
-        return new ModelManager(initialAddressBookData, initialPolicyBookData, userPrefs,
+        return new ModelManager(new AddressBook(), initialPolicyBookData, userPrefs,
                 initialUserProfileData, storage);
     }
 
@@ -215,15 +229,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ClientNest" + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Ready for input " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartNanos)
+                + " ms after starting");
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ClientNest ] =============================");
+        try {
+            persistence.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
-            storage.saveAddressBook(model.getAddressBook());
-            storage.savePolicyBook(model.getPolicyBook());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
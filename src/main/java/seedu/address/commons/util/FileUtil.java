@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -74,10 +83,116 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, 0);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but keeps the previous {@code backupGenerations} versions
+     * of the file as backups.
+     *
+     * @see #getBackupPath(Path, int)
+     */
+    public static void writeToFile(Path file, String content, int backupGenerations) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, outputStream -> outputStream.write(bytes), backupGenerations);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, keeping the previous
+     * {@code backupGenerations} versions of the file as backups.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * The content is first written to a temporary file in the same directory and forced to the disk, which
+     * then atomically replaces the file. A crash at any point thus leaves either the old or the new content.
+     *
+     * @see #getBackupPath(Path, int)
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int backupGenerations)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+            rotateBackups(file, backupGenerations);
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} versions old,
+     * where generation 1 is the version written just before the current one.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Shifts each backup of {@code file} one generation back and makes the current version of {@code file}
+     * the newest backup, discarding the oldest one.
+     */
+    private static void rotateBackups(Path file, int backupGenerations) throws IOException {
+        if (backupGenerations <= 0 || !isFileExists(file)) {
+            return;
+        }
+        for (int generation = backupGenerations - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // A hard link keeps the current version in place until it is replaced, without copying its content
+        Path newestBackup = getBackupPath(file, 1);
+        Files.deleteIfExists(newestBackup);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.move(file, newestBackup);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk so that a completed move survives a crash.
+     * Not all platforms allow directories to be opened, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move has already been made and is flushed by the file system in due course
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code outputStream}, without closing it.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +12,17 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -85,12 +94,126 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but keeps the previous {@code backupGenerations} versions
+     * of the file as backups.
+     *
+     * @see FileUtil#getBackupPath(Path, int)
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int backupGenerations) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        FileUtil.writeToFile(filePath, toJsonString(jsonFile), backupGenerations);
+    }
+
+    /**
+     * Reads the elements of the array stored in the {@code arrayFieldName} field of the JSON object in the given
+     * file one at a time, passing each element to {@code elementHandler} as soon as it has been read.
+     * Other fields of the object are skipped. The file must exist.
+     *
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @throws IOException if the file could not be read or does not contain such an array.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> void readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireNonNull(elementHandler);
+        NumberedElementHandler<T> numberedHandler = (element, lineNumber) -> elementHandler.handle(element);
+        readNumberedJsonArrayFile(filePath, arrayFieldName, elementClass, numberedHandler);
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}, but also passes the line of
+     * the file on which each element starts to {@code elementHandler}.
+     */
+    public static <T> void readNumberedJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            NumberedElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        try (InputStream inputStream = Files.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected a JSON object in " + filePath);
+            }
+
+            boolean isArrayFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw JsonMappingException.from(parser, "Expected an array in field " + arrayFieldName);
+                }
+
+                isArrayFound = true;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    int lineNumber = parser.getTokenLocation().getLineNr();
+                    T element = objectMapper.readValue(parser, elementClass);
+                    if (element == null) {
+                        throw JsonMappingException.from(parser, "Unexpected null in field " + arrayFieldName);
+                    }
+                    elementHandler.handle(element, lineNumber);
+                }
+            }
+
+            if (!isArrayFound) {
+                throw JsonMappingException.from(parser, "Missing field " + arrayFieldName + " in " + filePath);
+            }
+        }
+    }
+
+    /**
+     * Saves a JSON object whose only field, {@code arrayFieldName}, is an array of the given elements.
+     * Elements are written one at a time as they are taken from {@code elements}, in the same format as
+     * {@link #saveJsonFile(Object, Path)}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements)
+            throws IOException {
+        saveJsonArrayFile(filePath, arrayFieldName, elements, 0);
     }
 
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, String, Iterable)}, but keeps the previous
+     * {@code backupGenerations} versions of the file as backups.
+     *
+     * @see FileUtil#getBackupPath(Path, int)
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements,
+            int backupGenerations) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        // Flushing after each element would write to the file once per element, defeating the buffering
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeToFile(filePath, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.setPrettyPrinter(new DefaultPrettyPrinter());
+                generator.writeStartObject();
+                generator.writeFieldName(arrayFieldName);
+                generator.writeStartArray();
+                for (T element : elements) {
+                    elementWriter.writeValue(generator, element);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, backupGenerations);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +234,33 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles the elements read by {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Handles the elements read by {@link #readNumberedJsonArrayFile(Path, String, Class, NumberedElementHandler)}
+     * along with the line on which each element starts.
+     */
+    @FunctionalInterface
+    public interface NumberedElementHandler<T> {
+        void handle(T element, int lineNumber) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
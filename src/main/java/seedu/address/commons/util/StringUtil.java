@@ -38,6 +38,21 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code value} with each character folded to a common case, such that two strings are equal
+     * ignoring case (by {@link String#equalsIgnoreCase(String)}) if and only if their folded forms are equal.
+     * @param value cannot be null
+     */
+    public static String foldCase(String value) {
+        requireNonNull(value);
+
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
@@ -12,6 +15,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.stats.PortfolioStatistics;
 
 /**
  * API of the Logic component
@@ -26,6 +30,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the given commands as a single command, after parsing all of them.
+     * Either all the commands take effect, or none of them do, and the data is saved once at the end.
+     * @param commandTexts The commands as entered by the user, one per line.
+     * @return the result of the batch, with the result of each command on its own line.
+     * @throws CommandException If an error occurs during the execution of any of the commands.
+     * @throws ParseException If an error occurs during the parsing of any of the commands.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -66,6 +80,11 @@ public interface Logic {
      */
     UserProfile getUserProfile();
 
+    /**
+     * Returns an observable view of the user profile.
+     */
+    ObservableValue<UserProfile> getObservableUserProfile();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -77,7 +96,23 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns the list of persons with upcoming birthdays in the next 30 days.
+     * Returns an unmodifiable view of the list of persons with upcoming birthdays, which is updated in place.
      */
     ObservableList<Person> getUpcomingBirthdays();
+
+    /**
+     * Moves the list of upcoming birthdays forward to today's date.
+     */
+    void updateUpcomingBirthdays();
+
+    /**
+     * Returns the counts and premium totals of the portfolio, which are updated in place.
+     */
+    PortfolioStatistics getPortfolioStatistics();
+
+    /**
+     * Returns the fraction of the persons that have been loaded from storage, which is updated in place, or a
+     * negative value while the number of persons to load is not yet known.
+     */
+    ReadOnlyDoubleProperty getLoadingProgress();
 }
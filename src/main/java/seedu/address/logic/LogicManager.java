@@ -3,12 +3,19 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.user.UserProfile;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,7 +26,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.stats.PortfolioStatistics;
+import seedu.address.storage.StagedAddressBookLoader;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindPersistence;
 
 /**
  * The main LogicManager of the app.
@@ -30,32 +40,98 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final ReadOnlyDoubleProperty LOADED = new ReadOnlyDoubleWrapper(1).getReadOnlyProperty();
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final ClientNestParser clientNestParser;
+    private final WriteBehindPersistence persistence;
+    private final StagedAddressBookLoader loader;
+
+    private boolean isAddressBookModified;
+    private boolean isPolicyBookModified;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves modified data synchronously after each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that hands modified data to {@code persistence} to be saved in the background.
+     * If {@code persistence} is null, modified data is saved synchronously after each command.
+     * Commands are executed while holding the lock on {@code model}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindPersistence persistence) {
+        this(model, storage, persistence, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, WriteBehindPersistence)}
+     * whose persons are still being loaded by {@code loader}. Commands that require all persons wait for them
+     * to be loaded. If {@code loader} is null, all persons are taken to be loaded already.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindPersistence persistence,
+                        StagedAddressBookLoader loader) {
         this.model = model;
         this.storage = storage;
+        this.persistence = persistence;
+        this.loader = loader;
         clientNestParser = new ClientNestParser();
+
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            // Persons being loaded are already in storage
+            if (loader == null || loader.isLoaded()) {
+                isAddressBookModified = true;
+            }
+        });
+        model.getPolicyBook().getPolicyList().addListener((ListChangeListener<Policy>) change ->
+                isPolicyBookModified = true);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        return executeAndSave(clientNestParser.parseCommand(commandText), commandText);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " lines]");
+
+        return executeAndSave(clientNestParser.parseBatch(commandTexts),
+                BatchCommand.COMMAND_WORD + " (" + commandTexts.size() + " lines)");
+    }
+
+    /**
+     * Executes {@code command} against the model and saves the books it modified.
+     * The changes made by the command are committed to the model's history as one step described by
+     * {@code description}, or reverted if the command fails.
+     */
+    private CommandResult executeAndSave(Command command, String description) throws CommandException {
+        if (loader != null && command.requiresAllPersons()) {
+            loader.awaitLoaded();
+        }
+
         CommandResult commandResult;
-        Command command = clientNestParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        synchronized (model) {
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.discardUncommittedChanges();
+                throw e;
+            }
+            model.commitChanges(description);
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.savePolicyBook(model.getPolicyBook());
+            saveModifiedBooks();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -65,6 +141,40 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the books modified since the last save, or schedules them to be saved if a
+     * {@code WriteBehindPersistence} is in use.
+     *
+     * @throws IOException if saving failed, or if an earlier background save has failed.
+     */
+    private void saveModifiedBooks() throws IOException {
+        if (persistence == null) {
+            if (isAddressBookModified) {
+                storage.saveAddressBook(model.getAddressBook());
+                isAddressBookModified = false;
+            }
+            if (isPolicyBookModified) {
+                storage.savePolicyBook(model.getPolicyBook());
+                isPolicyBookModified = false;
+            }
+            return;
+        }
+
+        if (isAddressBookModified) {
+            persistence.markAddressBookDirty(model.getAddressBook());
+            isAddressBookModified = false;
+        }
+        if (isPolicyBookModified) {
+            persistence.markPolicyBookDirty(model.getPolicyBook());
+            isPolicyBookModified = false;
+        }
+
+        Optional<IOException> failure = persistence.pollFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -105,6 +215,11 @@ public class LogicManager implements Logic {
         return model.getUserProfile();
     }
 
+    @Override
+    public ObservableValue<UserProfile> getObservableUserProfile() {
+        return model.getObservableUserProfile();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -119,4 +234,19 @@ public class LogicManager implements Logic {
     public ObservableList<Person> getUpcomingBirthdays() {
         return model.getUpcomingBirthdays();
     }
+
+    @Override
+    public void updateUpcomingBirthdays() {
+        model.updateUpcomingBirthdays();
+    }
+
+    @Override
+    public PortfolioStatistics getPortfolioStatistics() {
+        return model.getPortfolioStatistics();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty getLoadingProgress() {
+        return loader == null ? LOADED : loader.progressProperty();
+    }
 }
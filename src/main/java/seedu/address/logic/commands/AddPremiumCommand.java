@@ -121,8 +121,7 @@ public class AddPremiumCommand extends Command {
         Address address = personToEdit.getAddress();
         Birthday birthday = personToEdit.getBirthday();
         Set<Tag> tagList = personToEdit.getTags();
-        PremiumList premiumList = personToEdit.getPremiumList();
-        premiumList.addAll(premiumListToAdd);
+        PremiumList premiumList = personToEdit.getPremiumList().withAll(premiumListToAdd);
 
         return new Person(name, phone, email, address, birthday, premiumList, tagList);
     }
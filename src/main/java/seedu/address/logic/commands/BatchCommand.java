@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes a script of commands, one per line, as a single command.
+ *
+ * Either all the commands succeed, or the address book and policy book are restored to how they were
+ * before the first command, so a script is never left half done. Since the batch is a single command, the
+ * books are saved once after all its commands, rather than after each of them, and it is undone as a whole.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Executes the commands in a script file, "
+            + "one per line, undoing all of them if any of them fails.\n"
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped. "
+            + "The help, exit, profile, export, undo, redo and batch commands cannot be used in a script.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/campaign.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands";
+    public static final String MESSAGE_LINE_RESULT = "Line %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d failed, so no commands were executed: %2$s";
+    public static final String MESSAGE_EMPTY = "There are no commands to execute";
+    public static final String MESSAGE_NOT_BATCHABLE = "The %1$s command cannot be used in a batch";
+
+    private final SortedMap<Integer, Command> commandsByLine;
+
+    /**
+     * Creates a BatchCommand that executes {@code commandsByLine} in the order of their line numbers.
+     * None of the commands may be one that cannot be batched, as checked by {@link #isBatchable(Command)}.
+     */
+    public BatchCommand(Map<Integer, Command> commandsByLine) {
+        requireNonNull(commandsByLine);
+        this.commandsByLine = new TreeMap<>(commandsByLine);
+        this.commandsByLine.values().forEach(command -> {
+            if (!isBatchable(command)) {
+                throw new IllegalArgumentException("Command cannot be batched: " + command);
+            }
+        });
+    }
+
+    /**
+     * Returns true if {@code command} can be executed in a batch. Commands that act on the UI, or that change
+     * data outside the address book and policy book, such as exporting to a file, could not be undone if the
+     * batch fails. Undo and redo change the books without recording it, so they could not be undone either.
+     */
+    public static boolean isBatchable(Command command) {
+        requireNonNull(command);
+        return !(command instanceof HelpCommand || command instanceof ExitCommand
+                || command instanceof ProfileCommand || command instanceof ExportCommand
+                || command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof BatchCommand);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        StringBuilder results = new StringBuilder(String.format(MESSAGE_SUCCESS, commandsByLine.size()));
+        boolean isCompleted = false;
+        int lineNumber = 0;
+        try {
+            for (Map.Entry<Integer, Command> entry : commandsByLine.entrySet()) {
+                lineNumber = entry.getKey();
+                CommandResult result = entry.getValue().execute(model);
+                results.append("\n").append(String.format(MESSAGE_LINE_RESULT, lineNumber,
+                        result.getFeedbackToUser()));
+            }
+            isCompleted = true;
+        } catch (CommandException ce) {
+            throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumber, ce.getMessage()), ce);
+        } finally {
+            if (!isCompleted) {
+                // Changes are committed after each command, so the uncommitted changes are this batch's
+                model.discardUncommittedChanges();
+            }
+        }
+        return new CommandResult(results.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commandsByLine.equals(otherBatchCommand.commandsByLine);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandsByLine", commandsByLine)
+                .toString();
+    }
+}
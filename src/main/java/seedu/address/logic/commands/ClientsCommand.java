@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.HoldsPremiumPredicate;
+import seedu.address.model.person.PremiumHolders;
+
+/**
+ * Lists the clients holding a premium of a policy, along with the total premium they pay.
+ * Without a premium name, summarises the clients and total premium of every policy instead.
+ */
+public class ClientsCommand extends Command {
+
+    public static final String COMMAND_WORD = "clients";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the clients holding a premium of the "
+            + "specified policy (case-insensitive) and the total premium they pay.\n"
+            + "Without a policy name, shows the number of clients and total premium of every policy.\n"
+            + "Parameters: [PREMIUM_NAME]\n"
+            + "Example: " + COMMAND_WORD + " LifeShield";
+
+    public static final String MESSAGE_CLIENTS_LISTED = "Listed %1$d clients holding %2$s, paying $%3$d in total";
+    public static final String MESSAGE_PREMIUM_SUMMARY = "%1$s: %2$d clients, $%3$d in total";
+    public static final String MESSAGE_SUMMARY_HEADER = "Clients per policy:";
+    public static final String MESSAGE_NO_PREMIUMS = "No client holds any premium";
+
+    private final HoldsPremiumPredicate predicate;
+
+    /**
+     * Creates a ClientsCommand that summarises the clients of every policy.
+     */
+    public ClientsCommand() {
+        this.predicate = null;
+    }
+
+    /**
+     * Creates a ClientsCommand that lists the clients matching {@code predicate}.
+     */
+    public ClientsCommand(HoldsPremiumPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (predicate == null) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(formatSummary(model.getAllPremiumHolders()));
+        }
+
+        PremiumHolders holders = model.getPremiumHolders(predicate.getPremiumName());
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(String.format(MESSAGE_CLIENTS_LISTED,
+                holders.getHolders().size(), holders.getPremiumName(), holders.getTotalAmount()));
+    }
+
+    /**
+     * Returns one line per policy with its number of clients and total premium.
+     */
+    private static String formatSummary(List<PremiumHolders> allHolders) {
+        if (allHolders.isEmpty()) {
+            return MESSAGE_NO_PREMIUMS;
+        }
+        StringBuilder builder = new StringBuilder(MESSAGE_SUMMARY_HEADER);
+        for (PremiumHolders holders : allHolders) {
+            builder.append("\n").append(String.format(MESSAGE_PREMIUM_SUMMARY,
+                    holders.getPremiumName(), holders.getHolders().size(), holders.getTotalAmount()));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClientsCommand)) {
+            return false;
+        }
+
+        ClientsCommand otherClientsCommand = (ClientsCommand) other;
+        return Objects.equals(predicate, otherClientsCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if all persons must have been loaded from storage before this command is executed.
+     * Commands that neither read nor change the persons can be executed while they are still loading.
+     */
+    public boolean requiresAllPersons() {
+        return true;
+    }
+
 }
@@ -93,11 +93,11 @@ public class DeletePremiumCommand extends Command {
     private Person deletePremium(Person premiumToDelete) throws ParseException {
         PremiumList premiumListToChange = premiumToDelete.getPremiumList();
 
-        for (Premium p : premiumList.premiumList) {
+        for (Premium p : premiumList.getPremiums()) {
             if (!premiumListToChange.contains(p)) {
                 throw new ParseException(String.format(MESSAGE_INVALID_PREMIUM_NAME, MESSAGE_USAGE));
             }
-            premiumListToChange.remove(p);
+            premiumListToChange = premiumListToChange.without(p);
         }
 
         return new Person(premiumToDelete.getName(), premiumToDelete.getPhone(), premiumToDelete.getEmail(),
@@ -129,15 +129,16 @@ public class EditPremiumCommand extends Command {
      * @param premiumList The premiums to replace with
      */
     private static PremiumList editPremium(Person personToEdit, PremiumList premiumList) {
-        for (Premium premium : premiumList.premiumList) {
-            personToEdit.getPremiumList().replace(premium);
+        PremiumList editedPremiumList = personToEdit.getPremiumList();
+        for (Premium premium : premiumList.getPremiums()) {
+            editedPremiumList = editedPremiumList.withReplaced(premium);
         }
 
-        return personToEdit.getPremiumList();
+        return editedPremiumList;
     }
 
     private static boolean validPremium(Person personToEdit, PremiumList premiumList) {
-        for (Premium premium : premiumList.premiumList) {
+        for (Premium premium : premiumList.getPremiums()) {
             if (!personToEdit.getPremiumList().contains(premium)) {
                 return false;
             }
@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+import seedu.address.storage.PersonExportWriter;
+
+/**
+ * Writes the displayed persons, or all persons, to a CSV or NDJSON file, optionally joined with the policy of
+ * each of their premiums.
+ *
+ * The file is written on a background thread from a snapshot of the persons taken when the command is
+ * executed, so later commands neither wait for the export nor change what it writes.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String KEYWORD_ALL = "all";
+    public static final String KEYWORD_POLICIES = "policies";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the persons in the displayed person list "
+            + "to a CSV or NDJSON file.\n"
+            + "With '" + KEYWORD_ALL + "', writes all persons instead. With '" + KEYWORD_POLICIES + "', "
+            + "adds the policy of each premium.\n"
+            + "Parameters: [" + KEYWORD_ALL + "] [" + KEYWORD_POLICIES + "] FILE_PATH (must end with "
+            + PersonExportWriter.CSV_EXTENSION + ", " + String.join(" or ", PersonExportWriter.NDJSON_EXTENSIONS)
+            + ")\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL + " " + KEYWORD_POLICIES + " data/clients.csv";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d persons to %2$s";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    // A single thread, so that exports to the same file are written in the order they were requested
+    private static final Executor BACKGROUND_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final boolean isAllPersons;
+    private final boolean isWithPolicies;
+    private final Executor executor;
+
+    /**
+     * Creates an ExportCommand that writes to {@code filePath} in the background.
+     */
+    public ExportCommand(Path filePath, boolean isAllPersons, boolean isWithPolicies) {
+        this(filePath, isAllPersons, isWithPolicies, BACKGROUND_WRITER);
+    }
+
+    /**
+     * Creates an ExportCommand that writes to {@code filePath} using {@code executor}.
+     */
+    public ExportCommand(Path filePath, boolean isAllPersons, boolean isWithPolicies, Executor executor) {
+        requireNonNull(filePath);
+        requireNonNull(executor);
+        this.filePath = filePath;
+        this.isAllPersons = isAllPersons;
+        this.isWithPolicies = isWithPolicies;
+        this.executor = executor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // Persons and policies are immutable, so copying the lists is enough to keep the snapshot unchanged
+        List<Person> persons = List.copyOf(isAllPersons
+                ? model.getAddressBook().getPersonList()
+                : model.getFilteredPersonList());
+        Optional<List<Policy>> policies = isWithPolicies
+                ? Optional.of(List.copyOf(model.getPolicyBook().getPolicyList()))
+                : Optional.empty();
+        PersonExportWriter writer = new PersonExportWriter(filePath, policies);
+
+        CompletableFuture<String> export = CompletableFuture.supplyAsync(() -> {
+            try {
+                writer.write(persons, filePath);
+                return String.format(MESSAGE_SUCCESS, persons.size(), filePath);
+            } catch (IOException | RuntimeException e) {
+                // Jackson reports some write errors as unchecked exceptions, which would otherwise be lost
+                logger.warning("Error exporting to file " + filePath + ": " + e);
+                return String.format(MESSAGE_FAILED, filePath, e.getMessage());
+            }
+        }, executor);
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath), export);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && isAllPersons == otherExportCommand.isAllPersons
+                && isWithPolicies == otherExportCommand.isWithPolicies;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("isAllPersons", isAllPersons)
+                .add("isWithPolicies", isWithPolicies)
+                .toString();
+    }
+}
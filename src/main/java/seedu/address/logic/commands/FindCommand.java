@@ -2,13 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * or who match all of the fields given.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -16,13 +19,18 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-insensitive), and who match all of the specified fields, "
+            + "and displays them as a list with index numbers.\n"
+            + "A field may be repeated to match any of its values. Birthdays and premium amounts may be given "
+            + "as ranges FROM..TO, where either end may be left out.\n"
+            + "Parameters: [KEYWORD]... [n/NAME_KEYWORD]... [p/PHONE]... [e/EMAIL]... [a/ADDRESS_PART]... "
+            + "[t/TAG]... [b/BIRTHDAY or b/FROM..TO]... [pr/PREMIUM_NAME or pr/FROM..TO]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " t/friends b/1990-01-01..1999-12-31 pr/1000..";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
@@ -34,6 +34,11 @@ public class FindPolicyCommand extends Command {
                 String.format(Messages.MESSAGE_POLICIES_LISTED_OVERVIEW, model.getFilteredPolicyList().size()));
     }
 
+    @Override
+    public boolean requiresAllPersons() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
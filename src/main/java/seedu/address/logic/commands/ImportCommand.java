@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ImportRowParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.storage.ImportRow;
+import seedu.address.storage.PersonImportReader;
+
+/**
+ * Adds the persons listed in a CSV or JSON file to the address book.
+ *
+ * Rows are validated in parallel, and rows that are invalid or duplicate a person in the address book or an
+ * earlier row are rejected by line number. The rest are added in a single change, so they are saved once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons listed in a CSV or JSON file "
+            + "to the address book.\n"
+            + "A CSV file must start with a header with the columns name, phone, email, address and birthday, "
+            + "and may have the columns premiums and tags.\n"
+            + "Parameters: FILE_PATH (must end with " + PersonImportReader.CSV_EXTENSION + " or "
+            + PersonImportReader.JSON_EXTENSION + ")\n"
+            + "Example: " + COMMAND_WORD + " data/clients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_REJECTED = "Rejected %1$d rows:";
+    public static final String MESSAGE_REJECTED_ROW = "  Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED = "  ...and %1$d more";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "This person is already listed earlier in the file";
+    public static final int MAX_REJECTED_SHOWN = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the persons in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<ImportRow> rows;
+        try {
+            rows = PersonImportReader.read(filePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getCause().getMessage()), e);
+        }
+
+        // Parsing a row touches no shared state, so rows are validated in parallel, keeping their order
+        List<ParsedRow> parsedRows = rows.parallelStream()
+                .map(ParsedRow::of)
+                .collect(Collectors.toList());
+
+        UniquePersonList toAdd = new UniquePersonList();
+        List<String> rejections = new ArrayList<>();
+        for (ParsedRow parsedRow : parsedRows) {
+            String rejection = parsedRow.error;
+            if (rejection == null && model.hasPerson(parsedRow.person)) {
+                rejection = AddCommand.MESSAGE_DUPLICATE_PERSON;
+            } else if (rejection == null && toAdd.contains(parsedRow.person)) {
+                rejection = MESSAGE_DUPLICATE_IN_FILE;
+            }
+
+            if (rejection == null) {
+                toAdd.add(parsedRow.person);
+            } else {
+                rejections.add(String.format(MESSAGE_REJECTED_ROW, parsedRow.lineNumber, rejection));
+            }
+        }
+
+        List<Person> persons = new ArrayList<>(toAdd.asUnmodifiableObservableList());
+        if (!persons.isEmpty()) {
+            model.addPersons(persons);
+        }
+        return new CommandResult(formatResult(persons.size(), rejections));
+    }
+
+    private String formatResult(int importedCount, List<String> rejections) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, filePath));
+        if (rejections.isEmpty()) {
+            return builder.toString();
+        }
+
+        builder.append("\n").append(String.format(MESSAGE_REJECTED, rejections.size()));
+        for (String rejection : rejections.subList(0, Math.min(rejections.size(), MAX_REJECTED_SHOWN))) {
+            builder.append("\n").append(rejection);
+        }
+        if (rejections.size() > MAX_REJECTED_SHOWN) {
+            builder.append("\n").append(String.format(MESSAGE_MORE_REJECTED,
+                    rejections.size() - MAX_REJECTED_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The result of validating one row: either the person it describes or the reason it is invalid.
+     */
+    private static class ParsedRow {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        private ParsedRow(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        static ParsedRow of(ImportRow row) {
+            try {
+                return new ParsedRow(row.getLineNumber(), ImportRowParser.parse(row), null);
+            } catch (ParseException pe) {
+                return new ParsedRow(row.getLineNumber(), null, pe.getMessage());
+            }
+        }
+    }
+}
@@ -23,4 +23,9 @@ public class ListPolicyCommand extends Command {
         model.updateFilteredPolicyList(PREDICATE_SHOW_ALL_POLICIES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean requiresAllPersons() {
+        return false;
+    }
 }
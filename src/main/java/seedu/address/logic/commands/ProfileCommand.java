@@ -59,6 +59,11 @@ public class ProfileCommand extends Command {
         return new CommandResult(messageProfileEditSuccess);
     }
 
+    @Override
+    public boolean requiresAllPersons() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
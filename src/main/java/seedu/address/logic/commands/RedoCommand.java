@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the latest command undone by {@link UndoCommand}.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redoes the latest undone command.\n"
+            + "There should not be any arguments.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no command to redo";
+    public static final String MESSAGE_UNCOMMITTED_CHANGES = "Cannot redo while a command is still making changes";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        try {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, model.redo()));
+        } catch (IllegalStateException ise) {
+            // History cannot be moved while a command that has not finished, such as a batch, is making changes
+            throw new CommandException(MESSAGE_UNCOMMITTED_CHANGES, ise);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.stats.PortfolioStatistics;
+import seedu.address.model.stats.PremiumAggregate;
+
+/**
+ * Shows the number of clients and premiums in the portfolio and the total premium they pay,
+ * broken down by provider company, tag and policy.
+ * With an index, shows the premiums of the client identified by the index instead.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of clients and premiums and "
+            + "the total premium they pay, by provider company, tag and policy.\n"
+            + "With an index, shows the premiums of the client identified by the index number used in the "
+            + "displayed person list.\n"
+            + "Parameters: [INDEX (must be a positive integer)]\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_PORTFOLIO = "%1$d clients holding %2$d premiums, paying $%3$d in total";
+    public static final String MESSAGE_CLIENT = "%1$s holds %2$d premiums, paying $%3$d in total";
+    public static final String MESSAGE_GROUP = "  %1$s: %2$d, $%3$d";
+    public static final String MESSAGE_BY_PROVIDER = "Premiums by provider:";
+    public static final String MESSAGE_BY_TAG = "Clients by tag:";
+    public static final String MESSAGE_BY_POLICY = "Premiums by policy:";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates a StatsCommand that shows the statistics of the whole portfolio.
+     */
+    public StatsCommand() {
+        this.targetIndex = null;
+    }
+
+    /**
+     * Creates a StatsCommand that shows the statistics of the client at {@code targetIndex}.
+     */
+    public StatsCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (targetIndex == null) {
+            return new CommandResult(formatPortfolio(model.getPortfolioStatistics()));
+        }
+
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        PremiumAggregate client = PortfolioStatistics.getClientAggregate(
+                lastShownList.get(targetIndex.getZeroBased()));
+        return new CommandResult(String.format(MESSAGE_CLIENT, client.getName(), client.getCount(),
+                client.getTotal()));
+    }
+
+    /**
+     * Returns the portfolio totals followed by one section per grouping, skipping empty groupings.
+     */
+    private static String formatPortfolio(PortfolioStatistics statistics) {
+        PremiumAggregate portfolio = statistics.getPortfolio();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_PORTFOLIO,
+                statistics.getClientCount(), portfolio.getCount(), portfolio.getTotal()));
+
+        if (!statistics.getByProvider().isEmpty() || !statistics.getUnlisted().isEmpty()) {
+            builder.append("\n").append(MESSAGE_BY_PROVIDER);
+            appendGroups(builder, statistics.getByProvider());
+            if (!statistics.getUnlisted().isEmpty()) {
+                appendGroup(builder, statistics.getUnlisted());
+            }
+        }
+        if (!statistics.getByTag().isEmpty()) {
+            builder.append("\n").append(MESSAGE_BY_TAG);
+            appendGroups(builder, statistics.getByTag());
+        }
+        if (!statistics.getByPremium().isEmpty()) {
+            builder.append("\n").append(MESSAGE_BY_POLICY);
+            appendGroups(builder, statistics.getByPremium());
+        }
+        return builder.toString();
+    }
+
+    private static void appendGroups(StringBuilder builder, Map<String, PremiumAggregate> groups) {
+        for (PremiumAggregate group : groups.values()) {
+            appendGroup(builder, group);
+        }
+    }
+
+    private static void appendGroup(StringBuilder builder, PremiumAggregate group) {
+        builder.append("\n").append(String.format(MESSAGE_GROUP, group.getName(), group.getCount(),
+                group.getTotal()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return Objects.equals(targetIndex, otherStatsCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the latest command that changed the address book or policy book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the latest command that changed the persons or policies.\n"
+            + "There should not be any arguments.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no command to undo";
+    public static final String MESSAGE_UNCOMMITTED_CHANGES = "Cannot undo while a command is still making changes";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        try {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, model.undo()));
+        } catch (IllegalStateException ise) {
+            // History cannot be moved while a command that has not finished, such as a batch, is making changes
+            throw new CommandException(MESSAGE_UNCOMMITTED_CHANGES, ise);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object from the script file they name.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    private final ClientNestParser clientNestParser;
+
+    /**
+     * Creates a BatchCommandParser that parses the lines of a script with {@code clientNestParser}.
+     */
+    public BatchCommandParser(ClientNestParser clientNestParser) {
+        requireNonNull(clientNestParser);
+        this.clientNestParser = clientNestParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * All commands in the script are parsed before any of them is executed.
+     * @throws ParseException if the user input does not conform to the expected format,
+     *     or if the script cannot be read or any of its commands cannot be parsed.
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE), ipe);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_READ_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return clientNestParser.parseBatch(lines);
+    }
+}
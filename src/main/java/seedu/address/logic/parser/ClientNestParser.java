@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -11,7 +14,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddPolicyCommand;
 import seedu.address.logic.commands.AddPremiumCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClientsCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeletePolicyCommand;
@@ -20,12 +25,17 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditPolicyCommand;
 import seedu.address.logic.commands.EditPremiumCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindPolicyCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListPolicyCommand;
 import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -88,6 +98,15 @@ public class ClientNestParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             if (arguments.isEmpty()) {
                 return new ListCommand();
@@ -95,6 +114,20 @@ public class ClientNestParser {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
             }
 
+        case UndoCommand.COMMAND_WORD:
+            if (arguments.isEmpty()) {
+                return new UndoCommand();
+            } else {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
+            }
+
+        case RedoCommand.COMMAND_WORD:
+            if (arguments.isEmpty()) {
+                return new RedoCommand();
+            } else {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+            }
+
         /* Premium */
         case AddPremiumCommand.COMMAND_WORD:
             return new AddPremiumCommandParser().parse(arguments);
@@ -105,6 +138,12 @@ public class ClientNestParser {
         case DeletePremiumCommand.COMMAND_WORD:
             return new DeletePremiumCommandParser().parse(arguments);
 
+        case ClientsCommand.COMMAND_WORD:
+            return new ClientsCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
         /* Policy */
         case AddPolicyCommand.COMMAND_WORD:
             return new AddPolicyCommandParser().parse(arguments);
@@ -132,4 +171,43 @@ public class ClientNestParser {
         }
     }
 
+    /**
+     * Parses the lines of a script into a single command that executes the command on each line.
+     * Blank lines and lines starting with {@link BatchCommand#COMMENT_MARKER} are skipped.
+     *
+     * @param lines the lines of the script, the first of which is line 1
+     * @return the command that executes the script
+     * @throws ParseException if any line does not conform the expected format or cannot be batched,
+     *     or if there are no commands
+     */
+    public BatchCommand parseBatch(List<String> lines) throws ParseException {
+        Map<Integer, Command> commandsByLine = new TreeMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            int lineNumber = i + 1;
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(BatchCommand.COMMENT_MARKER)) {
+                continue;
+            }
+
+            Command command;
+            try {
+                command = parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(BatchCommand.MESSAGE_LINE_RESULT, lineNumber,
+                        pe.getMessage()), pe);
+            }
+            if (!BatchCommand.isBatchable(command)) {
+                String commandWord = line.split("\\s+", 2)[0];
+                throw new ParseException(String.format(BatchCommand.MESSAGE_LINE_RESULT, lineNumber,
+                        String.format(BatchCommand.MESSAGE_NOT_BATCHABLE, commandWord)));
+            }
+            commandsByLine.put(lineNumber, command);
+        }
+
+        if (commandsByLine.isEmpty()) {
+            throw new ParseException(BatchCommand.MESSAGE_EMPTY);
+        }
+        return new BatchCommand(commandsByLine);
+    }
+
 }
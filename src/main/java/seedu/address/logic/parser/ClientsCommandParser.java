@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ClientsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HoldsPremiumPredicate;
+
+/**
+ * Parses input arguments and creates a new ClientsCommand object.
+ */
+public class ClientsCommandParser implements Parser<ClientsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ClientsCommand
+     * and returns a ClientsCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ClientsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ClientsCommand();
+        }
+
+        // Premium names cannot contain whitespace
+        if (trimmedArgs.split("\\s+").length != 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClientsCommand.MESSAGE_USAGE));
+        }
+
+        return new ClientsCommand(new HoldsPremiumPredicate(trimmedArgs));
+    }
+}
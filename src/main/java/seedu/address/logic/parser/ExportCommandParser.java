@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PersonExportWriter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * The keywords, if any, come before the file path, which may contain spaces.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        boolean isAllPersons = false;
+        boolean isWithPolicies = false;
+        String remainingArgs = args.trim();
+        while (true) {
+            String[] split = remainingArgs.split("\\s+", 2);
+            if (split.length < 2) {
+                break;
+            } else if (split[0].equalsIgnoreCase(ExportCommand.KEYWORD_ALL) && !isAllPersons) {
+                isAllPersons = true;
+            } else if (split[0].equalsIgnoreCase(ExportCommand.KEYWORD_POLICIES) && !isWithPolicies) {
+                isWithPolicies = true;
+            } else {
+                break;
+            }
+            remainingArgs = split[1];
+        }
+
+        if (remainingArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(remainingArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), ipe);
+        }
+        if (!PersonExportWriter.isSupported(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        return new ExportCommand(filePath, isAllPersons, isWithPolicies);
+    }
+}
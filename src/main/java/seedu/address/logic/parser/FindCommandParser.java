@@ -1,33 +1,191 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREMIUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Birthday;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.query.BirthdayCriterion;
+import seedu.address.model.person.query.Criterion;
+import seedu.address.model.person.query.KeywordCriterion;
+import seedu.address.model.person.query.PersonField;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.PremiumAmountCriterion;
+import seedu.address.model.util.Range;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String RANGE_SEPARATOR = "..";
+    public static final String MESSAGE_INVALID_DATE = "Birthdays to find should be of the format yyyy-MM-dd";
+    public static final String MESSAGE_INVALID_AMOUNT = "Premium amounts to find should be non-negative integers";
+    public static final String MESSAGE_UNBOUNDED_RANGE = "A range to find should have at least one end";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_TAG, PREFIX_BIRTHDAY, PREFIX_PREMIUM);
+
+        List<String> nameKeywords = splitKeywords(argMultimap.getPreamble());
+        if (isOnlyPreamble(argMultimap)) {
+            if (nameKeywords.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords));
+        }
+
+        for (String value : argMultimap.getAllValues(PREFIX_NAME)) {
+            nameKeywords.addAll(splitRequiredKeywords(value));
+        }
+
+        List<Criterion> criteria = new ArrayList<>();
+        addKeywordCriterion(criteria, PersonField.NAME, nameKeywords);
+        addKeywordCriterion(criteria, PersonField.PHONE, splitAllValues(argMultimap, PREFIX_PHONE));
+        addKeywordCriterion(criteria, PersonField.EMAIL, splitAllValues(argMultimap, PREFIX_EMAIL));
+        addKeywordCriterion(criteria, PersonField.ADDRESS, getAllWholeValues(argMultimap, PREFIX_ADDRESS));
+        addKeywordCriterion(criteria, PersonField.TAG, splitAllValues(argMultimap, PREFIX_TAG));
+
+        List<Range<LocalDate>> birthdayRanges = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(PREFIX_BIRTHDAY)) {
+            birthdayRanges.add(parseRange(value.trim(), FindCommandParser::parseDate));
+        }
+        if (!birthdayRanges.isEmpty()) {
+            criteria.add(new BirthdayCriterion(birthdayRanges));
+        }
+
+        // A premium value is either the name of a premium or a range of amounts
+        List<String> premiumNames = new ArrayList<>();
+        List<Range<Integer>> premiumAmountRanges = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(PREFIX_PREMIUM)) {
+            if (value.contains(RANGE_SEPARATOR)) {
+                premiumAmountRanges.add(parseRange(value.trim(), FindCommandParser::parseAmount));
+            } else {
+                premiumNames.addAll(splitRequiredKeywords(value));
+            }
+        }
+        addKeywordCriterion(criteria, PersonField.PREMIUM, premiumNames);
+        if (!premiumAmountRanges.isEmpty()) {
+            criteria.add(new PremiumAmountCriterion(premiumAmountRanges));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindCommand(new PersonQuery(criteria));
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static boolean isOnlyPreamble(ArgumentMultimap argMultimap) {
+        return Arrays.asList(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_BIRTHDAY,
+                PREFIX_PREMIUM).stream().allMatch(prefix -> argMultimap.getValue(prefix).isEmpty());
     }
 
+    private static void addKeywordCriterion(List<Criterion> criteria, PersonField field, List<String> keywords) {
+        if (!keywords.isEmpty()) {
+            criteria.add(new KeywordCriterion(field, keywords));
+        }
+    }
+
+    private static List<String> splitKeywords(String value) {
+        String trimmedValue = value.trim();
+        return trimmedValue.isEmpty() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(trimmedValue.split("\\s+")));
+    }
+
+    /**
+     * Splits {@code value} into keywords.
+     * @throws ParseException if {@code value} has no keywords.
+     */
+    private static List<String> splitRequiredKeywords(String value) throws ParseException {
+        List<String> keywords = splitKeywords(value);
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return keywords;
+    }
+
+    private static List<String> splitAllValues(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(prefix)) {
+            keywords.addAll(splitRequiredKeywords(value));
+        }
+        return keywords;
+    }
+
+    private static List<String> getAllWholeValues(ArgumentMultimap argMultimap, Prefix prefix)
+            throws ParseException {
+        List<String> values = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(prefix)) {
+            if (value.isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            values.add(value.trim());
+        }
+        return values;
+    }
+
+    /**
+     * Parses {@code value} of the form {@code FROM..TO}, where either end may be left out, or of a single
+     * {@code VALUE}, into a range.
+     * @throws ParseException if an end cannot be parsed, both ends are left out, or the range is reversed.
+     */
+    private static <K extends Comparable<? super K>> Range<K> parseRange(String value, BoundParser<K> boundParser)
+            throws ParseException {
+        int separatorIndex = value.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            return Range.of(boundParser.parse(value));
+        }
+
+        String from = value.substring(0, separatorIndex).trim();
+        String to = value.substring(separatorIndex + RANGE_SEPARATOR.length()).trim();
+        if (from.isEmpty() && to.isEmpty()) {
+            throw new ParseException(MESSAGE_UNBOUNDED_RANGE);
+        }
+        K fromBound = from.isEmpty() ? null : boundParser.parse(from);
+        K toBound = to.isEmpty() ? null : boundParser.parse(to);
+        if (fromBound != null && toBound != null && fromBound.compareTo(toBound) > 0) {
+            throw new ParseException(Range.MESSAGE_CONSTRAINTS);
+        }
+        return new Range<>(fromBound, toBound);
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date, Birthday.FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+    private static Integer parseAmount(String amount) throws ParseException {
+        String digits = amount.startsWith("$") ? amount.substring(1) : amount;
+        if (!digits.matches("\\d{1,9}")) {
+            throw new ParseException(MESSAGE_INVALID_AMOUNT);
+        }
+        return Integer.parseInt(digits);
+    }
+
+    /**
+     * Parses one end of a range.
+     */
+    @FunctionalInterface
+    private interface BoundParser<K> {
+        K parse(String bound) throws ParseException;
+    }
 }
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PremiumList;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.ImportRow;
+
+/**
+ * Parses the fields of an {@code ImportRow} into a {@code Person}, validating them as the add command does.
+ * Holds no state, so rows may be parsed concurrently.
+ */
+public class ImportRowParser {
+
+    public static final String MESSAGE_MISSING_FIELD = "The %1$s field is missing";
+
+    /**
+     * Parses {@code row} into a {@code Person}.
+     * @throws ParseException if a required field is missing or any field is invalid.
+     */
+    public static Person parse(ImportRow row) throws ParseException {
+        requireNonNull(row);
+        Name name = ParserUtil.parseName(requireField(row.getName(), "name"));
+        Phone phone = ParserUtil.parsePhone(requireField(row.getPhone(), "phone"));
+        Email email = ParserUtil.parseEmail(requireField(row.getEmail(), "email"));
+        Address address = ParserUtil.parseAddress(requireField(row.getAddress(), "address"));
+        Birthday birthday = ParserUtil.parseBirthday(requireField(row.getBirthday(), "birthday"));
+        PremiumList premiumList = ParserUtil.parsePremium(Optional.ofNullable(row.getPremiums())
+                .map(premiums -> premiums.trim().replaceAll("\\s+", " ")));
+        Set<Tag> tagList = ParserUtil.parseTags(row.getTags());
+
+        return new Person(name, phone, email, address, birthday, premiumList, tagList);
+    }
+
+    private static String requireField(String value, String fieldName) throws ParseException {
+        if (value == null || value.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, fieldName));
+        }
+        return value;
+    }
+}
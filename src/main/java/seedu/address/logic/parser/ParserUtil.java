@@ -2,8 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,7 +58,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.ofValidated(trimmedName);
     }
 
     /**
@@ -71,7 +73,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.ofValidated(trimmedPhone);
     }
 
     /**
@@ -86,7 +88,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.ofValidated(trimmedAddress);
     }
 
     /**
@@ -101,7 +103,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.ofValidated(trimmedEmail);
     }
 
     /**
@@ -131,7 +133,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.ofValidated(trimmedTag);
     }
 
     /**
@@ -155,7 +157,8 @@ public class ParserUtil {
      */
     public static PremiumList parsePremium(String string) throws ParseException {
         requireNonNull(string);
-        PremiumList premiumList = new PremiumList();
+        List<Premium> premiums = new ArrayList<>();
+        Set<String> premiumNames = new HashSet<>();
         String[] split = string.split(" ");
         if (split.length < 2) {
             throw new ParseException(Premium.MESSAGE_CONSTRAINTS);
@@ -163,17 +166,21 @@ public class ParserUtil {
         for (int i = 0, size = split.length; i < size; i = i + 2) {
             String premiumValue = split[i + 1].replace("$", "");
             try {
-                if (!Premium.isValidPremium(split[i], Integer.parseInt(premiumValue))) {
+                Integer premiumAmount = Integer.parseInt(premiumValue);
+                if (!Premium.isValidPremium(split[i], premiumAmount)) {
                     throw new ParseException(Premium.MESSAGE_CONSTRAINTS);
                 }
-                Premium premium = new Premium(split[i], Integer.parseInt(premiumValue));
-                premiumList.add(premium);
+                if (!premiumNames.add(split[i])) {
+                    throw new ParseException(String.format(PremiumList.MESSAGE_DUPLICATE_PREMIUM, split[i]));
+                }
+                Premium premium = Premium.ofValidated(split[i], premiumAmount);
+                premiums.add(premium);
             } catch (NumberFormatException e) {
                 throw new ParseException(Premium.MESSAGE_CONSTRAINTS);
             }
 
         }
-        return premiumList;
+        return new PremiumList(premiums);
     }
 
     /**
@@ -204,24 +211,24 @@ public class ParserUtil {
      */
     public static PremiumList parseDeletePremium(String string) throws ParseException {
         requireNonNull(string);
-        PremiumList premiumList = new PremiumList();
         String trimmedString = string.trim();
 
         // Return empty list if string is empty
         if (trimmedString.isEmpty()) {
-            return premiumList;
+            return new PremiumList();
         }
 
+        List<Premium> premiums = new ArrayList<>();
         String[] split = trimmedString.split("\\s+");
         for (int i = 0; i < split.length; i++) {
             if (!Premium.isValidPremium(split[i], 0)) {
                 throw new ParseException(Premium.MESSAGE_CONSTRAINTS);
             }
 
-            Premium premium = new Premium(split[i], 0);
-            premiumList.add(premium);
+            Premium premium = Premium.ofValidated(split[i], 0);
+            premiums.add(premium);
         }
-        return premiumList;
+        return new PremiumList(premiums);
     }
 
 
@@ -237,7 +244,7 @@ public class ParserUtil {
         if (!PolicyNumber.isValidPolicyNumber(trimmedPolicyNumber)) {
             throw new ParseException(PolicyNumber.MESSAGE_CONSTRAINTS);
         }
-        return new PolicyNumber(trimmedPolicyNumber);
+        return PolicyNumber.ofValidated(trimmedPolicyNumber);
     }
 
     /**
@@ -252,7 +259,7 @@ public class ParserUtil {
         if (!PolicyName.isValidPolicyName(trimmedPolicyName)) {
             throw new ParseException(PolicyName.MESSAGE_CONSTRAINTS);
         }
-        return new PolicyName(trimmedPolicyName);
+        return PolicyName.ofValidated(trimmedPolicyName);
     }
 
     /**
@@ -267,7 +274,7 @@ public class ParserUtil {
         if (!ProviderCompany.isValidProviderCompany(trimmedProviderCompany)) {
             throw new ParseException(ProviderCompany.MESSAGE_CONSTRAINTS);
         }
-        return new ProviderCompany(trimmedProviderCompany);
+        return ProviderCompany.ofValidated(trimmedProviderCompany);
     }
 
     /**
@@ -282,6 +289,6 @@ public class ParserUtil {
         if (!PolicyLink.isValidPolicyLink(trimmedPolicyLink)) {
             throw new ParseException(PolicyLink.MESSAGE_CONSTRAINTS);
         }
-        return new PolicyLink(trimmedPolicyLink);
+        return PolicyLink.ofValidated(trimmedPolicyLink);
     }
 }
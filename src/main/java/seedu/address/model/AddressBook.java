@@ -3,11 +3,20 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.HoldsPremiumPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PremiumHolders;
+import seedu.address.model.person.PremiumIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.query.PersonField;
+import seedu.address.model.person.query.PersonIndexes;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +25,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonIndexes personIndexes = new PersonIndexes();
+    private final PremiumIndex premiumIndex = new PremiumIndex();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +37,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+
+        // Registered before any other listener can be, so the indexes are up to date when they are notified
+        persons.asUnmodifiableObservableList().addListener(this::updatePersonIndexes);
+        persons.asUnmodifiableObservableList().addListener(this::updatePremiumIndex);
     }
 
     public AddressBook() {}
@@ -75,6 +90,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the address book in a single change.
+     * None of the persons may already exist in the address book or be the same person as another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +117,79 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Replaces the {@code count} persons starting at {@code index} with {@code replacements}.
+     * None of the replacements may be the same person as another of them, or as a person outside the
+     * replaced range.
+     */
+    public void replacePersons(int index, int count, List<Person> replacements) {
+        persons.replaceRange(index, count, replacements);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that finds the matching persons through the name index
+     * of this address book instead of testing each name.
+     */
+    public Predicate<Person> withNameIndex(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.usingIndex(personIndexes.getIndex(PersonField.NAME));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query} that finds the matching persons through the indexes
+     * of this address book, testing each person only against the criteria that are not indexed.
+     */
+    public Predicate<Person> withPersonIndexes(PersonQuery query) {
+        requireNonNull(query);
+        return query.usingIndexes(personIndexes);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that finds the matching persons through the premium
+     * index of this address book instead of testing each person's premiums.
+     */
+    public Predicate<Person> withPremiumIndex(HoldsPremiumPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.usingIndex(premiumIndex);
+    }
+
+    /**
+     * Returns the persons holding a premium named {@code premiumName}, ignoring case.
+     */
+    public PremiumHolders getPremiumHolders(String premiumName) {
+        requireNonNull(premiumName);
+        return premiumIndex.getHolders(premiumName);
+    }
+
+    /**
+     * Returns the holders of every premium held by at least one person, ordered by premium name.
+     */
+    public List<PremiumHolders> getAllPremiumHolders() {
+        return premiumIndex.getAllHolders();
+    }
+
+    private void updatePersonIndexes(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                personIndexes.remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                personIndexes.add(added);
+            }
+        }
+    }
+
+    private void updatePremiumIndex(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                premiumIndex.remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                premiumIndex.add(added);
+            }
+        }
+    }
+
     //// util methods
 
     @Override
@@ -2,13 +2,17 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PremiumHolders;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.stats.PortfolioStatistics;
 
 /**
  * The API of the Model component.
@@ -73,6 +77,11 @@ public interface Model {
     /** Returns the user profile. */
     UserProfile getUserProfile();
 
+    /**
+     * Returns an observable view of the user profile, which changes whenever a new profile is saved.
+     */
+    ObservableValue<UserProfile> getObservableUserProfile();
+
     /** Sets the user profile. */
     void setUserProfile(UserProfile currentProfile, UserProfile userProfile);
 
@@ -125,6 +134,19 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in a single change.
+     * None of the persons may already exist in the address book or be the same person as another of them.
+     */
+    void addPersons(List<Person> persons);
+
+    /**
+     * Adds {@code persons}, as read from storage, to the end of the address book in a single change.
+     * The change is not recorded in the history, so it cannot be undone, and the filter is left as it is.
+     * None of the persons may already exist in the address book or be the same person as another of them.
+     */
+    void loadPersons(List<Person> persons);
+
     // New method for Policy
     /**
      * Adds the given policy.
@@ -139,6 +161,19 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the address book holding a premium named {@code premiumName}, ignoring case,
+     * with the amount each of them pays and their total.
+     * Takes time proportional to the number of holders rather than the size of the address book.
+     */
+    PremiumHolders getPremiumHolders(String premiumName);
+
+    /**
+     * Returns the holders of every premium held by at least one person in the address book,
+     * ordered by premium name.
+     */
+    List<PremiumHolders> getAllPremiumHolders();
+
     // New method for Policy
     /**
      * Replaces the given policy {@code target} with {@code editedPolicy}.
@@ -167,9 +202,58 @@ public interface Model {
     void updateFilteredPolicyList(Predicate<Policy> predicate);
 
     /**
-     * Returns an unmodifiable view of the list of persons whose birthdays are within the next 30 days.
+     * Returns an unmodifiable view of the list of persons whose birthdays are within the upcoming birthday
+     * window, ordered by how soon their birthdays are.
+     * The list is kept up to date as persons change, and moves forward to a new day on
+     * {@link #updateUpcomingBirthdays()}.
      */
     ObservableList<Person> getUpcomingBirthdays();
 
+    /**
+     * Moves the list of upcoming birthdays forward to today's date.
+     * Does nothing if the date has not changed since the list was last updated.
+     */
     void updateUpcomingBirthdays();
+
+    /**
+     * Sets the number of days after today within which birthdays are upcoming.
+     * @throws IllegalArgumentException if {@code windowDays} is not a valid window.
+     */
+    void setUpcomingBirthdayWindow(int windowDays);
+
+    /**
+     * Returns the counts and premium totals of the persons in the address book, overall and by premium name,
+     * tag and provider company. The statistics are kept up to date as persons and policies change.
+     */
+    PortfolioStatistics getPortfolioStatistics();
+
+    /**
+     * Records the changes to the address book and policy book since the last commit as one step of history,
+     * described by {@code description}, and forgets the steps that were undone. Does nothing if there are no
+     * such changes.
+     */
+    void commitChanges(String description);
+
+    /**
+     * Reverts the changes to the address book and policy book since the last commit.
+     */
+    void discardUncommittedChanges();
+
+    /** Returns true if there is a committed step of history to undo. */
+    boolean canUndo();
+
+    /** Returns true if there is an undone step of history to redo. */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest step of history and returns its description.
+     * @throws IllegalStateException if there is no step to undo, or there are uncommitted changes.
+     */
+    String undo();
+
+    /**
+     * Redoes the latest undone step of history and returns its description.
+     * @throws IllegalStateException if there is no step to redo, or there are uncommitted changes.
+     */
+    String redo();
 }
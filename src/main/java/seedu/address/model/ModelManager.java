@@ -6,19 +6,29 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.user.UserProfile;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.history.ModelHistory;
+import seedu.address.model.person.BirthdayCalendar;
+import seedu.address.model.person.HoldsPremiumPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PremiumHolders;
+import seedu.address.model.person.query.PersonQuery;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.PolicyContainsKeywordsPredicate;
+import seedu.address.model.stats.PortfolioStatistics;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,9 +41,12 @@ public class ModelManager implements Model {
     private final PolicyBook policyBook;
     private final UserPrefs userPrefs;
     private final UserProfile userProfile;
+    private final ObjectProperty<UserProfile> observableUserProfile = new SimpleObjectProperty<>();
     private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> filteredUpcomingBirthdays;
+    private final BirthdayCalendar birthdayCalendar;
     private final FilteredList<Policy> filteredPolicies;
+    private final PortfolioStatistics portfolioStatistics;
+    private final ModelHistory history;
     private final Storage storage;
 
     /**
@@ -51,9 +64,16 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.userProfile = new UserProfile(userProfile.getName(), userProfile.getEmail(), userProfile.getPhone());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredUpcomingBirthdays = new FilteredList<>(this.addressBook.getPersonList());
+        birthdayCalendar = new BirthdayCalendar(this.addressBook.getPersonList(), LocalDate.now(),
+                this.userPrefs.getUpcomingBirthdayWindow());
         filteredPolicies = new FilteredList<>(this.policyBook.getPolicyList());
+        portfolioStatistics = new PortfolioStatistics(this.addressBook.getPersonList(),
+                this.policyBook.getPolicyList());
+        // Created last, so that loading the initial data is not recorded as a change
+        history = new ModelHistory(this.addressBook.getPersonList(), this.addressBook::replacePersons,
+                this.policyBook.getPolicyList(), this.policyBook::replacePolicies, ModelHistory.DEFAULT_CAPACITY);
         this.storage = storage;
+        observableUserProfile.set(getUserProfile());
     }
 
     public ModelManager() {
@@ -66,6 +86,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        birthdayCalendar.setWindowDays(this.userPrefs.getUpcomingBirthdayWindow());
     }
 
     @Override
@@ -131,6 +152,11 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public ObservableValue<UserProfile> getObservableUserProfile() {
+        return observableUserProfile;
+    }
+
     @Override
     public void setUserProfile(UserProfile currentProfile, UserProfile userProfile) {
         userProfile.setUserProfile(currentProfile, userProfile);
@@ -139,6 +165,7 @@ public class ModelManager implements Model {
     @Override
     public void saveUserProfile(UserProfile userProfile) throws IOException {
         storage.saveUserProfile(userProfile);
+        observableUserProfile.set(getUserProfile());
     }
 
 
@@ -171,6 +198,19 @@ public class ModelManager implements Model {
         updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void loadPersons(List<Person> persons) {
+        requireNonNull(persons);
+        history.runUnrecorded(() -> addressBook.addPersons(persons));
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -178,6 +218,17 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public PremiumHolders getPremiumHolders(String premiumName) {
+        requireNonNull(premiumName);
+        return addressBook.getPremiumHolders(premiumName);
+    }
+
+    @Override
+    public List<PremiumHolders> getAllPremiumHolders() {
+        return addressBook.getAllPremiumHolders();
+    }
+
     //=========== PolicyBook ================================================================================
 
     @Override
@@ -228,6 +279,18 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            filteredPersons.setPredicate(addressBook.withNameIndex((NameContainsKeywordsPredicate) predicate));
+            return;
+        }
+        if (predicate instanceof HoldsPremiumPredicate) {
+            filteredPersons.setPredicate(addressBook.withPremiumIndex((HoldsPremiumPredicate) predicate));
+            return;
+        }
+        if (predicate instanceof PersonQuery) {
+            filteredPersons.setPredicate(addressBook.withPersonIndexes((PersonQuery) predicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -245,6 +308,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPolicyList(Predicate<Policy> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof PolicyContainsKeywordsPredicate) {
+            filteredPolicies.setPredicate(policyBook.withNameIndex((PolicyContainsKeywordsPredicate) predicate));
+            return;
+        }
         filteredPolicies.setPredicate(predicate);
     }
 
@@ -271,29 +338,66 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getUpcomingBirthdays() {
-        LocalDate today = LocalDate.now();
+        return birthdayCalendar.getUpcomingBirthdays();
+    }
 
-        return FXCollections.observableArrayList(
-            filteredUpcomingBirthdays.stream()
-                .filter(p -> p.getBirthday().isWithinNext30Days())
-                .sorted((p1, p2) -> {
-                    LocalDate b1 = p1.getBirthday().getValue().withYear(today.getYear());
-                    LocalDate b2 = p2.getBirthday().getValue().withYear(today.getYear());
+    @Override
+    public void updateUpcomingBirthdays() {
+        birthdayCalendar.setToday(LocalDate.now());
+    }
 
-                    if (b1.isBefore(today)) {
-                        b1 = b1.plusYears(1);
-                    }
-                    if (b2.isBefore(today)) {
-                        b2 = b2.plusYears(1);
-                    }
+    @Override
+    public void setUpcomingBirthdayWindow(int windowDays) {
+        userPrefs.setUpcomingBirthdayWindow(windowDays);
+        birthdayCalendar.setWindowDays(windowDays);
+    }
+
+    //=========== Portfolio Statistics ===========================================================
 
-                    return b1.compareTo(b2);
-                }).collect(Collectors.toList())
-        );
+    @Override
+    public PortfolioStatistics getPortfolioStatistics() {
+        return portfolioStatistics;
     }
 
+    //=========== Undo/Redo ======================================================================
+
     @Override
-    public void updateUpcomingBirthdays() {
-        filteredUpcomingBirthdays.setPredicate(p -> p.getBirthday().isWithinNext30Days());
+    public void commitChanges(String description) {
+        requireNonNull(description);
+        history.commit(description);
+    }
+
+    @Override
+    public void discardUncommittedChanges() {
+        history.discardUncommitted();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public String undo() {
+        String description = history.undo();
+        showAll();
+        return description;
+    }
+
+    @Override
+    public String redo() {
+        String description = history.redo();
+        showAll();
+        return description;
+    }
+
+    private void showAll() {
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredPolicyList(PREDICATE_SHOW_ALL_POLICIES);
     }
 }
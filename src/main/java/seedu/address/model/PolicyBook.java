@@ -3,11 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.PolicyContainsKeywordsPredicate;
 import seedu.address.model.policy.UniquePolicyList;
+import seedu.address.model.util.InvertedIndex;
 
 /**
  * Wraps all data at the policy-book level
@@ -16,6 +20,7 @@ import seedu.address.model.policy.UniquePolicyList;
 public class PolicyBook implements ReadOnlyPolicyBook {
 
     private final UniquePolicyList polycies;
+    private final InvertedIndex<Policy> nameIndex = new InvertedIndex<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +31,9 @@ public class PolicyBook implements ReadOnlyPolicyBook {
      */
     {
         polycies = new UniquePolicyList();
+
+        // Registered before any other listener can be, so the index is up to date when they are notified
+        polycies.asUnmodifiableObservableList().addListener(this::updateNameIndex);
     }
 
     public PolicyBook() {}
@@ -95,6 +103,34 @@ public class PolicyBook implements ReadOnlyPolicyBook {
         polycies.remove(key);
     }
 
+    /**
+     * Replaces the {@code count} policies starting at {@code index} with {@code replacements}.
+     * The policy book must not contain duplicate policies afterwards.
+     */
+    public void replacePolicies(int index, int count, List<Policy> replacements) {
+        polycies.replaceRange(index, count, replacements);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that finds the matching policies through the name index
+     * of this policy book instead of testing each name.
+     */
+    public Predicate<Policy> withNameIndex(PolicyContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.usingIndex(nameIndex);
+    }
+
+    private void updateNameIndex(ListChangeListener.Change<? extends Policy> change) {
+        while (change.next()) {
+            for (Policy removed : change.getRemoved()) {
+                nameIndex.remove(removed, PolicyContainsKeywordsPredicate.getNameTokens(removed));
+            }
+            for (Policy added : change.getAddedSubList()) {
+                nameIndex.add(added, PolicyContainsKeywordsPredicate.getNameTokens(added));
+            }
+        }
+    }
+
     //// util methods
 
     @Override
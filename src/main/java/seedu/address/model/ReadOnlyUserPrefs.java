@@ -14,4 +14,10 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookFilePath();
 
     Path getPolicyBookFilePath();
+
+    Path getTaskListFilePath();
+
+    UserPrefs.StorageFormat getStorageFormat();
+
+    int getUpcomingBirthdayWindow();
 }
@@ -1,22 +1,44 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.BirthdayCalendar;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * Formats in which the address book and policy book can be stored.
+     */
+    public enum StorageFormat {
+        /** The whole book is rewritten as a json file on every save. */
+        JSON,
+        /** Changes are appended to a journal that is periodically compacted into a json snapshot. */
+        JOURNAL
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(UserPrefs.class);
+    private static final StorageFormat DEFAULT_STORAGE_FORMAT = StorageFormat.JSON;
+
     private GuiSettings guiSettings = new GuiSettings();
+    private StorageFormat storageFormat = DEFAULT_STORAGE_FORMAT;
+    private int upcomingBirthdayWindow = BirthdayCalendar.DEFAULT_WINDOW_DAYS;
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
     private Path policyBookFilePath = Paths.get("data", "policybook.json");
     private Path userProfileFilePath = Paths.get("data", "userprofile.json");
+    private Path taskListFilePath = Paths.get("data", "taskList.txt");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,7 +61,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setPolicyBookFilePath(newUserPrefs.getPolicyBookFilePath());
-
+        setTaskListFilePath(newUserPrefs.getTaskListFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setUpcomingBirthdayWindow(newUserPrefs.getUpcomingBirthdayWindow());
     }
 
     public GuiSettings getGuiSettings() {
@@ -51,6 +75,52 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public int getUpcomingBirthdayWindow() {
+        return upcomingBirthdayWindow;
+    }
+
+    public void setUpcomingBirthdayWindow(int upcomingBirthdayWindow) {
+        checkArgument(BirthdayCalendar.isValidWindow(upcomingBirthdayWindow),
+                BirthdayCalendar.MESSAGE_WINDOW_CONSTRAINTS);
+        this.upcomingBirthdayWindow = upcomingBirthdayWindow;
+    }
+
+    /**
+     * Sets the storage format read from a preferences file, using the default format if it is null.
+     */
+    @JsonSetter("storageFormat")
+    private void readStorageFormat(StorageFormat storageFormat) {
+        if (storageFormat == null) {
+            logger.warning("Storage format in preferences is missing. Using " + DEFAULT_STORAGE_FORMAT + ".");
+            this.storageFormat = DEFAULT_STORAGE_FORMAT;
+            return;
+        }
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Sets the upcoming birthday window read from a preferences file, using the default window if it is invalid.
+     */
+    @JsonSetter("upcomingBirthdayWindow")
+    private void readUpcomingBirthdayWindow(int upcomingBirthdayWindow) {
+        if (!BirthdayCalendar.isValidWindow(upcomingBirthdayWindow)) {
+            logger.warning("Upcoming birthday window of " + upcomingBirthdayWindow + " days in preferences is "
+                    + "invalid. Using " + BirthdayCalendar.DEFAULT_WINDOW_DAYS + " days.");
+            this.upcomingBirthdayWindow = BirthdayCalendar.DEFAULT_WINDOW_DAYS;
+            return;
+        }
+        this.upcomingBirthdayWindow = upcomingBirthdayWindow;
+    }
+
     public Path getAddressBookFilePath() {
         return addressBookFilePath;
     }
@@ -78,6 +148,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.userProfileFilePath = userProfileFilePath;
     }
 
+    public Path getTaskListFilePath() {
+        return taskListFilePath;
+    }
+
+    public void setTaskListFilePath(Path taskListFilePath) {
+        requireNonNull(taskListFilePath);
+        this.taskListFilePath = taskListFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +171,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && policyBookFilePath.equals(otherUserPrefs.policyBookFilePath);
+                && policyBookFilePath.equals(otherUserPrefs.policyBookFilePath)
+                && taskListFilePath.equals(otherUserPrefs.taskListFilePath)
+                && storageFormat == otherUserPrefs.storageFormat
+                && upcomingBirthdayWindow == otherUserPrefs.upcomingBirthdayWindow;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, policyBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, policyBookFilePath, taskListFilePath, storageFormat,
+                upcomingBirthdayWindow);
     }
 
     @Override
@@ -107,6 +190,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal data file location (AddressBook) : " + addressBookFilePath);
         sb.append("\nLocal data file location (PolicyBook) : " + policyBookFilePath);
         sb.append("\nLocal data file location (UserProfile) : " + userProfileFilePath);
+        sb.append("\nLocal data file location (TaskList) : " + taskListFilePath);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nUpcoming birthday window (days) : " + upcomingBirthdayWindow);
         return sb.toString();
     }
 
@@ -0,0 +1,131 @@
+package seedu.address.model.history;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the replacement of a range of a list by other items, which is enough to describe any change to
+ * the list. An edit holds only the items it removed and added, not the rest of the list.
+ * Guarantees: immutable.
+ *
+ * @param <T> the type of the items in the list.
+ */
+public final class ListEdit<T> {
+
+    private final int index;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Creates a {@code ListEdit} that replaces {@code removed}, starting at {@code index}, with {@code added}.
+     */
+    public ListEdit(int index, List<T> removed, List<T> added) {
+        requireAllNonNull(removed, added);
+        checkArgument(index >= 0, "Index of an edit must not be negative");
+        this.index = index;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    /**
+     * Returns the edits that describe {@code change}, in the order they were made.
+     * Updates to items in place are not edits of the list, so they are left out.
+     */
+    public static <T> List<ListEdit<T>> of(ListChangeListener.Change<? extends T> change) {
+        List<ListEdit<T>> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                // The item now at getPermutation(i) was at i before the change
+                List<T> before = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                edits.add(new ListEdit<>(from, before, new ArrayList<>(change.getList().subList(from, to))));
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                edits.add(new ListEdit<>(from, new ArrayList<T>(change.getRemoved()),
+                        new ArrayList<T>(change.getAddedSubList())));
+            }
+        }
+        change.reset();
+        return edits;
+    }
+
+    /**
+     * Returns the edit that reverses this edit.
+     */
+    public ListEdit<T> inverse() {
+        return new ListEdit<>(index, added, removed);
+    }
+
+    /**
+     * Makes this edit through {@code replacer}.
+     */
+    public void applyTo(Replacer<T> replacer) {
+        replacer.replace(index, removed.size(), added);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherListEdit = (ListEdit<?>) other;
+        return index == otherListEdit.index
+                && removed.equals(otherListEdit.removed)
+                && added.equals(otherListEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("removed", removed)
+                .add("added", added)
+                .toString();
+    }
+
+    /**
+     * Replaces a range of a list with other items.
+     *
+     * @param <T> the type of the items in the list.
+     */
+    @FunctionalInterface
+    public interface Replacer<T> {
+        /**
+         * Replaces the {@code count} items starting at {@code index} with {@code replacements}.
+         */
+        void replace(int index, int count, List<T> replacements);
+    }
+}
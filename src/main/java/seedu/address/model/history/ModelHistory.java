@@ -0,0 +1,186 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Keeps the most recent changes to the person list and the policy list, so that they can be undone and redone.
+ *
+ * Changes are recorded as {@link ListEdit}s as the lists report them, and grouped into one step of history when
+ * committed. A step holds only the persons and policies its edits removed and added, so the memory it takes
+ * grows with the size of the change rather than with the size of the lists. Undoing or redoing a step makes
+ * its edits in place, so listeners of the lists, such as storage, see changes just as small.
+ * Only the latest {@code capacity} steps are kept; older steps are forgotten as new ones are committed.
+ */
+public class ModelHistory {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final ListEdit.Replacer<Person> personReplacer;
+    private final ListEdit.Replacer<Policy> policyReplacer;
+    private final int capacity;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private final List<ListEdit<Person>> uncommittedPersonEdits = new ArrayList<>();
+    private final List<ListEdit<Policy>> uncommittedPolicyEdits = new ArrayList<>();
+    private boolean isReplaying = false;
+
+    /**
+     * Creates a {@code ModelHistory} that records the changes to {@code persons} and {@code policies} from now on,
+     * and makes edits to them through {@code personReplacer} and {@code policyReplacer}.
+     */
+    public ModelHistory(ObservableList<Person> persons, ListEdit.Replacer<Person> personReplacer,
+                        ObservableList<Policy> policies, ListEdit.Replacer<Policy> policyReplacer, int capacity) {
+        requireAllNonNull(persons, personReplacer, policies, policyReplacer);
+        checkArgument(capacity > 0, "Capacity of the history must be positive");
+        this.personReplacer = personReplacer;
+        this.policyReplacer = policyReplacer;
+        this.capacity = capacity;
+        persons.addListener(this::recordPersonChange);
+        policies.addListener(this::recordPolicyChange);
+    }
+
+    /**
+     * Returns true if the lists have changed since the last commit.
+     */
+    public boolean hasUncommittedChanges() {
+        return !uncommittedPersonEdits.isEmpty() || !uncommittedPolicyEdits.isEmpty();
+    }
+
+    /**
+     * Groups the changes since the last commit into one step of history described by {@code description},
+     * which can no longer be redone past. Does nothing if there are no such changes.
+     */
+    public void commit(String description) {
+        requireNonNull(description);
+        if (!hasUncommittedChanges()) {
+            return;
+        }
+
+        if (undoSteps.size() == capacity) {
+            undoSteps.removeFirst();
+        }
+        undoSteps.addLast(new Step(description, uncommittedPersonEdits, uncommittedPolicyEdits));
+        uncommittedPersonEdits.clear();
+        uncommittedPolicyEdits.clear();
+        redoSteps.clear();
+    }
+
+    /**
+     * Reverts the changes since the last commit.
+     */
+    public void discardUncommitted() {
+        Step uncommitted = new Step("", uncommittedPersonEdits, uncommittedPolicyEdits);
+        uncommittedPersonEdits.clear();
+        uncommittedPolicyEdits.clear();
+        runUnrecorded(() -> undoStep(uncommitted));
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the latest step of history and returns its description.
+     *
+     * @throws IllegalStateException if there is no step to undo, or the lists have uncommitted changes.
+     */
+    public String undo() {
+        if (!canUndo() || hasUncommittedChanges()) {
+            throw new IllegalStateException("There is no step to undo");
+        }
+
+        Step step = undoSteps.removeLast();
+        runUnrecorded(() -> undoStep(step));
+        redoSteps.addLast(step);
+        return step.description;
+    }
+
+    /**
+     * Redoes the latest undone step of history and returns its description.
+     *
+     * @throws IllegalStateException if there is no step to redo, or the lists have uncommitted changes.
+     */
+    public String redo() {
+        if (!canRedo() || hasUncommittedChanges()) {
+            throw new IllegalStateException("There is no step to redo");
+        }
+
+        Step step = redoSteps.removeLast();
+        runUnrecorded(() -> redoStep(step));
+        undoSteps.addLast(step);
+        return step.description;
+    }
+
+    /**
+     * Makes {@code changes} to the lists without recording them, so they are neither committed nor undone.
+     */
+    public void runUnrecorded(Runnable changes) {
+        requireNonNull(changes);
+        isReplaying = true;
+        try {
+            changes.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    private void undoStep(Step step) {
+        undoEdits(step.personEdits, personReplacer);
+        undoEdits(step.policyEdits, policyReplacer);
+    }
+
+    private void redoStep(Step step) {
+        step.personEdits.forEach(edit -> edit.applyTo(personReplacer));
+        step.policyEdits.forEach(edit -> edit.applyTo(policyReplacer));
+    }
+
+
+    private static <T> void undoEdits(List<ListEdit<T>> edits, ListEdit.Replacer<T> replacer) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).inverse().applyTo(replacer);
+        }
+    }
+
+    private void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        if (!isReplaying) {
+            uncommittedPersonEdits.addAll(ListEdit.of(change));
+        }
+    }
+
+    private void recordPolicyChange(ListChangeListener.Change<? extends Policy> change) {
+        if (!isReplaying) {
+            uncommittedPolicyEdits.addAll(ListEdit.of(change));
+        }
+    }
+
+    /**
+     * The edits to the lists made by one committed command.
+     */
+    private static final class Step {
+        private final String description;
+        private final List<ListEdit<Person>> personEdits;
+        private final List<ListEdit<Policy>> policyEdits;
+
+        Step(String description, List<ListEdit<Person>> personEdits, List<ListEdit<Policy>> policyEdits) {
+            this.description = description;
+            this.personEdits = List.copyOf(personEdits);
+            this.policyEdits = List.copyOf(policyEdits);
+        }
+    }
+}
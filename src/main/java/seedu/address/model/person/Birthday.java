@@ -80,21 +80,25 @@ public class Birthday {
         return value.hashCode();
     }
 
+    /**
+     * Returns the first date on or after {@code date} on which this birthday is celebrated.
+     * A birthday on 29 February is celebrated on 28 February in years that are not leap years.
+     */
+    public LocalDate getNextOccurrence(LocalDate date) {
+        requireNonNull(date);
+        // withYear moves 29 February to 28 February in years that are not leap years
+        LocalDate occurrence = value.withYear(date.getYear());
+        if (occurrence.isBefore(date)) {
+            occurrence = value.withYear(date.getYear() + 1);
+        }
+        return occurrence;
+    }
+
     /**
      * Returns true if the birthday is within the next 30 days from today.
      */
     public boolean isWithinNext30Days() {
         LocalDate now = LocalDate.now();
-        LocalDate in30Days = now.plusDays(30);
-
-        // Birthday this year
-        LocalDate thisYearsBirthday = value.withYear(now.getYear());
-
-        // Handle birthday passed already this year (check next year's birthday)
-        if (thisYearsBirthday.isBefore(now)) {
-            thisYearsBirthday = thisYearsBirthday.plusYears(1);
-        }
-
-        return !thisYearsBirthday.isAfter(in30Days);
+        return !getNextOccurrence(now).isAfter(now.plusDays(30));
     }
 }
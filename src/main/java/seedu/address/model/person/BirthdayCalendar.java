@@ -0,0 +1,223 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps track of the persons in a list whose birthdays are coming up.
+ *
+ * Persons are bucketed by the day of the year of their birthday, so finding the upcoming birthdays only
+ * visits the buckets of the days in the look-ahead window. The buckets and the list of upcoming birthdays
+ * are updated as persons are added to or removed from the tracked list, and the list of upcoming birthdays
+ * only moves forward when the date it is relative to is changed.
+ */
+public class BirthdayCalendar {
+
+    public static final int DEFAULT_WINDOW_DAYS = 30;
+
+    /** Less than a year, so that each birthday occurs at most once within the window. */
+    public static final int MAX_WINDOW_DAYS = 364;
+
+    public static final String MESSAGE_WINDOW_CONSTRAINTS =
+            "The upcoming birthday window should be between 0 and " + MAX_WINDOW_DAYS + " days.";
+
+    // Changes that replace more persons than this are handled by rebuilding the calendar
+    private static final int REBUILD_THRESHOLD = 64;
+
+    // Days are numbered by their day of a leap year, so that 29 February has a bucket of its own
+    private static final int LEAP_YEAR = 2000;
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_DAY = LocalDate.of(LEAP_YEAR, 2, 29).getDayOfYear() - 1;
+    private static final int LAST_DAY_OF_FEBRUARY = LEAP_DAY - 1;
+
+    private final ObservableList<Person> persons;
+    private final List<List<Person>> buckets = new ArrayList<>(DAYS_IN_LEAP_YEAR);
+    private final ObservableList<Person> upcoming = FXCollections.observableArrayList();
+    private final ObservableList<Person> upcomingUnmodifiable = FXCollections.unmodifiableObservableList(upcoming);
+
+    private LocalDate today;
+    private int windowDays;
+
+    /**
+     * Creates a {@code BirthdayCalendar} of the persons in {@code persons} whose birthdays are within
+     * {@code windowDays} days after {@code today}.
+     */
+    public BirthdayCalendar(ObservableList<Person> persons, LocalDate today, int windowDays) {
+        requireNonNull(persons);
+        requireNonNull(today);
+        checkArgument(isValidWindow(windowDays), MESSAGE_WINDOW_CONSTRAINTS);
+        this.persons = persons;
+        this.today = today;
+        this.windowDays = windowDays;
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        rebuild();
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns true if {@code windowDays} is a valid look-ahead window.
+     */
+    public static boolean isValidWindow(int windowDays) {
+        return windowDays >= 0 && windowDays <= MAX_WINDOW_DAYS;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose birthdays are within the window, ordered by how soon
+     * their birthdays are. The list is updated in place as the tracked persons and the window change.
+     */
+    public ObservableList<Person> getUpcomingBirthdays() {
+        return upcomingUnmodifiable;
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Makes the upcoming birthdays relative to {@code today}.
+     * Does nothing if the upcoming birthdays are already relative to {@code today}.
+     */
+    public void setToday(LocalDate today) {
+        requireNonNull(today);
+        if (today.equals(this.today)) {
+            return;
+        }
+        this.today = today;
+        refreshUpcoming();
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * Makes the upcoming birthdays those within {@code windowDays} days after today.
+     */
+    public void setWindowDays(int windowDays) {
+        checkArgument(isValidWindow(windowDays), MESSAGE_WINDOW_CONSTRAINTS);
+        if (windowDays == this.windowDays) {
+            return;
+        }
+        this.windowDays = windowDays;
+        refreshUpcoming();
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        int removedCount = 0;
+        while (change.next()) {
+            removedCount += change.getRemovedSize();
+        }
+        if (removedCount > REBUILD_THRESHOLD) {
+            rebuild();
+            return;
+        }
+
+        change.reset();
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                add(added);
+            }
+        }
+    }
+
+    private void add(Person person) {
+        buckets.get(getDay(person.getBirthday().getValue())).add(person);
+
+        int daysUntil = getDaysUntilBirthday(person);
+        if (daysUntil > windowDays) {
+            return;
+        }
+        // Insert after every person whose birthday is celebrated on or before the same day
+        int low = 0;
+        int high = upcoming.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareBirthdays(upcoming.get(mid), person, daysUntil) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        upcoming.add(low, person);
+    }
+
+    private void remove(Person person) {
+        removeByIdentity(buckets.get(getDay(person.getBirthday().getValue())), person);
+        if (getDaysUntilBirthday(person) <= windowDays) {
+            removeByIdentity(upcoming, person);
+        }
+    }
+
+    /**
+     * Buckets every tracked person again and recomputes the upcoming birthdays.
+     */
+    private void rebuild() {
+        buckets.forEach(List::clear);
+        for (Person person : persons) {
+            buckets.get(getDay(person.getBirthday().getValue())).add(person);
+        }
+        refreshUpcoming();
+    }
+
+    /**
+     * Recomputes the upcoming birthdays by visiting the bucket of each day in the window.
+     */
+    private void refreshUpcoming() {
+        List<Person> newUpcoming = new ArrayList<>();
+        for (int i = 0; i <= windowDays; i++) {
+            LocalDate date = today.plusDays(i);
+            int day = getDay(date);
+            newUpcoming.addAll(buckets.get(day));
+            if (day == LAST_DAY_OF_FEBRUARY && !date.isLeapYear()) {
+                newUpcoming.addAll(buckets.get(LEAP_DAY));
+            }
+        }
+        upcoming.setAll(newUpcoming);
+    }
+
+    /**
+     * Compares the birthday of {@code person} with a birthday {@code daysUntil} days after today on
+     * the day of the year of {@code other}'s birthday.
+     */
+    private int compareBirthdays(Person person, Person other, int daysUntil) {
+        int result = Integer.compare(getDaysUntilBirthday(person), daysUntil);
+        if (result != 0) {
+            return result;
+        }
+        return Integer.compare(getDay(person.getBirthday().getValue()), getDay(other.getBirthday().getValue()));
+    }
+
+    private int getDaysUntilBirthday(Person person) {
+        return (int) ChronoUnit.DAYS.between(today, person.getBirthday().getNextOccurrence(today));
+    }
+
+    /**
+     * Returns the day of a leap year with the same month and day of month as {@code date}, counting from 0.
+     */
+    private static int getDay(LocalDate date) {
+        return date.withYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+
+    private static void removeByIdentity(List<Person> list, Person person) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == person) {
+                list.remove(i);
+                return;
+            }
+        }
+    }
+}
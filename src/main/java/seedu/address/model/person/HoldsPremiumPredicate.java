@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} holds a premium with the given name, ignoring case.
+ */
+public class HoldsPremiumPredicate implements Predicate<Person> {
+    private final String premiumName;
+
+    /**
+     * Creates a predicate that tests for premiums named {@code premiumName}.
+     */
+    public HoldsPremiumPredicate(String premiumName) {
+        requireNonNull(premiumName);
+        this.premiumName = premiumName;
+    }
+
+    public String getPremiumName() {
+        return premiumName;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String key = PremiumIndex.toKey(premiumName);
+        return person.getPremiumList().getPremiums().stream()
+                .anyMatch(premium -> PremiumIndex.toKey(premium.getPremiumName()).equals(key));
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that looks the person up in {@code premiumIndex}
+     * instead of testing each of the person's premiums.
+     */
+    public Predicate<Person> usingIndex(PremiumIndex premiumIndex) {
+        return premiumIndex.asPredicate(premiumName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HoldsPremiumPredicate)) {
+            return false;
+        }
+
+        HoldsPremiumPredicate otherHoldsPremiumPredicate = (HoldsPremiumPredicate) other;
+        return premiumName.equals(otherHoldsPremiumPredicate.premiumName);
+    }
+
+    @Override
+    public int hashCode() {
+        return premiumName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("premiumName", premiumName).toString();
+    }
+}
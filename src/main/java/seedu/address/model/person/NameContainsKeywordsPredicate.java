@@ -1,10 +1,15 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.InvertedIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
@@ -16,12 +21,38 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the words in {@code person}'s name, folded to a common case, under which the person is indexed.
+     */
+    public static Set<String> getNameTokens(Person person) {
+        return Arrays.stream(person.getName().fullName.split("\\s+"))
+                .map(StringUtil::foldCase)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns a predicate equivalent to this one that finds the matching persons in {@code nameIndex}
+     * instead of testing each person's name. {@code nameIndex} must index persons by {@link #getNameTokens}.
+     */
+    public Predicate<Person> usingIndex(InvertedIndex<Person> nameIndex) {
+        List<String> tokens = new ArrayList<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim();
+            if (preppedKeyword.isEmpty() || preppedKeyword.split("\\s+").length != 1) {
+                // Leave it to test to reject the keyword
+                return this;
+            }
+            tokens.add(StringUtil.foldCase(preppedKeyword));
+        }
+        return nameIndex.asPredicate(index -> index.getAll(tokens));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -24,7 +24,7 @@ public class Person {
     // Data fields
     private final Address address;
     private final Birthday birthday;
-    private final PremiumList premiumList = new PremiumList();
+    private final PremiumList premiumList;
     private final Set<Tag> tags = new HashSet<>();
 
     /**
@@ -38,7 +38,7 @@ public class Person {
         this.email = email;
         this.address = address;
         this.birthday = birthday;
-        this.premiumList.addAll(premiumlist);
+        this.premiumList = premiumlist;
         this.tags.addAll(tags);
     }
 
@@ -99,7 +99,7 @@ public class Person {
      *         false otherwise
      */
     public boolean hasPremium(PremiumList premiumlist) {
-        for (Premium p : premiumlist.premiumList) {
+        for (Premium p : premiumlist.getPremiums()) {
             if (this.premiumList.contains(p)) {
                 return true;
             }
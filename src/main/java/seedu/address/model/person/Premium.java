@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * Represents an insurance premium with a name and an amount.
@@ -20,6 +21,7 @@ public class Premium implements Comparable<Premium> {
      * Ensures the name is not empty and does not start with whitespace.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private String premiumName;
     private Integer premiumAmount;
@@ -32,12 +34,31 @@ public class Premium implements Comparable<Premium> {
      * @throws IllegalArgumentException if the given premium name or amount is invalid
      */
     public Premium(String premiumName, Integer premiumAmount) {
-        if (isValidPremium(premiumName, premiumAmount)) {
-            this.premiumName = premiumName;
-            this.premiumAmount = premiumAmount;
-        } else {
+        this(premiumName, premiumAmount, true);
+    }
+
+    /**
+     * Constructs a Premium with the given name and amount, checking that they are valid only if
+     * {@code isCheckRequired}.
+     */
+    private Premium(String premiumName, Integer premiumAmount, boolean isCheckRequired) {
+        if (isCheckRequired && !isValidPremium(premiumName, premiumAmount)) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
+        this.premiumName = premiumName;
+        this.premiumAmount = premiumAmount;
+    }
+
+    /**
+     * Returns a Premium with the given name and amount without checking them again.
+     * They must already have been checked by {@link #isValidPremium(String, Integer)}.
+     *
+     * @param premiumName The name of the premium.
+     * @param premiumAmount The amount of the premium.
+     * @return The premium.
+     */
+    public static Premium ofValidated(String premiumName, Integer premiumAmount) {
+        return new Premium(premiumName, premiumAmount, false);
     }
 
     /**
@@ -92,7 +113,7 @@ public class Premium implements Comparable<Premium> {
             throw new NullPointerException(MESSAGE_CONSTRAINTS);
         }
 
-        return VALIDATION_PREDICATE.test(testAmount) && testName.matches(VALIDATION_REGEX);
+        return VALIDATION_PREDICATE.test(testAmount) && VALIDATION_PATTERN.matcher(testName).matches();
     }
 
     /**
@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the persons holding a premium of a particular name, with the amount each of them pays.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class PremiumHolders {
+
+    private final String premiumName;
+    private final List<Person> holders;
+    private final Map<Person, Integer> amounts;
+    private final long totalAmount;
+
+    /**
+     * Creates a {@code PremiumHolders} of {@code holders}, in that order, paying {@code amounts} for the premium
+     * named {@code premiumName}. Every holder must have an amount.
+     */
+    public PremiumHolders(String premiumName, List<Person> holders, Map<Person, Integer> amounts) {
+        requireAllNonNull(premiumName, holders, amounts);
+        this.premiumName = premiumName;
+        this.holders = List.copyOf(holders);
+
+        Map<Person, Integer> holderAmounts = new IdentityHashMap<>();
+        long total = 0;
+        for (Person holder : this.holders) {
+            Integer amount = amounts.get(holder);
+            requireNonNull(amount);
+            holderAmounts.put(holder, amount);
+            total += amount;
+        }
+        this.amounts = Collections.unmodifiableMap(holderAmounts);
+        this.totalAmount = total;
+    }
+
+    public String getPremiumName() {
+        return premiumName;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons holding the premium.
+     */
+    public List<Person> getHolders() {
+        return holders;
+    }
+
+    /**
+     * Returns the amount {@code holder} pays for the premium.
+     *
+     * @throws IllegalArgumentException if {@code holder} does not hold the premium.
+     */
+    public int getAmount(Person holder) {
+        Integer amount = amounts.get(holder);
+        if (amount == null) {
+            throw new IllegalArgumentException(holder.getName() + " does not hold " + premiumName);
+        }
+        return amount;
+    }
+
+    /**
+     * Returns the sum of the amounts paid by all the holders of the premium.
+     */
+    public long getTotalAmount() {
+        return totalAmount;
+    }
+
+    public boolean isEmpty() {
+        return holders.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PremiumHolders)) {
+            return false;
+        }
+
+        PremiumHolders otherPremiumHolders = (PremiumHolders) other;
+        if (!premiumName.equals(otherPremiumHolders.premiumName)
+                || !holders.equals(otherPremiumHolders.holders)) {
+            return false;
+        }
+        for (int i = 0; i < holders.size(); i++) {
+            if (getAmount(holders.get(i)) != otherPremiumHolders.getAmount(otherPremiumHolders.holders.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return premiumName.hashCode() * 31 + holders.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("premiumName", premiumName)
+                .add("holders", holders)
+                .add("totalAmount", totalAmount)
+                .toString();
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Maps premium names to the persons that hold a premium of that name and the amounts they pay, along with
+ * the total amount paid for each premium.
+ *
+ * Premium names are matched case-insensitively, so a premium is found under the name of the policy it was
+ * bought under however it was capitalised. Persons are compared by identity, so the index must be given the
+ * same instances that are stored in the list it indexes.
+ */
+public class PremiumIndex {
+
+    private static final Comparator<Person> HOLDER_ORDER =
+            Comparator.comparing((Person person) -> StringUtil.foldCase(person.getName().fullName))
+                    .thenComparing(person -> person.getName().fullName);
+
+    private final Map<String, Holders> holdersByName = new HashMap<>();
+
+    /**
+     * The persons holding a premium, and the name of the premium as it was given by the first of them.
+     */
+    private static class Holders {
+        private final String premiumName;
+        private final Map<Person, Integer> amounts = new IdentityHashMap<>();
+        private long totalAmount;
+
+        private Holders(String premiumName) {
+            this.premiumName = premiumName;
+        }
+    }
+
+    /**
+     * Records the premiums held by {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Map.Entry<String, Premium> entry : getPremiumsByKey(person).entrySet()) {
+            Premium premium = entry.getValue();
+            Holders holders = holdersByName.computeIfAbsent(entry.getKey(),
+                    unused -> new Holders(premium.getPremiumName()));
+            Integer previousAmount = holders.amounts.put(person, premium.getPremiumAmount());
+            holders.totalAmount += premium.getPremiumAmount() - (previousAmount == null ? 0 : previousAmount);
+        }
+    }
+
+    /**
+     * Removes the records of the premiums held by {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String key : getPremiumsByKey(person).keySet()) {
+            Holders holders = holdersByName.get(key);
+            if (holders == null) {
+                continue;
+            }
+            Integer amount = holders.amounts.remove(person);
+            if (amount == null) {
+                continue;
+            }
+            holders.totalAmount -= amount;
+            if (holders.amounts.isEmpty()) {
+                holdersByName.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        holdersByName.clear();
+    }
+
+    /**
+     * Returns the persons holding a premium named {@code premiumName}, ordered by name.
+     * Takes time proportional to the number of holders rather than the number of indexed persons.
+     */
+    public PremiumHolders getHolders(String premiumName) {
+        requireNonNull(premiumName);
+        Holders holders = holdersByName.get(toKey(premiumName));
+        if (holders == null) {
+            return new PremiumHolders(premiumName, List.of(), Map.of());
+        }
+        return toPremiumHolders(holders);
+    }
+
+    /**
+     * Returns the holders of every premium held by at least one person, ordered by premium name.
+     */
+    public List<PremiumHolders> getAllHolders() {
+        List<PremiumHolders> allHolders = new ArrayList<>(holdersByName.size());
+        holdersByName.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> allHolders.add(toPremiumHolders(entry.getValue())));
+        return allHolders;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person holds a premium named {@code premiumName}, at the cost
+     * of a single lookup per person. The predicate reflects later changes to the index.
+     */
+    public Predicate<Person> asPredicate(String premiumName) {
+        String key = toKey(premiumName);
+        return person -> {
+            Holders holders = holdersByName.get(key);
+            return holders != null && holders.amounts.containsKey(person);
+        };
+    }
+
+    private static PremiumHolders toPremiumHolders(Holders holders) {
+        List<Person> sortedHolders = new ArrayList<>(holders.amounts.keySet());
+        sortedHolders.sort(HOLDER_ORDER);
+        PremiumHolders premiumHolders = new PremiumHolders(holders.premiumName, sortedHolders, holders.amounts);
+        assert premiumHolders.getTotalAmount() == holders.totalAmount;
+        return premiumHolders;
+    }
+
+    /**
+     * Returns the premiums of {@code person} keyed by {@link #toKey}.
+     * Premiums whose names differ only in case are combined into one premium of their total amount.
+     */
+    private static Map<String, Premium> getPremiumsByKey(Person person) {
+        Map<String, Premium> premiumsByKey = new LinkedHashMap<>();
+        for (Premium premium : person.getPremiumList().getPremiums()) {
+            premiumsByKey.merge(toKey(premium.getPremiumName()), premium, (first, second) ->
+                    Premium.ofValidated(first.getPremiumName(),
+                            first.getPremiumAmount() + second.getPremiumAmount()));
+        }
+        return premiumsByKey;
+    }
+
+    /**
+     * Returns the key under which premiums named {@code premiumName} are indexed.
+     */
+    public static String toKey(String premiumName) {
+        return StringUtil.foldCase(premiumName.trim());
+    }
+}
@@ -2,53 +2,65 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-
-import seedu.address.logic.parser.ParserUtil;
-import seedu.address.logic.parser.exceptions.ParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
- * Represents a collection of insurance premiums that a person has purchased.
+ * Represents a collection of insurance premiums that a person has purchased, keyed by premium name.
  * Guarantees: immutable; is valid as declared in {@link #isValidPremium(PremiumList)}
+ *
+ * Operations that change the premiums return a new {@code PremiumList} and leave this one untouched, so a
+ * premium list can be shared by every person that has the same premiums. Operations that would not change
+ * the premiums return this premium list itself.
  */
 public class PremiumList {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Premium list has no valid premiums in the format [premium name, premium amount]";
+    public static final String MESSAGE_DUPLICATE_PREMIUM = "Premium %1$s is given more than once";
+
+    /**
+     * The premiums, in the order they were first added, keyed by their names.
+     * Never modified once the premium list has been constructed.
+     */
+    private final Map<String, Premium> premiumsByName;
 
     /**
-     * The list of insurance premiums associated with a person.
+     * The premiums, in the order they were first added.
      */
-    public final ArrayList<Premium> premiumList = new ArrayList<>();
+    private final List<Premium> premiums;
 
     /**
      * Constructs an empty PremiumList.
      */
     public PremiumList() {
+        premiumsByName = Collections.emptyMap();
+        premiums = Collections.emptyList();
     }
 
     /**
-     * Creates a copy of the given PremiumList.
+     * Creates a PremiumList with the same premiums as the given PremiumList.
+     * As premium lists are immutable, the premiums are shared rather than copied.
      *
      * @param premiumList The PremiumList to copy.
      */
     public PremiumList(PremiumList premiumList) {
         requireNonNull(premiumList);
-        if (PremiumList.isValidPremium(premiumList)) {
-            this.premiumList.addAll(premiumList.premiumList);
-        } else {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
+        premiumsByName = premiumList.premiumsByName;
+        premiums = premiumList.premiums;
     }
 
     /**
      * Creates a PremiumList with the given list of Premiums.
+     * If several premiums have the same name, the last of them is kept in the position of the first.
      *
      * @param premiumList The list of Premiums to add to the PremiumList.
      */
-    public PremiumList(ArrayList<Premium> premiumList) {
-        requireNonNull(premiumList);
-        this.premiumList.addAll(premiumList);
+    public PremiumList(List<Premium> premiumList) {
+        this(toMap(premiumList));
     }
 
     /**
@@ -57,12 +69,25 @@ public class PremiumList {
      * @param premium The Premium to add to the PremiumList.
      */
     public PremiumList(Premium premium) {
-        requireNonNull(premium);
-        if (Premium.isValidPremium(premium)) {
-            premiumList.add(premium);
-        } else {
-            throw new IllegalArgumentException(Premium.MESSAGE_CONSTRAINTS);
+        this(List.of(premium));
+    }
+
+    /**
+     * Creates a PremiumList that takes ownership of {@code premiumsByName}, which must not be modified afterwards.
+     */
+    private PremiumList(LinkedHashMap<String, Premium> premiumsByName) {
+        this.premiumsByName = Collections.unmodifiableMap(premiumsByName);
+        this.premiums = List.copyOf(premiumsByName.values());
+    }
+
+    private static LinkedHashMap<String, Premium> toMap(List<Premium> premiumList) {
+        requireNonNull(premiumList);
+        LinkedHashMap<String, Premium> premiumsByName = new LinkedHashMap<>();
+        for (Premium premium : premiumList) {
+            requireNonNull(premium);
+            premiumsByName.put(premium.getPremiumName(), premium);
         }
+        return premiumsByName;
     }
 
     /**
@@ -72,7 +97,7 @@ public class PremiumList {
      * @return true if all Premiums in the list are valid, false otherwise.
      */
     public static boolean isValidPremium(PremiumList test) {
-        for (Premium p : test.premiumList) {
+        for (Premium p : test.premiums) {
             if (!Premium.isValidPremium(p.getPremiumName(), p.getPremiumAmount())) {
                 return false;
             }
@@ -92,89 +117,107 @@ public class PremiumList {
     }
 
     /**
-     * Adds the given Premium to the PremiumList.
+     * Returns an unmodifiable list of the premiums, in the order they were first added.
+     */
+    public List<Premium> getPremiums() {
+        return premiums;
+    }
+
+    /**
+     * Returns the premium named {@code premiumName}, if there is one.
      *
-     * @param premium The Premium to add.
+     * @param premiumName The name of the Premium.
+     * @return The Premium with that name, or an empty Optional if there is none.
      */
-    public void add(Premium premium) {
-        requireNonNull(premium);
-        if (Premium.isValidPremium(premium)) {
-            premiumList.add(premium);
-        } else {
-            throw new IllegalArgumentException(Premium.MESSAGE_CONSTRAINTS);
-        }
+    public Optional<Premium> getPremium(String premiumName) {
+        requireNonNull(premiumName);
+        return Optional.ofNullable(premiumsByName.get(premiumName));
     }
 
     /**
-     * Adds a Premium object from a string representation of a Premium.
+     * Returns a PremiumList with the given Premium added, replacing any premium with the same name.
      *
-     * @param premium The string representation of the Premium.
+     * @param premium The Premium to add.
+     * @return The PremiumList with the Premium added.
      */
-    public void add(String premium) {
+    public PremiumList with(Premium premium) {
         requireNonNull(premium);
-        try {
-            addAll(ParserUtil.parsePremium(premium));
-        } catch (ParseException e) {
-            throw new IllegalArgumentException(Premium.MESSAGE_CONSTRAINTS);
+        if (premium.equals(premiumsByName.get(premium.getPremiumName()))) {
+            return this;
         }
+        LinkedHashMap<String, Premium> newPremiumsByName = new LinkedHashMap<>(premiumsByName);
+        newPremiumsByName.put(premium.getPremiumName(), premium);
+        return new PremiumList(newPremiumsByName);
     }
 
     /**
-     * Removes the given Premium from the PremiumList.
+     * Returns a PremiumList with all the Premiums from another PremiumList added, replacing any premiums
+     * with the same names.
      *
-     * @param premium The Premium to remove.
+     * @param premiumList The PremiumList to add.
+     * @return The PremiumList with the Premiums added.
      */
-    public void remove(Premium premium) {
-        if (contains(premium)) {
-            premiumList.removeIf(p -> p.getPremiumName().equals(premium.getPremiumName()));
+    public PremiumList withAll(PremiumList premiumList) {
+        requireNonNull(premiumList);
+        if (premiumList.isEmpty()) {
+            return this;
         }
+        if (isEmpty()) {
+            return premiumList;
+        }
+        LinkedHashMap<String, Premium> newPremiumsByName = new LinkedHashMap<>(premiumsByName);
+        newPremiumsByName.putAll(premiumList.premiumsByName);
+        return new PremiumList(newPremiumsByName);
     }
 
     /**
-     * Checks if the PremiumList contains the given Premium.
+     * Returns a PremiumList without the Premium with the same name as the given Premium.
      *
-     * @param premium The Premium to check.
-     * @return true if the Premium is in the list, false otherwise.
+     * @param premium The Premium to remove.
+     * @return The PremiumList with the Premium removed.
      */
-    public boolean contains(Premium premium) {
-        requireNonNull(premium.getPremiumName());
-        for (Premium p : premiumList) {
-            if (p.getPremiumName().equals(premium.getPremiumName())) {
-                return true;
-            }
+    public PremiumList without(Premium premium) {
+        requireNonNull(premium);
+        if (!contains(premium)) {
+            return this;
         }
-        return false;
+        LinkedHashMap<String, Premium> newPremiumsByName = new LinkedHashMap<>(premiumsByName);
+        newPremiumsByName.remove(premium.getPremiumName());
+        return new PremiumList(newPremiumsByName);
     }
 
     /**
-     * Adds all the Premiums from another PremiumList.
+     * Returns a PremiumList with the Premium of the same name replaced by the given Premium.
+     * The premium keeps its position in the list.
      *
-     * @param premiumList The PremiumList to add.
+     * @param premium The premium to replace with
+     * @return The PremiumList with the Premium replaced, or this PremiumList if it has no Premium of that name.
      */
-    public void addAll(PremiumList premiumList) {
-        requireNonNull(premiumList);
-        if (PremiumList.isValidPremium(premiumList)) {
-            this.premiumList.addAll(premiumList.premiumList);
-        } else {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    public PremiumList withReplaced(Premium premium) {
+        requireNonNull(premium);
+        if (!contains(premium)) {
+            return this;
         }
+        return with(premium);
     }
 
     /**
-     * Replaces Premium by name
+     * Checks if the PremiumList contains a Premium with the same name as the given Premium.
      *
-     * @param premium The premium to replace with
+     * @param premium The Premium to check.
+     * @return true if the Premium is in the list, false otherwise.
      */
-    public void replace(Premium premium) {
-        for (Premium p : premiumList) {
-            if (p.getPremiumName().equals(premium.getPremiumName())) {
-                premiumList.remove(p);
-                premiumList.add(premium);
-                break;
-            }
-        }
+    public boolean contains(Premium premium) {
+        requireNonNull(premium.getPremiumName());
+        return premiumsByName.containsKey(premium.getPremiumName());
     }
 
+    /**
+     * Returns the number of premiums in the PremiumList.
+     */
+    public int size() {
+        return premiums.size();
+    }
 
     /**
      * Checks if the PremiumList is empty.
@@ -182,13 +225,13 @@ public class PremiumList {
      * @return true if the list is empty, false otherwise.
      */
     public boolean isEmpty() {
-        return premiumList.isEmpty();
+        return premiums.isEmpty();
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        for (Premium p : premiumList) {
+        for (Premium p : premiums) {
             builder.append(p.toString());
             builder.append("\n");
         }
@@ -206,22 +249,11 @@ public class PremiumList {
         }
 
         PremiumList otherPremiumList = (PremiumList) other;
-
-        if (premiumList.size() != otherPremiumList.premiumList.size()) {
-            return false;
-        }
-
-        for (int i = 0; i < premiumList.size(); i++) {
-            if (!premiumList.get(i).equals(otherPremiumList.premiumList.get(i))) {
-                return false;
-            }
-        }
-
-        return true;
+        return premiums.equals(otherPremiumList.premiums);
     }
 
     @Override
     public int hashCode() {
-        return premiumList.hashCode();
+        return premiums.hashCode();
     }
 }
@@ -2,9 +2,15 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are served by a hash index keyed on the same (case-insensitive) fields that
+ * {@code Person#isSamePerson(Person)} compares, so duplicate checks do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +36,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Person> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -45,9 +55,25 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list in a single change.
+     * None of the persons may already exist in the list or be the same person as another of them.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<IdentityKey, Person> newIndex = indexPersons(toAdd);
+        if (newIndex == null || newIndex.keySet().stream().anyMatch(identityIndex::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        identityIndex.putAll(newIndex);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -65,6 +91,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.remove(new IdentityKey(target));
+        identityIndex.put(new IdentityKey(editedPerson), editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -77,10 +105,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(new IdentityKey(toRemove));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +121,49 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<IdentityKey, Person> newIndex = indexPersons(persons);
+        if (newIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the {@code count} persons starting at {@code index} with {@code replacements}.
+     * None of the replacements may be the same person as another of them, or as a person outside the
+     * replaced range.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the list.
+     */
+    public void replaceRange(int index, int count, List<Person> replacements) {
+        requireAllNonNull(replacements);
+        Objects.checkFromIndexSize(index, count, internalList.size());
+        Map<IdentityKey, Person> newIndex = indexPersons(replacements);
+        if (newIndex == null) {
+            throw new DuplicatePersonException();
+        }
+
+        Set<IdentityKey> replacedKeys = new HashSet<>();
+        internalList.subList(index, index + count).forEach(person -> replacedKeys.add(new IdentityKey(person)));
+        boolean isDuplicate = newIndex.keySet().stream()
+                .anyMatch(key -> identityIndex.containsKey(key) && !replacedKeys.contains(key));
+        if (isDuplicate) {
+            throw new DuplicatePersonException();
+        }
+
+        identityIndex.keySet().removeAll(replacedKeys);
+        identityIndex.putAll(newIndex);
+        if (count == 1 && replacements.size() == 1) {
+            internalList.set(index, replacements.get(0));
+            return;
+        }
+        internalList.remove(index, index + count);
+        internalList.addAll(index, replacements);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -137,14 +204,67 @@ public class UniquePersonList implements Iterable<Person> {
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public static boolean personsAreUnique(List<Person> persons) {
+        requireAllNonNull(persons);
+        return indexPersons(persons) != null;
+    }
+
+    /**
+     * Returns an identity index of {@code persons}, or null if {@code persons} contains duplicate persons.
+     */
+    private static Map<IdentityKey, Person> indexPersons(List<Person> persons) {
+        Map<IdentityKey, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(new IdentityKey(person), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Hash key over the fields compared by {@code Person#isSamePerson(Person)}.
+     * Two persons have equal keys if and only if they are the same person.
+     */
+    private static final class IdentityKey {
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final Birthday birthday;
+        private final int hash;
+
+        IdentityKey(Person person) {
+            name = foldCase(person.getName().fullName);
+            phone = person.getPhone().value;
+            email = foldCase(person.getEmail().value);
+            address = foldCase(person.getAddress().value);
+            birthday = person.getBirthday();
+            hash = Objects.hash(name, phone, email, address, birthday);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return hash == otherKey.hash
+                    && name.equals(otherKey.name)
+                    && phone.equals(otherKey.phone)
+                    && email.equals(otherKey.email)
+                    && address.equals(otherKey.address)
+                    && birthday.equals(otherKey.birthday);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
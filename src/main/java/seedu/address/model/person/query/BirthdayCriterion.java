@@ -0,0 +1,29 @@
+package seedu.address.model.person.query;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.Range;
+import seedu.address.model.util.SortedIndex;
+
+/**
+ * Tests that a {@code Person}'s birthday is within any of the ranges of dates given.
+ */
+public class BirthdayCriterion extends RangeCriterion<LocalDate> {
+
+    public BirthdayCriterion(List<Range<LocalDate>> ranges) {
+        super(ranges);
+    }
+
+    @Override
+    protected Collection<LocalDate> getValues(Person person) {
+        return List.of(person.getBirthday().value);
+    }
+
+    @Override
+    protected SortedIndex<LocalDate, Person> getIndex(PersonIndexes indexes) {
+        return indexes.getBirthdayIndex();
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.model.person.query;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches one condition of a {@code PersonQuery}.
+ * A criterion that is indexed can also find the persons matching it in a {@code PersonIndexes}.
+ */
+public interface Criterion extends Predicate<Person> {
+
+    /**
+     * Returns true if the persons matching this criterion can be found by {@link #find}.
+     */
+    boolean isIndexed();
+
+    /**
+     * Returns a new set of the persons in {@code indexes} that match this criterion.
+     * @throws UnsupportedOperationException if this criterion is not indexed.
+     */
+    Set<Person> find(PersonIndexes indexes);
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code PersonField} of a {@code Person} matches any of the keywords given, ignoring case.
+ */
+public class KeywordCriterion implements Criterion {
+
+    private final PersonField field;
+    private final List<String> keywords;
+
+    /**
+     * Creates a {@code KeywordCriterion} matching persons whose {@code field} matches any of {@code keywords}.
+     */
+    public KeywordCriterion(PersonField field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        checkArgument(!keywords.isEmpty(), "At least one keyword is required");
+        this.field = field;
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return keywords.stream().anyMatch(keyword -> field.matches(person, PersonField.toKey(keyword)));
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return field.isIndexed();
+    }
+
+    @Override
+    public Set<Person> find(PersonIndexes indexes) {
+        if (!isIndexed()) {
+            throw new UnsupportedOperationException(field + " is not indexed");
+        }
+        Set<String> keys = keywords.stream().map(PersonField::toKey).collect(Collectors.toSet());
+        return indexes.getIndex(field).getAll(keys);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof KeywordCriterion)) {
+            return false;
+        }
+
+        KeywordCriterion otherCriterion = (KeywordCriterion) other;
+        return field == otherCriterion.field
+                && keywords.equals(otherCriterion.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person.query;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a text field of a {@code Person} that can be searched by keywords.
+ * Each field splits a person's value into keys, folded to a common case, and a keyword matches a person
+ * if it is one of those keys, unless the field matches keywords differently.
+ */
+public enum PersonField {
+    NAME(true, NameContainsKeywordsPredicate::getNameTokens),
+    PHONE(true, person -> Set.of(person.getPhone().value)),
+    EMAIL(true, person -> Set.of(toKey(person.getEmail().value))),
+    TAG(true, person -> person.getTags().stream()
+            .map(tag -> toKey(tag.tagName))
+            .collect(Collectors.toSet())),
+    PREMIUM(true, person -> person.getPremiumList().getPremiums().stream()
+            .map(premium -> toKey(premium.getPremiumName()))
+            .collect(Collectors.toSet())),
+    ADDRESS(false, person -> Set.of(toKey(person.getAddress().value))) {
+        /**
+         * Returns true if {@code person}'s address contains {@code key} anywhere, as addresses are free text.
+         */
+        @Override
+        public boolean matches(Person person, String key) {
+            return getKeys(person).iterator().next().contains(key);
+        }
+    };
+
+    private final boolean isIndexed;
+    private final Function<Person, Set<String>> keyExtractor;
+
+    PersonField(boolean isIndexed, Function<Person, Set<String>> keyExtractor) {
+        this.isIndexed = isIndexed;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Returns {@code keyword} as the key it is matched against, folded to a common case.
+     */
+    public static String toKey(String keyword) {
+        return StringUtil.foldCase(keyword.trim());
+    }
+
+    /**
+     * Returns true if persons can be looked up by the keys of this field in a {@code PersonIndexes}.
+     */
+    public boolean isIndexed() {
+        return isIndexed;
+    }
+
+    /**
+     * Returns the keys of this field of {@code person}.
+     */
+    public Set<String> getKeys(Person person) {
+        return keyExtractor.apply(person);
+    }
+
+    /**
+     * Returns true if this field of {@code person} matches {@code key}.
+     */
+    public boolean matches(Person person, String key) {
+        return getKeys(person).contains(key);
+    }
+}
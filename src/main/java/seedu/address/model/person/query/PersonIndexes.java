@@ -0,0 +1,122 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+import seedu.address.model.util.InvertedIndex;
+import seedu.address.model.util.SortedIndex;
+
+/**
+ * Indexes persons by each indexed {@code PersonField}, by birthday and by the amounts of their premiums,
+ * so that queries on those fields can find the matching persons without testing each person.
+ * Persons are compared by identity, so the indexes must be given the same instances that are stored in the
+ * list they index.
+ */
+public class PersonIndexes {
+
+    private final Map<PersonField, InvertedIndex<Person>> fieldIndexes = new EnumMap<>(PersonField.class);
+    private final SortedIndex<LocalDate, Person> birthdayIndex = new SortedIndex<>();
+    private final SortedIndex<Integer, Person> premiumAmountIndex = new SortedIndex<>();
+    private long modificationCount;
+
+    /**
+     * Creates empty indexes.
+     */
+    public PersonIndexes() {
+        for (PersonField field : PersonField.values()) {
+            if (field.isIndexed()) {
+                fieldIndexes.put(field, new InvertedIndex<>());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code person} to the indexes.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        fieldIndexes.forEach((field, index) -> index.add(person, field.getKeys(person)));
+        birthdayIndex.add(person, List.of(person.getBirthday().value));
+        premiumAmountIndex.add(person, getPremiumAmounts(person));
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code person} from the indexes.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        fieldIndexes.forEach((field, index) -> index.remove(person, field.getKeys(person)));
+        birthdayIndex.remove(person, List.of(person.getBirthday().value));
+        premiumAmountIndex.remove(person, getPremiumAmounts(person));
+        modificationCount++;
+    }
+
+    /**
+     * Removes all persons from the indexes.
+     */
+    public void clear() {
+        fieldIndexes.values().forEach(InvertedIndex::clear);
+        birthdayIndex.clear();
+        premiumAmountIndex.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the index of persons by the keys of {@code field}.
+     * @throws IllegalArgumentException if {@code field} is not indexed.
+     */
+    public InvertedIndex<Person> getIndex(PersonField field) {
+        requireNonNull(field);
+        if (!field.isIndexed()) {
+            throw new IllegalArgumentException(field + " is not indexed");
+        }
+        return fieldIndexes.get(field);
+    }
+
+    public SortedIndex<LocalDate, Person> getBirthdayIndex() {
+        return birthdayIndex;
+    }
+
+    public SortedIndex<Integer, Person> getPremiumAmountIndex() {
+        return premiumAmountIndex;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person is among those found by {@code finder} in these indexes.
+     * The persons are found again only after the indexes have been modified, so testing each person of a list
+     * against the predicate costs a single lookup per person.
+     */
+    public Predicate<Person> asPredicate(Function<PersonIndexes, Set<Person>> finder) {
+        requireNonNull(finder);
+        return new Predicate<>() {
+            private Set<Person> matches;
+            private long matchesModificationCount;
+
+            @Override
+            public boolean test(Person person) {
+                if (matches == null || matchesModificationCount != modificationCount) {
+                    matches = finder.apply(PersonIndexes.this);
+                    matchesModificationCount = modificationCount;
+                }
+                return matches.contains(person);
+            }
+        };
+    }
+
+    private static Set<Integer> getPremiumAmounts(Person person) {
+        return person.getPremiumList().getPremiums().stream()
+                .map(Premium::getPremiumAmount)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches all of the criteria given.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    private final List<Criterion> criteria;
+
+    /**
+     * Creates a {@code PersonQuery} matching persons that match every one of {@code criteria}.
+     */
+    public PersonQuery(List<Criterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "At least one criterion is required");
+        this.criteria = List.copyOf(criteria);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return criteria.stream().allMatch(criterion -> criterion.test(person));
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that finds the matching persons in {@code indexes} instead of
+     * testing each person. The indexed criteria are looked up and intersected, smallest first, and only the
+     * persons left are tested against the criteria that are not indexed.
+     * If no criterion is indexed, every person has to be tested, so this query is returned as is.
+     */
+    public Predicate<Person> usingIndexes(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        if (criteria.stream().noneMatch(Criterion::isIndexed)) {
+            return this;
+        }
+        return indexes.asPredicate(this::find);
+    }
+
+    private Set<Person> find(PersonIndexes indexes) {
+        List<Set<Person>> indexedMatches = new ArrayList<>();
+        List<Criterion> scannedCriteria = new ArrayList<>();
+        for (Criterion criterion : criteria) {
+            if (criterion.isIndexed()) {
+                indexedMatches.add(criterion.find(indexes));
+            } else {
+                scannedCriteria.add(criterion);
+            }
+        }
+
+        indexedMatches.sort(Comparator.comparingInt(Set::size));
+        Set<Person> matches = indexedMatches.get(0);
+        for (int i = 1; i < indexedMatches.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(indexedMatches.get(i));
+        }
+        for (Criterion criterion : scannedCriteria) {
+            matches.removeIf(criterion.negate());
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return criteria.equals(otherQuery.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria)
+                .toString();
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.model.person.query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+import seedu.address.model.util.Range;
+import seedu.address.model.util.SortedIndex;
+
+/**
+ * Tests that a {@code Person} holds a premium whose amount is within any of the ranges given.
+ */
+public class PremiumAmountCriterion extends RangeCriterion<Integer> {
+
+    public PremiumAmountCriterion(List<Range<Integer>> ranges) {
+        super(ranges);
+    }
+
+    @Override
+    protected Collection<Integer> getValues(Person person) {
+        return person.getPremiumList().getPremiums().stream()
+                .map(Premium::getPremiumAmount)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected SortedIndex<Integer, Person> getIndex(PersonIndexes indexes) {
+        return indexes.getPremiumAmountIndex();
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.Range;
+import seedu.address.model.util.SortedIndex;
+
+/**
+ * Tests that an ordered value of a {@code Person} is within any of the ranges given.
+ *
+ * @param <K> the type of the value.
+ */
+public abstract class RangeCriterion<K extends Comparable<? super K>> implements Criterion {
+
+    private final List<Range<K>> ranges;
+
+    /**
+     * Creates a {@code RangeCriterion} matching persons with a value within any of {@code ranges}.
+     */
+    protected RangeCriterion(List<Range<K>> ranges) {
+        requireNonNull(ranges);
+        checkArgument(!ranges.isEmpty(), "At least one range is required");
+        this.ranges = List.copyOf(ranges);
+    }
+
+    /**
+     * Returns the values of {@code person} that are tested against the ranges.
+     */
+    protected abstract Collection<K> getValues(Person person);
+
+    /**
+     * Returns the index of persons by the values tested against the ranges.
+     */
+    protected abstract SortedIndex<K, Person> getIndex(PersonIndexes indexes);
+
+    public List<Range<K>> getRanges() {
+        return ranges;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getValues(person).stream().anyMatch(value -> ranges.stream().anyMatch(range -> range.contains(value)));
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public Set<Person> find(PersonIndexes indexes) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Range<K> range : ranges) {
+            matches.addAll(getIndex(indexes).getRange(range));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // handles nulls
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        RangeCriterion<?> otherCriterion = (RangeCriterion<?>) other;
+        return ranges.equals(otherCriterion.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return ranges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ranges", ranges)
+                .toString();
+    }
+}
@@ -1,20 +1,35 @@
 package seedu.address.model.policy;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.InvertedIndex;
 
 /**
  * Tests that a {@code Policy}'s {@code Name} matches any of the keywords given.
  */
 public class PolicyContainsKeywordsPredicate implements Predicate<Policy> {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
     private final List<String> keywords;
 
     public PolicyContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the words in {@code policy}'s name, in lower case, under which the policy is indexed.
+     */
+    public static Set<String> getNameTokens(Policy policy) {
+        return Arrays.stream(policy.getPolicyName().policyName.toLowerCase().split("\\s+"))
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public boolean test(Policy policy) {
         return keywords.stream()
@@ -23,6 +38,25 @@ public class PolicyContainsKeywordsPredicate implements Predicate<Policy> {
                         .contains(keyword.toLowerCase()));
     }
 
+    /**
+     * Returns a predicate equivalent to this one that finds the matching policies in {@code nameIndex}
+     * instead of testing each policy's name. {@code nameIndex} must index policies by {@link #getNameTokens}.
+     */
+    public Predicate<Policy> usingIndex(InvertedIndex<Policy> nameIndex) {
+        List<String> lowerCaseKeywords = keywords.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
+        if (lowerCaseKeywords.stream().anyMatch(keyword -> keyword.isEmpty() || WHITESPACE.matcher(keyword).find())) {
+            // A keyword could span several words of a name, which the index cannot answer
+            return this;
+        }
+
+        // A keyword without whitespace is part of a name exactly when it is part of one of its words
+        return nameIndex.asPredicate(index -> index.getAll(index.getTokens().stream()
+                .filter(token -> lowerCaseKeywords.stream().anyMatch(token::contains))
+                .collect(Collectors.toList())));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
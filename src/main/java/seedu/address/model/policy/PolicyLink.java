@@ -3,6 +3,8 @@ package seedu.address.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a policy website link in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPolicyLink(String)}
@@ -17,6 +19,7 @@ public class PolicyLink {
     public static final String VALIDATION_REGEX =
         "^((ftp|http|https):\\/\\/)?(www.)?(?!.*(ftp|http|https|www.))[a-zA-Z0-9_-]"
             + "+(\\.[a-zA-Z]+)+((\\/)[\\w#]+)*(\\/\\w+\\?[a-zA-Z0-9_]+=\\w+(&[a-zA-Z0-9_]+=\\w+)*)?\\/?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -25,16 +28,33 @@ public class PolicyLink {
      * @param policyLink A valid policy website link.
      */
     public PolicyLink(String policyLink) {
+        this(policyLink, true);
+    }
+
+    /**
+     * Constructs a {@code PolicyLink}, checking that {@code policyLink} is valid only if {@code isCheckRequired}.
+     */
+    private PolicyLink(String policyLink, boolean isCheckRequired) {
         requireNonNull(policyLink);
-        checkArgument(isValidPolicyLink(policyLink), MESSAGE_CONSTRAINTS);
+        if (isCheckRequired) {
+            checkArgument(isValidPolicyLink(policyLink), MESSAGE_CONSTRAINTS);
+        }
         value = policyLink;
     }
 
+    /**
+     * Returns a {@code PolicyLink} of {@code policyLink} without checking it again.
+     * {@code policyLink} must already have been checked by {@link #isValidPolicyLink(String)}.
+     */
+    public static PolicyLink ofValidated(String policyLink) {
+        return new PolicyLink(policyLink, false);
+    }
+
     /**
      * Returns true if a given string is a valid policy website link.
      */
     public static boolean isValidPolicyLink(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Policy's name in the address book.
  * Guarantees: immutable; is valid as declared in
@@ -20,6 +22,7 @@ public class PolicyName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]{0,49}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String policyName;
 
@@ -29,16 +32,33 @@ public class PolicyName {
      * @param policyName A valid policy name.
      */
     public PolicyName(String policyName) {
+        this(policyName, true);
+    }
+
+    /**
+     * Constructs a {@code PolicyName}, checking that {@code policyName} is valid only if {@code isCheckRequired}.
+     */
+    private PolicyName(String policyName, boolean isCheckRequired) {
         requireNonNull(policyName);
-        checkArgument(isValidPolicyName(policyName), MESSAGE_CONSTRAINTS);
+        if (isCheckRequired) {
+            checkArgument(isValidPolicyName(policyName), MESSAGE_CONSTRAINTS);
+        }
         this.policyName = policyName;
     }
 
+    /**
+     * Returns a {@code PolicyName} of {@code policyName} without checking it again.
+     * {@code policyName} must already have been checked by {@link #isValidPolicyName(String)}.
+     */
+    public static PolicyName ofValidated(String policyName) {
+        return new PolicyName(policyName, false);
+    }
+
     /**
      * Returns true if a given string is a valid policy name.
      */
     public static boolean isValidPolicyName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
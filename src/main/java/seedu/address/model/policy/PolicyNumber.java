@@ -3,6 +3,8 @@ package seedu.address.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a policy number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPolicyNumber(String)}
@@ -14,6 +16,7 @@ public class PolicyNumber {
             + " not be longer than 20 characters,"
             + " and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]{0,20}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -22,16 +25,33 @@ public class PolicyNumber {
      * @param policyNumber A valid policy number.
      */
     public PolicyNumber(String policyNumber) {
+        this(policyNumber, true);
+    }
+
+    /**
+     * Constructs a {@code PolicyNumber}, checking that {@code policyNumber} is valid only if {@code isCheckRequired}.
+     */
+    private PolicyNumber(String policyNumber, boolean isCheckRequired) {
         requireNonNull(policyNumber);
-        checkArgument(isValidPolicyNumber(policyNumber), MESSAGE_CONSTRAINTS);
+        if (isCheckRequired) {
+            checkArgument(isValidPolicyNumber(policyNumber), MESSAGE_CONSTRAINTS);
+        }
         value = policyNumber;
     }
 
+    /**
+     * Returns a {@code PolicyNumber} of {@code policyNumber} without checking it again.
+     * {@code policyNumber} must already have been checked by {@link #isValidPolicyNumber(String)}.
+     */
+    public static PolicyNumber ofValidated(String policyNumber) {
+        return new PolicyNumber(policyNumber, false);
+    }
+
     /**
      * Returns true if a given string is a valid policy number.
      */
     public static boolean isValidPolicyNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
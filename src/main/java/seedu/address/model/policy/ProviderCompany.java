@@ -3,6 +3,8 @@ package seedu.address.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a provider company in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidProviderCompany(String)}
@@ -19,6 +21,7 @@ public class ProviderCompany {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]{0,69}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -28,16 +31,34 @@ public class ProviderCompany {
      * @param providerCompany A valid provider company name.
      */
     public ProviderCompany(String providerCompany) {
+        this(providerCompany, true);
+    }
+
+    /**
+     * Constructs a {@code ProviderCompany}, checking that {@code providerCompany} is valid only if
+     * {@code isCheckRequired}.
+     */
+    private ProviderCompany(String providerCompany, boolean isCheckRequired) {
         requireNonNull(providerCompany);
-        checkArgument(isValidProviderCompany(providerCompany), MESSAGE_CONSTRAINTS);
+        if (isCheckRequired) {
+            checkArgument(isValidProviderCompany(providerCompany), MESSAGE_CONSTRAINTS);
+        }
         value = providerCompany;
     }
 
+    /**
+     * Returns a {@code ProviderCompany} of {@code providerCompany} without checking it again.
+     * {@code providerCompany} must already have been checked by {@link #isValidProviderCompany(String)}.
+     */
+    public static ProviderCompany ofValidated(String providerCompany) {
+        return new ProviderCompany(providerCompany, false);
+    }
+
     /**
      * Returns true if a given string is a valid provider company name.
      */
     public static boolean isValidProviderCompany(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -98,6 +100,30 @@ public class UniquePolicyList implements Iterable<Policy> {
         internalList.setAll(policies);
     }
 
+    /**
+     * Replaces the {@code count} policies starting at {@code index} with {@code replacements}.
+     * The list must not contain duplicate policies afterwards.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the list.
+     */
+    public void replaceRange(int index, int count, List<Policy> replacements) {
+        requireAllNonNull(replacements);
+        Objects.checkFromIndexSize(index, count, internalList.size());
+        List<Policy> result = new ArrayList<>(internalList.subList(0, index));
+        result.addAll(replacements);
+        result.addAll(internalList.subList(index + count, internalList.size()));
+        if (!policiesAreUnique(result)) {
+            throw new DuplicatePolicyException();
+        }
+
+        if (count == 1 && replacements.size() == 1) {
+            internalList.set(index, replacements.get(0));
+            return;
+        }
+        internalList.remove(index, index + count);
+        internalList.addAll(index, replacements);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,350 @@
+package seedu.address.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+import seedu.address.model.person.PremiumIndex;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.ProviderCompany;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps running counts and premium totals of a portfolio of persons, overall and grouped by premium name,
+ * by tag and by the provider company of the policy each premium was bought under.
+ *
+ * The aggregates are updated as persons are added to, edited in or removed from the tracked list of persons,
+ * and as policies change in the tracked list of policies, so each aggregate can be read in constant time.
+ * The changes to the aggregates are gathered over each change of a tracked list and then published together,
+ * so that adding many persons at once sets each aggregate once rather than once per person or premium.
+ * Premiums are matched to policies by name, ignoring case, and premiums without a matching policy are
+ * aggregated as unlisted instead of under a provider.
+ */
+public class PortfolioStatistics {
+
+    public static final String PORTFOLIO_NAME = "Portfolio";
+    public static final String UNLISTED_NAME = "Not in policy book";
+
+    private final ObservableList<Policy> policies;
+
+    private final ReadOnlyIntegerWrapper clientCount = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyObjectWrapper<PremiumAggregate> portfolio =
+            new ReadOnlyObjectWrapper<>(PremiumAggregate.empty(PORTFOLIO_NAME));
+    private final ReadOnlyObjectWrapper<PremiumAggregate> unlisted =
+            new ReadOnlyObjectWrapper<>(PremiumAggregate.empty(UNLISTED_NAME));
+
+    // Groups are kept sorted by key, which is the folded premium name, the tag name and the provider name
+    private final ObservableMap<String, PremiumAggregate> byPremium = FXCollections.observableMap(new TreeMap<>());
+    private final ObservableMap<String, PremiumAggregate> byTag = FXCollections.observableMap(new TreeMap<>());
+    private final ObservableMap<String, PremiumAggregate> byProvider = FXCollections.observableMap(new TreeMap<>());
+    private final ObservableMap<String, PremiumAggregate> unmodifiableByPremium =
+            FXCollections.unmodifiableObservableMap(byPremium);
+    private final ObservableMap<String, PremiumAggregate> unmodifiableByTag =
+            FXCollections.unmodifiableObservableMap(byTag);
+    private final ObservableMap<String, PremiumAggregate> unmodifiableByProvider =
+            FXCollections.unmodifiableObservableMap(byProvider);
+
+    // The provider of the policy matching each premium name that has one
+    private final Map<String, ProviderCompany> providers = new HashMap<>();
+
+    /**
+     * Creates a {@code PortfolioStatistics} of the persons in {@code persons}, joining their premiums to
+     * the policies in {@code policies}.
+     */
+    public PortfolioStatistics(ObservableList<Person> persons, ObservableList<Policy> policies) {
+        requireNonNull(persons);
+        requireNonNull(policies);
+        this.policies = policies;
+
+        for (Policy policy : policies) {
+            providers.putIfAbsent(getKey(policy), policy.getProviderCompany());
+        }
+        Changes changes = new Changes();
+        for (Person person : persons) {
+            update(person, 1, changes);
+        }
+        publish(changes);
+        persons.addListener(this::onPersonsChanged);
+        policies.addListener(this::onPoliciesChanged);
+    }
+
+    /**
+     * Returns the number of persons in the portfolio.
+     */
+    public ReadOnlyIntegerProperty clientCountProperty() {
+        return clientCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of premiums held by all persons in the portfolio, and their total.
+     */
+    public ReadOnlyObjectProperty<PremiumAggregate> portfolioProperty() {
+        return portfolio.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of premiums that do not match any policy, and their total.
+     */
+    public ReadOnlyObjectProperty<PremiumAggregate> unlistedProperty() {
+        return unlisted.getReadOnlyProperty();
+    }
+
+    public int getClientCount() {
+        return clientCount.get();
+    }
+
+    public PremiumAggregate getPortfolio() {
+        return portfolio.get();
+    }
+
+    public PremiumAggregate getUnlisted() {
+        return unlisted.get();
+    }
+
+    /**
+     * Returns an unmodifiable map from folded premium names to the number of premiums of that name
+     * and their total, ordered by premium name.
+     */
+    public ObservableMap<String, PremiumAggregate> getByPremium() {
+        return unmodifiableByPremium;
+    }
+
+    /**
+     * Returns an unmodifiable map from tag names to the number of persons with that tag and the total of
+     * their premiums, ordered by tag name.
+     */
+    public ObservableMap<String, PremiumAggregate> getByTag() {
+        return unmodifiableByTag;
+    }
+
+    /**
+     * Returns an unmodifiable map from provider names to the number of premiums bought under the policies
+     * of that provider and their total, ordered by provider name.
+     */
+    public ObservableMap<String, PremiumAggregate> getByProvider() {
+        return unmodifiableByProvider;
+    }
+
+    /**
+     * Returns the number of premiums named {@code premiumName}, ignoring case, and their total.
+     */
+    public PremiumAggregate getPremiumAggregate(String premiumName) {
+        requireNonNull(premiumName);
+        return byPremium.getOrDefault(PremiumIndex.toKey(premiumName), PremiumAggregate.empty(premiumName));
+    }
+
+    /**
+     * Returns the number of persons tagged {@code tagName} and the total of their premiums.
+     */
+    public PremiumAggregate getTagAggregate(String tagName) {
+        requireNonNull(tagName);
+        return byTag.getOrDefault(tagName, PremiumAggregate.empty(tagName));
+    }
+
+    /**
+     * Returns the number of premiums bought under the policies of {@code providerName} and their total.
+     */
+    public PremiumAggregate getProviderAggregate(String providerName) {
+        requireNonNull(providerName);
+        return byProvider.getOrDefault(providerName, PremiumAggregate.empty(providerName));
+    }
+
+    /**
+     * Returns the number of premiums held by {@code person} and their total.
+     */
+    public static PremiumAggregate getClientAggregate(Person person) {
+        requireNonNull(person);
+        return new PremiumAggregate(person.getName().fullName, person.getPremiumList().size(),
+                getTotalPremium(person));
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        Changes changes = new Changes();
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                update(removed, -1, changes);
+            }
+            for (Person added : change.getAddedSubList()) {
+                update(added, 1, changes);
+            }
+        }
+        publish(changes);
+    }
+
+    /**
+     * Adds the premiums of {@code person} to {@code changes} if {@code sign} is 1, or takes them out if
+     * {@code sign} is -1.
+     */
+    private void update(Person person, int sign, Changes changes) {
+        long personTotal = getTotalPremium(person);
+        changes.clientCount += sign;
+        changes.portfolio = changes.portfolio.plus(sign * person.getPremiumList().size(), sign * personTotal);
+
+        for (Premium premium : person.getPremiumList().getPremiums()) {
+            String key = PremiumIndex.toKey(premium.getPremiumName());
+            long amount = sign * (long) premium.getPremiumAmount();
+            Changes.adjust(changes.byPremium, key, premium.getPremiumName(), sign, amount);
+
+            ProviderCompany provider = providers.get(key);
+            if (provider == null) {
+                changes.unlisted = changes.unlisted.plus(sign, amount);
+            } else {
+                Changes.adjust(changes.byProvider, provider.value, provider.value, sign, amount);
+            }
+        }
+
+        for (Tag tag : person.getTags()) {
+            Changes.adjust(changes.byTag, tag.tagName, tag.tagName, sign, sign * personTotal);
+        }
+    }
+
+    private void onPoliciesChanged(ListChangeListener.Change<? extends Policy> change) {
+        Set<String> changedKeys = new HashSet<>();
+        while (change.next()) {
+            for (Policy removed : change.getRemoved()) {
+                changedKeys.add(getKey(removed));
+            }
+            for (Policy added : change.getAddedSubList()) {
+                changedKeys.add(getKey(added));
+            }
+        }
+        Changes changes = new Changes();
+        for (String key : changedKeys) {
+            updateProvider(key, changes);
+        }
+        publish(changes);
+    }
+
+    /**
+     * Moves the premiums named by {@code key} to the provider of the first policy of that name,
+     * if it is no longer the provider they are aggregated under, by adding the move to {@code changes}.
+     */
+    private void updateProvider(String key, Changes changes) {
+        ProviderCompany newProvider = null;
+        for (Policy policy : policies) {
+            if (getKey(policy).equals(key)) {
+                newProvider = policy.getProviderCompany();
+                break;
+            }
+        }
+        ProviderCompany oldProvider = providers.get(key);
+        if (newProvider == null ? oldProvider == null : newProvider.equals(oldProvider)) {
+            return;
+        }
+
+        if (newProvider == null) {
+            providers.remove(key);
+        } else {
+            providers.put(key, newProvider);
+        }
+
+        PremiumAggregate premiums = byPremium.get(key);
+        if (premiums == null) {
+            return;
+        }
+        if (oldProvider == null) {
+            changes.unlisted = changes.unlisted.plus(-premiums.getCount(), -premiums.getTotal());
+        } else {
+            Changes.adjust(changes.byProvider, oldProvider.value, oldProvider.value, -premiums.getCount(),
+                    -premiums.getTotal());
+        }
+        if (newProvider == null) {
+            changes.unlisted = changes.unlisted.plus(premiums.getCount(), premiums.getTotal());
+        } else {
+            Changes.adjust(changes.byProvider, newProvider.value, newProvider.value, premiums.getCount(),
+                    premiums.getTotal());
+        }
+    }
+
+    /**
+     * Applies {@code changes} to the aggregates, setting each aggregate that changed once.
+     */
+    private void publish(Changes changes) {
+        if (changes.clientCount != 0) {
+            clientCount.set(clientCount.get() + changes.clientCount);
+        }
+        if (!Changes.isNone(changes.portfolio)) {
+            portfolio.set(portfolio.get().plus(changes.portfolio.getCount(), changes.portfolio.getTotal()));
+        }
+        if (!Changes.isNone(changes.unlisted)) {
+            unlisted.set(unlisted.get().plus(changes.unlisted.getCount(), changes.unlisted.getTotal()));
+        }
+        publish(changes.byPremium, byPremium);
+        publish(changes.byTag, byTag);
+        publish(changes.byProvider, byProvider);
+    }
+
+    private static void publish(Map<String, PremiumAggregate> changes, ObservableMap<String, PremiumAggregate> groups) {
+        changes.forEach((key, change) -> {
+            if (!Changes.isNone(change)) {
+                adjust(groups, key, change.getName(), change.getCount(), change.getTotal());
+            }
+        });
+    }
+
+    /**
+     * Adds {@code count} items paying {@code total} to the group at {@code key} of {@code groups}, creating the
+     * group with {@code name} if it does not exist, and removing it once it has no more items.
+     */
+    private static void adjust(ObservableMap<String, PremiumAggregate> groups, String key, String name,
+            int count, long total) {
+        PremiumAggregate aggregate = groups.getOrDefault(key, PremiumAggregate.empty(name)).plus(count, total);
+        if (aggregate.isEmpty()) {
+            groups.remove(key);
+        } else {
+            groups.put(key, aggregate);
+        }
+    }
+
+    /**
+     * Changes to the aggregates gathered over one change of a tracked list, each held as the count and total
+     * to add to an aggregate.
+     */
+    private static class Changes {
+        private int clientCount;
+        private PremiumAggregate portfolio = PremiumAggregate.empty(PORTFOLIO_NAME);
+        private PremiumAggregate unlisted = PremiumAggregate.empty(UNLISTED_NAME);
+        private final Map<String, PremiumAggregate> byPremium = new HashMap<>();
+        private final Map<String, PremiumAggregate> byTag = new HashMap<>();
+        private final Map<String, PremiumAggregate> byProvider = new HashMap<>();
+
+        /**
+         * Adds {@code count} items paying {@code total} to the change to the group at {@code key}.
+         */
+        private static void adjust(Map<String, PremiumAggregate> groupChanges, String key, String name,
+                int count, long total) {
+            PremiumAggregate change = groupChanges.getOrDefault(key, PremiumAggregate.empty(name));
+            groupChanges.put(key, change.plus(count, total));
+        }
+
+        private static boolean isNone(PremiumAggregate change) {
+            return change.getCount() == 0 && change.getTotal() == 0;
+        }
+    }
+
+    private static long getTotalPremium(Person person) {
+        long total = 0;
+        for (Premium premium : person.getPremiumList().getPremiums()) {
+            total += premium.getPremiumAmount();
+        }
+        return total;
+    }
+
+    private static String getKey(Policy policy) {
+        return PremiumIndex.toKey(policy.getPolicyName().policyName);
+    }
+}
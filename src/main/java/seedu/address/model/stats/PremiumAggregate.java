@@ -0,0 +1,91 @@
+package seedu.address.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the number of items in a group of a portfolio, and the total premium of those items.
+ * Guarantees: immutable.
+ */
+public class PremiumAggregate {
+
+    private final String name;
+    private final int count;
+    private final long total;
+
+    /**
+     * Creates a {@code PremiumAggregate} of {@code count} items in the group named {@code name}
+     * paying {@code total} in premiums.
+     */
+    public PremiumAggregate(String name, int count, long total) {
+        requireNonNull(name);
+        this.name = name;
+        this.count = count;
+        this.total = total;
+    }
+
+    /**
+     * Returns an aggregate with no items in the group named {@code name}.
+     */
+    public static PremiumAggregate empty(String name) {
+        return new PremiumAggregate(name, 0, 0);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns an aggregate of the same group with {@code count} more items paying {@code total} more.
+     * Both may be negative to take items out of the group.
+     */
+    public PremiumAggregate plus(int count, long total) {
+        return new PremiumAggregate(name, this.count + count, this.total + total);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PremiumAggregate)) {
+            return false;
+        }
+
+        PremiumAggregate otherAggregate = (PremiumAggregate) other;
+        return name.equals(otherAggregate.name)
+                && count == otherAggregate.count
+                && total == otherAggregate.total;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, count, total);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("count", count)
+                .add("total", total)
+                .toString();
+    }
+}
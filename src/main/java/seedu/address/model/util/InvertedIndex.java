@@ -0,0 +1,106 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Maps tokens to the items that contain them.
+ * Items are compared by identity, so the index must be given the same instances that are stored in the
+ * list it indexes.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class InvertedIndex<T> {
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private long modificationCount;
+
+    /**
+     * Records that {@code item} contains each of {@code tokens}.
+     */
+    public void add(T item, Collection<String> tokens) {
+        requireNonNull(item);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the records that {@code item} contains each of {@code tokens}.
+     */
+    public void remove(T item, Collection<String> tokens) {
+        requireNonNull(item);
+        for (String token : tokens) {
+            Set<T> items = postings.get(token);
+            if (items != null && items.remove(item) && items.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        postings.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the items that contain {@code token}.
+     */
+    public Set<T> get(String token) {
+        Set<T> items = postings.get(token);
+        return items == null ? Collections.emptySet() : Collections.unmodifiableSet(items);
+    }
+
+    /**
+     * Returns a new set of the items that contain any of {@code tokens}.
+     */
+    public Set<T> getAll(Collection<String> tokens) {
+        Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens) {
+            items.addAll(get(token));
+        }
+        return items;
+    }
+
+    /**
+     * Returns an unmodifiable view of all tokens contained by at least one item.
+     */
+    public Set<String> getTokens() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Returns a predicate that tests whether an item is among those found by {@code finder} in this index.
+     * The items are found again only after the index has been modified, so testing each item of a list
+     * against the predicate costs a single lookup per item.
+     */
+    public Predicate<T> asPredicate(Function<InvertedIndex<T>, Set<T>> finder) {
+        requireNonNull(finder);
+        return new Predicate<>() {
+            private Set<T> matches;
+            private long matchesModificationCount;
+
+            @Override
+            public boolean test(T item) {
+                if (matches == null || matchesModificationCount != modificationCount) {
+                    matches = finder.apply(InvertedIndex.this);
+                    matchesModificationCount = modificationCount;
+                }
+                return matches.contains(item);
+            }
+        };
+    }
+}
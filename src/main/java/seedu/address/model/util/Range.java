@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the values between two bounds, inclusive of both. Either bound may be left out to leave the
+ * range unbounded on that side.
+ * Guarantees: immutable; the lower bound is not greater than the upper bound.
+ *
+ * @param <K> the type of the values.
+ */
+public class Range<K extends Comparable<? super K>> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start of a range should not be after its end";
+
+    private final K from;
+    private final K to;
+
+    /**
+     * Creates a {@code Range} from {@code from} to {@code to}, where a null bound leaves that side unbounded.
+     */
+    public Range(K from, K to) {
+        checkArgument(from == null || to == null || from.compareTo(to) <= 0, MESSAGE_CONSTRAINTS);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns a range containing only {@code value}.
+     */
+    public static <K extends Comparable<? super K>> Range<K> of(K value) {
+        return new Range<>(Objects.requireNonNull(value), value);
+    }
+
+    public Optional<K> getFrom() {
+        return Optional.ofNullable(from);
+    }
+
+    public Optional<K> getTo() {
+        return Optional.ofNullable(to);
+    }
+
+    /**
+     * Returns true if {@code value} is within this range.
+     */
+    public boolean contains(K value) {
+        return (from == null || from.compareTo(value) <= 0) && (to == null || to.compareTo(value) >= 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Range)) {
+            return false;
+        }
+
+        Range<?> otherRange = (Range<?>) other;
+        return Objects.equals(from, otherRange.from)
+                && Objects.equals(to, otherRange.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return (from == null ? "" : from) + ".." + (to == null ? "" : to);
+    }
+}
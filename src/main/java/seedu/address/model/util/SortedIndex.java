@@ -0,0 +1,74 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Maps ordered keys to the items that have them, so the items with keys in a range can be found without
+ * testing every item.
+ * Items are compared by identity, so the index must be given the same instances that are stored in the
+ * list it indexes.
+ *
+ * @param <K> the type of the keys.
+ * @param <T> the type of the indexed items.
+ */
+public class SortedIndex<K extends Comparable<? super K>, T> {
+
+    private final NavigableMap<K, Set<T>> entries = new TreeMap<>();
+
+    /**
+     * Records that {@code item} has each of {@code keys}.
+     */
+    public void add(T item, Collection<K> keys) {
+        requireNonNull(item);
+        for (K key : keys) {
+            entries.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    /**
+     * Removes the records that {@code item} has each of {@code keys}.
+     */
+    public void remove(T item, Collection<K> keys) {
+        requireNonNull(item);
+        for (K key : keys) {
+            Set<T> items = entries.get(key);
+            if (items != null && items.remove(item) && items.isEmpty()) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a new set of the items that have a key within {@code range}.
+     */
+    public Set<T> getRange(Range<K> range) {
+        requireNonNull(range);
+        NavigableMap<K, Set<T>> keysInRange = entries;
+        if (range.getFrom().isPresent()) {
+            keysInRange = keysInRange.tailMap(range.getFrom().get(), true);
+        }
+        if (range.getTo().isPresent()) {
+            keysInRange = keysInRange.headMap(range.getTo().get(), true);
+        }
+
+        Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<T> itemsWithKey : keysInRange.values()) {
+            items.addAll(itemsWithKey);
+        }
+        return items;
+    }
+}
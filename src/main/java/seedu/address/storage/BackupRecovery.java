@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads data files that are saved with backups, falling back to the newest readable backup
+ * when the file itself is missing or cannot be read.
+ */
+final class BackupRecovery {
+
+    /** Number of previous versions kept when saving a data file. */
+    public static final int BACKUP_GENERATIONS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BackupRecovery.class);
+
+    private BackupRecovery() {}
+
+    /**
+     * Returns the data read by {@code reader} from {@code filePath}, or from the newest of its backups that
+     * can be read if {@code filePath} is missing or cannot be read.
+     * Returns {@code Optional.empty()} if neither the file nor any of its backups exist.
+     *
+     * @throws DataLoadingException if the file exists but neither it nor any of its backups could be read.
+     */
+    public static <T> Optional<T> read(Path filePath, FileReader<T> reader) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        DataLoadingException fileFailure = null;
+        if (Files.exists(filePath)) {
+            try {
+                return Optional.of(reader.read(filePath));
+            } catch (DataLoadingException e) {
+                fileFailure = e;
+            }
+        }
+
+        for (int generation = 1; generation <= BACKUP_GENERATIONS; generation++) {
+            Path backupPath = FileUtil.getBackupPath(filePath, generation);
+            if (!Files.exists(backupPath)) {
+                continue;
+            }
+            try {
+                T data = reader.read(backupPath);
+                logger.warning("Could not read " + filePath + ", recovered data from backup " + backupPath);
+                return Optional.of(data);
+            } catch (DataLoadingException e) {
+                logger.warning("Could not read backup " + backupPath + ": " + e.getMessage());
+            }
+        }
+
+        if (fileFailure != null) {
+            throw fileFailure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the data in an existing file.
+     */
+    @FunctionalInterface
+    interface FileReader<T> {
+        T read(Path filePath) throws DataLoadingException;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the unvalidated fields of one person read from a file being imported.
+ * Fields missing from the file are null, and tags missing from the file are empty.
+ * Guarantees: immutable.
+ */
+public class ImportRow {
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String birthday;
+    private final String premiums;
+    private final List<String> tags;
+
+    /**
+     * Creates an {@code ImportRow} of the fields read from the record starting on line {@code lineNumber}.
+     */
+    public ImportRow(int lineNumber, String name, String phone, String email, String address, String birthday,
+            String premiums, List<String> tags) {
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.birthday = birthday;
+        this.premiums = premiums;
+        this.tags = tags == null
+                ? List.of()
+                : tags.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableList());
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getBirthday() {
+        return birthday;
+    }
+
+    public String getPremiums() {
+        return premiums;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportRow)) {
+            return false;
+        }
+
+        ImportRow otherRow = (ImportRow) other;
+        return lineNumber == otherRow.lineNumber
+                && Objects.equals(name, otherRow.name)
+                && Objects.equals(phone, otherRow.phone)
+                && Objects.equals(email, otherRow.email)
+                && Objects.equals(address, otherRow.address)
+                && Objects.equals(birthday, otherRow.birthday)
+                && Objects.equals(premiums, otherRow.premiums)
+                && tags.equals(otherRow.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineNumber, name, phone, email, address, birthday, premiums, tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineNumber", lineNumber)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("birthday", birthday)
+                .add("premiums", premiums)
+                .add("tags", tags)
+                .toString();
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * The snapshot uses the same format as {@link JsonAddressBookStorage}, so existing data files are
+ * picked up as the initial snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final ListJournal<Person> journal = new ListJournal<>() {
+        @Override
+        protected String toSnapshotJson(List<Person> persons) throws IOException {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        }
+
+        @Override
+        protected List<Person> fromSnapshotJson(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelPersons();
+        }
+
+        @Override
+        protected String toRecordJson(Person person) throws IOException {
+            return JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person));
+        }
+
+        @Override
+        protected Person fromRecordJson(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        }
+    };
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void createDefaultAddressBook(Path filePath) throws IOException {
+        new JsonAddressBookStorage(filePath).createDefaultAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readPersons(filePath).map(persons -> {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        });
+    }
+
+    @Override
+    public Optional<List<Person>> readPersons() throws DataLoadingException {
+        return readPersons(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPersons()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<List<Person>> readPersons(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            try {
+                createDefaultAddressBook(filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to create default address book file: " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+
+        List<Person> persons = journal.read(filePath);
+        if (!UniquePersonList.personsAreUnique(persons)) {
+            logger.info("Duplicate persons found in " + filePath);
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return Optional.of(persons);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        journal.save(addressBook.getPersonList(), filePath);
+    }
+
+}
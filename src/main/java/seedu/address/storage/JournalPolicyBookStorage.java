@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.ReadOnlyPolicyBook;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.exceptions.DuplicatePolicyException;
+
+/**
+ * A class to access PolicyBook data stored as a json snapshot plus an append-only journal of changes.
+ * The snapshot uses the same format as {@link JsonPolicyBookStorage}, so existing data files are
+ * picked up as the initial snapshot.
+ */
+public class JournalPolicyBookStorage implements PolicyBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalPolicyBookStorage.class);
+
+    private final Path filePath;
+    private final ListJournal<Policy> journal = new ListJournal<>() {
+        @Override
+        protected String toSnapshotJson(List<Policy> policies) throws IOException {
+            PolicyBook policyBook = new PolicyBook();
+            policyBook.setPolicys(policies);
+            return JsonUtil.toJsonString(new JsonSerializablePolicyBook(policyBook));
+        }
+
+        @Override
+        protected List<Policy> fromSnapshotJson(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonSerializablePolicyBook.class).toModelType().getPolicyList();
+        }
+
+        @Override
+        protected String toRecordJson(Policy policy) throws IOException {
+            return JsonUtil.toCompactJsonString(new JsonAdaptedPolicy(policy));
+        }
+
+        @Override
+        protected Policy fromRecordJson(String json) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(json, JsonAdaptedPolicy.class).toModelType();
+        }
+    };
+
+    public JournalPolicyBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getPolicyBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void createDefaultPolicyBook(Path filePath) throws IOException {
+        new JsonPolicyBookStorage(filePath).createDefaultPolicyBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyPolicyBook> readPolicyBook() throws DataLoadingException {
+        return readPolicyBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPolicyBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyPolicyBook> readPolicyBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            try {
+                createDefaultPolicyBook(filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to create default policy book file: " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+
+        PolicyBook policyBook = new PolicyBook();
+        try {
+            policyBook.setPolicys(journal.read(filePath));
+        } catch (DuplicatePolicyException e) {
+            logger.info("Duplicate policies found in " + filePath);
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializablePolicyBook.MESSAGE_DUPLICATE_POLICY));
+        }
+        return Optional.of(policyBook);
+    }
+
+    @Override
+    public void savePolicyBook(ReadOnlyPolicyBook policyBook) throws IOException {
+        savePolicyBook(policyBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePolicyBook(ReadOnlyPolicyBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void savePolicyBook(ReadOnlyPolicyBook policyBook, Path filePath) throws IOException {
+        requireNonNull(policyBook);
+        requireNonNull(filePath);
+
+        journal.save(policyBook.getPolicyList(), filePath);
+    }
+
+}
@@ -60,7 +60,7 @@ class JsonAdaptedPolicy {
         if (!PolicyLink.isValidPolicyLink(policyLink)) {
             throw new IllegalValueException(PolicyLink.MESSAGE_CONSTRAINTS);
         }
-        final PolicyLink modelPolicyLink = new PolicyLink(policyLink);
+        final PolicyLink modelPolicyLink = PolicyLink.ofValidated(policyLink);
 
         if (policyNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "PolicyNumber"));
@@ -68,7 +68,7 @@ class JsonAdaptedPolicy {
         if (!PolicyNumber.isValidPolicyNumber(policyNumber)) {
             throw new IllegalValueException(PolicyNumber.MESSAGE_CONSTRAINTS);
         }
-        final PolicyNumber modelPolicyNumber = new PolicyNumber(policyNumber);
+        final PolicyNumber modelPolicyNumber = PolicyNumber.ofValidated(policyNumber);
 
         if (policyName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "PolicyName"));
@@ -76,7 +76,7 @@ class JsonAdaptedPolicy {
         if (!PolicyName.isValidPolicyName(policyName)) {
             throw new IllegalValueException(PolicyName.MESSAGE_CONSTRAINTS);
         }
-        final PolicyName modelPolicyName = new PolicyName(policyName);
+        final PolicyName modelPolicyName = PolicyName.ofValidated(policyName);
 
         if (providerCompany == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "ProviderCompany"));
@@ -84,7 +84,7 @@ class JsonAdaptedPolicy {
         if (!ProviderCompany.isValidProviderCompany(providerCompany)) {
             throw new IllegalValueException(ProviderCompany.MESSAGE_CONSTRAINTS);
         }
-        final ProviderCompany modelProviderCompany = new ProviderCompany(providerCompany);
+        final ProviderCompany modelProviderCompany = ProviderCompany.ofValidated(providerCompany);
 
         return new Policy(modelPolicyName, modelPolicyNumber, modelProviderCompany, modelPolicyLink);
     }
@@ -1,7 +1,13 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Premium;
 import seedu.address.model.person.PremiumList;
 
@@ -11,6 +17,8 @@ import seedu.address.model.person.PremiumList;
  */
 public class JsonAdaptedPremiumList {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPremiumList.class);
+
     /**
      * List of JSON-adapted premiums.
      */
@@ -47,22 +55,35 @@ public class JsonAdaptedPremiumList {
      * @param premiumList The model PremiumList to add from.
      */
     public void addAll(PremiumList premiumList) {
-        premiumList.premiumList.stream().forEach(premium -> {
+        premiumList.getPremiums().forEach(premium -> {
             this.premiumList.add(new JsonAdaptedPremium(premium.getPremiumName(), premium.getPremiumAmount()));
         });
     }
 
     /**
      * Converts this Jackson-friendly adapted premium list into the model's {@code PremiumList} object.
+     * Data files written before premium names had to be unique may repeat a name, so only the first premium
+     * of each name is kept, and a warning naming {@code ownerName} is logged for the others.
      *
+     * @param ownerName The name of the person holding the premiums, used in warnings.
      * @return The model PremiumList object.
+     * @throws IllegalValueException if any of the premiums is invalid.
      */
-    public PremiumList toModelType() {
-        PremiumList modelPremiumList = new PremiumList();
+    public PremiumList toModelType(String ownerName) throws IllegalValueException {
+        List<Premium> modelPremiums = new ArrayList<>();
+        Set<String> premiumNames = new HashSet<>();
         for (JsonAdaptedPremium premium : premiumList) {
-            modelPremiumList.add(new Premium(premium.premiumName, premium.premiumAmount));
+            if (!Premium.isValidPremium(premium.premiumName, premium.premiumAmount)) {
+                throw new IllegalValueException(Premium.MESSAGE_CONSTRAINTS);
+            }
+            if (!premiumNames.add(premium.premiumName)) {
+                logger.warning("Ignoring premium " + premium.premiumName + " $" + premium.premiumAmount + " of "
+                        + ownerName + ", as it is given more than once");
+                continue;
+            }
+            modelPremiums.add(Premium.ofValidated(premium.premiumName, premium.premiumAmount));
         }
-        return modelPremiumList;
+        return new PremiumList(modelPremiums);
     }
 
     /**
@@ -3,9 +3,9 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -14,15 +14,22 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Persons are read and written one at a time, so the whole file is never held in memory.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    /** Name of the field holding the persons, as written by {@link JsonSerializableAddressBook}. */
+    private static final String PERSONS_FIELD = "persons";
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -117,8 +124,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
               } ]
             }
             """;
-        Files.createDirectories(filePath.getParent());
-        Files.writeString(filePath, defaultJson, StandardCharsets.UTF_8);
+        FileUtil.writeToFile(filePath, defaultJson);
     }
 
     @Override
@@ -128,34 +134,65 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Falls back to the newest readable backup if the file is missing or cannot be read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readPersons(filePath).map(persons -> {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        });
+    }
+
+    @Override
+    public Optional<List<Person>> readPersons() throws DataLoadingException {
+        return readPersons(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPersons()}.
+     * Falls back to the newest readable backup if the file is missing or cannot be read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<List<Person>> readPersons(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
-            try {
-                createDefaultAddressBook(filePath);
-            } catch (IOException e) {
-                logger.warning("Failed to create default address book file: " + e.getMessage());
-                throw new DataLoadingException(e);
-            }
+        Optional<List<Person>> persons = BackupRecovery.read(filePath, this::readPersonsFile);
+        if (persons.isPresent()) {
+            return persons;
         }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        try {
+            createDefaultAddressBook(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to create default address book file: " + e.getMessage());
+            throw new DataLoadingException(e);
         }
+        return Optional.of(readPersonsFile(filePath));
+    }
 
+    private List<Person> readPersonsFile(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
+        List<Person> persons = new ArrayList<>();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class, jsonAdaptedPerson ->
+                    persons.add(jsonAdaptedPerson.toModelType()));
+            if (!UniquePersonList.personsAreUnique(persons)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return persons;
     }
 
     @Override
@@ -172,8 +209,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        List<Person> persons = addressBook.getPersonList();
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD, () -> persons.stream()
+                .map(JsonAdaptedPerson::new)
+                .iterator(), BackupRecovery.BACKUP_GENERATIONS);
     }
 
 }
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of an {@link ImportRow}, in the same format as a {@link JsonAdaptedPerson}.
+ */
+class JsonImportedPerson {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String birthday;
+    private final String premiums;
+    private final List<String> tags;
+
+    /**
+     * Constructs a {@code JsonImportedPerson} with the given person details.
+     */
+    @JsonCreator
+    public JsonImportedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+            @JsonProperty("email") String email, @JsonProperty("address") String address,
+            @JsonProperty("birthday") String birthday, @JsonProperty("premiums") String premiums,
+            @JsonProperty("tags") List<String> tags) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.birthday = birthday;
+        this.premiums = premiums;
+        this.tags = tags;
+    }
+
+    /**
+     * Converts this Jackson-friendly person into an {@code ImportRow} starting on line {@code lineNumber}.
+     */
+    public ImportRow toImportRow(int lineNumber) {
+        return new ImportRow(lineNumber, name, phone, email, address, birthday, premiums, tags);
+    }
+}
@@ -3,8 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -70,8 +69,7 @@ public class JsonPolicyBookStorage implements PolicyBookStorage {
               } ]
             }
             """;
-        Files.createDirectories(filePath.getParent());
-        Files.writeString(filePath, defaultJson, StandardCharsets.UTF_8);
+        FileUtil.writeToFile(filePath, defaultJson);
     }
 
     @Override
@@ -81,6 +79,7 @@ public class JsonPolicyBookStorage implements PolicyBookStorage {
 
     /**
      * Similar to {@link #readPolicyBook()}.
+     * Falls back to the newest readable backup if the file is missing or cannot be read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -88,23 +87,29 @@ public class JsonPolicyBookStorage implements PolicyBookStorage {
     public Optional<ReadOnlyPolicyBook> readPolicyBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
-            try {
-                createDefaultPolicyBook(filePath);
-            } catch (IOException e) {
-                logger.warning("Failed to create default policy book file: " + e.getMessage());
-                throw new DataLoadingException(e);
-            }
+        Optional<ReadOnlyPolicyBook> policyBook = BackupRecovery.read(filePath, this::readPolicyBookFile);
+        if (policyBook.isPresent()) {
+            return policyBook;
         }
 
+        try {
+            createDefaultPolicyBook(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to create default policy book file: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(readPolicyBookFile(filePath));
+    }
+
+    private ReadOnlyPolicyBook readPolicyBookFile(Path filePath) throws DataLoadingException {
         Optional<JsonSerializablePolicyBook> jsonPolicyBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializablePolicyBook.class);
         if (!jsonPolicyBook.isPresent()) {
-            return Optional.empty();
+            throw new DataLoadingException(new NoSuchFileException(filePath.toString()));
         }
 
         try {
-            return Optional.of(jsonPolicyBook.get().toModelType());
+            return jsonPolicyBook.get().toModelType();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -125,7 +130,7 @@ public class JsonPolicyBookStorage implements PolicyBookStorage {
         requireNonNull(policyBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePolicyBook(policyBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializablePolicyBook(policyBook), filePath,
+                BackupRecovery.BACKUP_GENERATIONS);
     }
 }
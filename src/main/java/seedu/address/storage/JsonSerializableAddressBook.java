@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -57,4 +58,21 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts the persons of this address book into the model's {@code Person} objects, without building
+     * an address book from them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or two persons are the same.
+     */
+    public List<Person> toModelPersons() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        if (!UniquePersonList.personsAreUnique(modelPersons)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        return modelPersons;
+    }
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -32,16 +33,25 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * Falls back to the newest readable backup if the file is missing or cannot be read.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        return BackupRecovery.read(prefsFilePath, this::readUserPrefsFile);
+    }
+
+    private UserPrefs readUserPrefsFile(Path prefsFilePath) throws DataLoadingException {
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        if (!userPrefs.isPresent()) {
+            throw new DataLoadingException(new NoSuchFileException(prefsFilePath.toString()));
+        }
+        return userPrefs.get();
     }
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFile(userPrefs, filePath, BackupRecovery.BACKUP_GENERATIONS);
     }
 
 }
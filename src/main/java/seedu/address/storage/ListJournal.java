@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Persists an ordered list of items as a JSON snapshot of the whole list plus an append-only journal
+ * of the changes made since that snapshot.
+ *
+ * Each save appends one line per inserted, replaced or removed item to the journal. The journal is
+ * compacted into a new snapshot once it grows past {@link #COMPACTION_THRESHOLD} records, or when a
+ * change cannot be expressed cheaply as a sequence of records (e.g. the list was cleared or reordered).
+ *
+ * The journal starts with a header recording the checksum of the snapshot it applies to, so a journal
+ * left behind by a crash during compaction is recognised as stale and ignored. A torn last record left
+ * behind by a crash during an append is likewise ignored, and the next save compacts the journal rather than
+ * appending to the torn record.
+ *
+ * @param <T> the type of the items in the list, which must be immutable.
+ */
+abstract class ListJournal<T> {
+
+    public static final int COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(ListJournal.class);
+
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String HEADER = "base";
+    private static final String INSERT = "insert";
+    private static final String SET = "set";
+    private static final String REMOVE = "remove";
+
+    // State of the snapshot and journal at trackedPath, as of the last read or save
+    private Path trackedPath;
+    private List<T> savedItems;
+    private long snapshotChecksum;
+    private int journalLength;
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Converts {@code items} into the JSON representation of the whole list.
+     */
+    protected abstract String toSnapshotJson(List<T> items) throws IOException;
+
+    /**
+     * Converts the JSON representation of the whole list back into its items.
+     */
+    protected abstract List<T> fromSnapshotJson(String json) throws IOException, IllegalValueException;
+
+    /**
+     * Converts {@code item} into a single-line JSON representation.
+     */
+    protected abstract String toRecordJson(T item) throws IOException;
+
+    /**
+     * Converts the single-line JSON representation of an item back into the item.
+     */
+    protected abstract T fromRecordJson(String json) throws IOException, IllegalValueException;
+
+    /**
+     * Returns the items in the snapshot at {@code snapshotPath} with the changes in its journal applied.
+     * The snapshot must exist.
+     *
+     * @throws DataLoadingException if the snapshot or the journal could not be read.
+     */
+    public List<T> read(Path snapshotPath) throws DataLoadingException {
+        requireNonNull(snapshotPath);
+
+        List<T> items;
+        long checksum;
+        try {
+            byte[] snapshotBytes = Files.readAllBytes(snapshotPath);
+            checksum = checksumOf(snapshotBytes);
+            items = new ArrayList<>(fromSnapshotJson(new String(snapshotBytes, StandardCharsets.UTF_8)));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading snapshot " + snapshotPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        OptionalInt appliedRecords = replayJournal(getJournalPath(snapshotPath), checksum, items);
+        if (appliedRecords.isEmpty()) {
+            // Left untracked, so that the next save compacts the journal instead of appending to its torn record
+            trackedPath = null;
+            return items;
+        }
+
+        trackedPath = snapshotPath;
+        savedItems = new ArrayList<>(items);
+        snapshotChecksum = checksum;
+        journalLength = appliedRecords.getAsInt();
+        return items;
+    }
+
+    /**
+     * Saves {@code items} to the snapshot at {@code snapshotPath}, appending to its journal if only the
+     * changes since the last read or save need to be written.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void save(List<T> items, Path snapshotPath) throws IOException {
+        requireNonNull(items);
+        requireNonNull(snapshotPath);
+
+        if (!snapshotPath.equals(trackedPath) || !FileUtil.isFileExists(snapshotPath)) {
+            compact(items, snapshotPath);
+            return;
+        }
+
+        List<String> records = diff(savedItems, items);
+        if (records == null || journalLength + records.size() > COMPACTION_THRESHOLD) {
+            compact(items, snapshotPath);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Path journalPath = getJournalPath(snapshotPath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalPath)) {
+            lines.append(HEADER).append(FIELD_SEPARATOR).append(snapshotChecksum).append(System.lineSeparator());
+        }
+        for (String record : records) {
+            lines.append(record).append(System.lineSeparator());
+        }
+        // Forced to the disk before returning, so a change that was saved is not lost on a power failure
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        savedItems = new ArrayList<>(items);
+        journalLength += records.size();
+    }
+
+    /**
+     * Replaces the snapshot at {@code snapshotPath} with {@code items} and discards its journal.
+     */
+    private void compact(List<T> items, Path snapshotPath) throws IOException {
+        logger.fine("Compacting journal into snapshot " + snapshotPath);
+        String snapshotJson = toSnapshotJson(items);
+        byte[] snapshotBytes = snapshotJson.getBytes(StandardCharsets.UTF_8);
+
+        FileUtil.writeToFile(snapshotPath, snapshotJson);
+        Files.deleteIfExists(getJournalPath(snapshotPath));
+
+        trackedPath = snapshotPath;
+        savedItems = new ArrayList<>(items);
+        snapshotChecksum = checksumOf(snapshotBytes);
+        journalLength = 0;
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code items}.
+     * A journal that does not belong to the snapshot with {@code checksum} is deleted instead.
+     *
+     * @return the number of records applied, or an empty {@code OptionalInt} if the last record was torn
+     *     and skipped.
+     * @throws DataLoadingException if the journal could not be read or contains an invalid record.
+     */
+    private OptionalInt replayJournal(Path journalPath, long checksum, List<T> items) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return OptionalInt.of(0);
+        }
+
+        String journal;
+        List<String> lines;
+        try {
+            journal = Files.readString(journalPath, StandardCharsets.UTF_8);
+            lines = journal.lines().toList();
+            if (lines.isEmpty() || !lines.get(0).equals(HEADER + FIELD_SEPARATOR + checksum)) {
+                logger.info("Discarding journal " + journalPath + " as it does not match its snapshot.");
+                Files.delete(journalPath);
+                return OptionalInt.of(0);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        // Every record is written together with its line separator, so a last line without one is torn
+        boolean isTorn = !journal.endsWith("\n");
+        int end = isTorn ? lines.size() - 1 : lines.size();
+        int applied = 0;
+        for (int i = 1; i < end; i++) {
+            try {
+                applyRecord(lines.get(i), items);
+                applied++;
+            } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+                if (i == lines.size() - 1) {
+                    isTorn = true;
+                    break;
+                }
+                logger.warning("Invalid record at line " + (i + 1) + " of journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+        logger.info("Replayed " + applied + " records from journal " + journalPath);
+
+        if (isTorn) {
+            logger.warning("Ignoring incomplete last record in journal " + journalPath + ": "
+                    + lines.get(lines.size() - 1));
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(applied);
+    }
+
+    private void applyRecord(String record, List<T> items) throws IOException, IllegalValueException {
+        String[] fields = record.split(FIELD_SEPARATOR, 3);
+        if (fields.length < 2) {
+            throw new IllegalArgumentException("Malformed record: " + record);
+        }
+        String operation = fields[0];
+        int index = Integer.parseInt(fields[1]);
+
+        if (operation.equals(REMOVE)) {
+            checkIndex(index, items.size());
+            items.remove(index);
+            return;
+        }
+
+        if (fields.length < 3) {
+            throw new IllegalArgumentException("Malformed record: " + record);
+        }
+        T item = fromRecordJson(fields[2]);
+        if (operation.equals(INSERT)) {
+            checkIndex(index, items.size() + 1);
+            items.add(index, item);
+        } else if (operation.equals(SET)) {
+            checkIndex(index, items.size());
+            items.set(index, item);
+        } else {
+            throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IllegalArgumentException("Record index out of bounds: " + index);
+        }
+    }
+
+    /**
+     * Returns the journal records that transform {@code oldItems} into {@code newItems}, or null if the
+     * change is better written as a new snapshot.
+     * Items are compared with {@code equals}, and neither list may contain equal items more than once.
+     */
+    private List<String> diff(List<T> oldItems, List<T> newItems) throws IOException {
+        int start = 0;
+        int oldEnd = oldItems.size();
+        int newEnd = newItems.size();
+        while (start < oldEnd && start < newEnd && oldItems.get(start).equals(newItems.get(start))) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldItems.get(oldEnd - 1).equals(newItems.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<T> oldMiddle = oldItems.subList(start, oldEnd);
+        List<T> newMiddle = newItems.subList(start, newEnd);
+        Set<T> oldSet = new HashSet<>(oldMiddle);
+        Set<T> newSet = new HashSet<>(newMiddle);
+
+        // The list being transformed is always newMiddle[0, j) followed by oldMiddle[i, end)
+        List<String> records = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < oldMiddle.size() && j < newMiddle.size()) {
+            T oldItem = oldMiddle.get(i);
+            T newItem = newMiddle.get(j);
+            boolean isRemoved = !newSet.contains(oldItem);
+            boolean isAdded = !oldSet.contains(newItem);
+            if (oldItem.equals(newItem)) {
+                i++;
+                j++;
+            } else if (isRemoved && isAdded) {
+                records.add(toRecord(SET, start + j, newItem));
+                i++;
+                j++;
+            } else if (isRemoved) {
+                records.add(toRecord(REMOVE, start + j, null));
+                i++;
+            } else if (isAdded) {
+                records.add(toRecord(INSERT, start + j, newItem));
+                j++;
+            } else {
+                // Items were reordered
+                return null;
+            }
+        }
+        for (; i < oldMiddle.size(); i++) {
+            records.add(toRecord(REMOVE, start + j, null));
+        }
+        for (; j < newMiddle.size(); j++) {
+            records.add(toRecord(INSERT, start + j, newMiddle.get(j)));
+        }
+
+        // More records than items means the records would be larger than a new snapshot
+        return records.size() > newItems.size() ? null : records;
+    }
+
+    private String toRecord(String operation, int index, T item) throws IOException {
+        String record = operation + FIELD_SEPARATOR + index;
+        return item == null ? record : record + FIELD_SEPARATOR + toRecordJson(item);
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+import seedu.address.model.person.PremiumIndex;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Writes persons to a CSV or NDJSON file one row at a time, so that memory use does not grow with the
+ * number of persons written.
+ *
+ * Without policies, a CSV file has one row per person, in the columns read by {@link PersonImportReader}.
+ * With policies, it has one row per premium instead, joined with the policy of the same name, if any.
+ * An NDJSON file has one JSON object per person and line, which lists the policy of each premium if
+ * policies are included.
+ * The file is replaced atomically once all rows have been written, so it never holds a partial export.
+ */
+public class PersonExportWriter {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final List<String> NDJSON_EXTENSIONS = List.of(".ndjson", ".jsonl");
+
+    public static final String COLUMN_PREMIUM_NAME = "premium name";
+    public static final String COLUMN_PREMIUM_AMOUNT = "premium amount";
+    public static final String COLUMN_POLICY_NUMBER = "policy number";
+    public static final String COLUMN_PROVIDER_COMPANY = "provider company";
+    public static final String COLUMN_POLICY_LINK = "policy link";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final boolean isCsv;
+    private final boolean isWithPolicies;
+    // The first policy of each premium name, keyed as premiums are matched to policies
+    private final Map<String, Policy> policiesByKey = new HashMap<>();
+
+    /**
+     * Creates a {@code PersonExportWriter} for the file at {@code filePath}, in the format told apart by its
+     * extension. If {@code policies} is present, each premium is joined with the policy of the same name.
+     * The file must be supported, as checked by {@link #isSupported(Path)}.
+     */
+    public PersonExportWriter(Path filePath, Optional<List<Policy>> policies) {
+        requireNonNull(filePath);
+        requireNonNull(policies);
+        if (!isSupported(filePath)) {
+            throw new IllegalArgumentException("Unsupported export file " + filePath);
+        }
+
+        isCsv = getLowerCaseFileName(filePath).endsWith(CSV_EXTENSION);
+        isWithPolicies = policies.isPresent();
+        policies.ifPresent(list -> list.forEach(policy ->
+                policiesByKey.putIfAbsent(PremiumIndex.toKey(policy.getPolicyName().policyName), policy)));
+    }
+
+    /**
+     * Returns true if persons can be exported to a file with the name of {@code filePath}.
+     */
+    public static boolean isSupported(Path filePath) {
+        requireNonNull(filePath);
+        String lowerCaseFileName = getLowerCaseFileName(filePath);
+        return lowerCaseFileName.endsWith(CSV_EXTENSION)
+                || NDJSON_EXTENSIONS.stream().anyMatch(lowerCaseFileName::endsWith);
+    }
+
+    /**
+     * Writes {@code persons} to the file at {@code filePath}, replacing it if it exists.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void write(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        FileUtil.writeToFile(filePath, outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            write(persons, writer);
+            writer.flush();
+        }, 0);
+    }
+
+    /**
+     * Writes {@code persons} to {@code writer}, without closing it.
+     */
+    public void write(Iterable<Person> persons, Writer writer) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(writer);
+        if (isCsv) {
+            writeCsv(persons, writer);
+        } else {
+            writeNdjson(persons, writer);
+        }
+    }
+
+    private void writeCsv(Iterable<Person> persons, Writer writer) throws IOException {
+        if (isWithPolicies) {
+            writeCsvRecord(writer, PersonImportReader.COLUMN_NAME, PersonImportReader.COLUMN_PHONE,
+                    PersonImportReader.COLUMN_EMAIL, PersonImportReader.COLUMN_ADDRESS,
+                    PersonImportReader.COLUMN_BIRTHDAY, PersonImportReader.COLUMN_TAGS, COLUMN_PREMIUM_NAME,
+                    COLUMN_PREMIUM_AMOUNT, COLUMN_POLICY_NUMBER, COLUMN_PROVIDER_COMPANY, COLUMN_POLICY_LINK);
+        } else {
+            writeCsvRecord(writer, PersonImportReader.COLUMN_NAME, PersonImportReader.COLUMN_PHONE,
+                    PersonImportReader.COLUMN_EMAIL, PersonImportReader.COLUMN_ADDRESS,
+                    PersonImportReader.COLUMN_BIRTHDAY, PersonImportReader.COLUMN_PREMIUMS,
+                    PersonImportReader.COLUMN_TAGS);
+        }
+
+        for (Person person : persons) {
+            String name = person.getName().fullName;
+            String phone = person.getPhone().value;
+            String email = person.getEmail().value;
+            String address = person.getAddress().value;
+            String birthday = person.getBirthday().toString();
+            String tags = String.join(" ", getSortedTagNames(person));
+            List<Premium> premiums = person.getPremiumList().getPremiums();
+            if (!isWithPolicies) {
+                writeCsvRecord(writer, name, phone, email, address, birthday, formatPremiums(premiums), tags);
+                continue;
+            }
+
+            // A person without premiums still gets a row, so that every person is exported
+            if (premiums.isEmpty()) {
+                writeCsvRecord(writer, name, phone, email, address, birthday, tags, "", "", "", "", "");
+            }
+            for (Premium premium : premiums) {
+                Optional<Policy> policy = getPolicy(premium);
+                writeCsvRecord(writer, name, phone, email, address, birthday, tags, premium.getPremiumName(),
+                        String.valueOf(premium.getPremiumAmount()),
+                        policy.map(p -> p.getPolicyNumber().value).orElse(""),
+                        policy.map(p -> p.getProviderCompany().value).orElse(""),
+                        policy.map(p -> p.getPolicyLink().value).orElse(""));
+            }
+        }
+    }
+
+    private void writeNdjson(Iterable<Person> persons, Writer writer) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(writer);
+        // Objects are separated by line breaks written below rather than by the default space
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        for (Person person : persons) {
+            generator.writeStartObject();
+            generator.writeStringField("name", person.getName().fullName);
+            generator.writeStringField("phone", person.getPhone().value);
+            generator.writeStringField("email", person.getEmail().value);
+            generator.writeStringField("address", person.getAddress().value);
+            generator.writeStringField("birthday", person.getBirthday().toString());
+            generator.writeStringField("premiums", formatPremiums(person.getPremiumList().getPremiums()));
+            generator.writeArrayFieldStart("tags");
+            for (String tagName : getSortedTagNames(person)) {
+                generator.writeString(tagName);
+            }
+            generator.writeEndArray();
+
+            if (isWithPolicies) {
+                generator.writeArrayFieldStart("policies");
+                for (Premium premium : person.getPremiumList().getPremiums()) {
+                    writeNdjsonPolicy(generator, premium);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+            generator.writeRaw(LINE_SEPARATOR);
+        }
+        generator.close();
+    }
+
+    private void writeNdjsonPolicy(JsonGenerator generator, Premium premium) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("premiumName", premium.getPremiumName());
+        generator.writeNumberField("premiumAmount", premium.getPremiumAmount());
+        Optional<Policy> policy = getPolicy(premium);
+        if (policy.isPresent()) {
+            generator.writeStringField("policyNumber", policy.get().getPolicyNumber().value);
+            generator.writeStringField("providerCompany", policy.get().getProviderCompany().value);
+            generator.writeStringField("policyLink", policy.get().getPolicyLink().value);
+        }
+        generator.writeEndObject();
+    }
+
+    private Optional<Policy> getPolicy(Premium premium) {
+        return Optional.ofNullable(policiesByKey.get(PremiumIndex.toKey(premium.getPremiumName())));
+    }
+
+    /**
+     * Returns the premiums in the format read by {@code ParserUtil#parsePremium}, e.g. {@code LifeShield 300}.
+     */
+    private static String formatPremiums(List<Premium> premiums) {
+        return premiums.stream()
+                .map(premium -> premium.getPremiumName() + " " + premium.getPremiumAmount())
+                .collect(Collectors.joining(" "));
+    }
+
+    private static List<String> getSortedTagNames(Person person) {
+        return person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes {@code fields} as one CSV record, quoting the fields that contain separators, quotes or line breaks.
+     */
+    private static void writeCsvRecord(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            String field = fields[i];
+            if (field.indexOf(SEPARATOR) < 0 && field.indexOf(QUOTE) < 0 && field.indexOf('\n') < 0
+                    && field.indexOf('\r') < 0) {
+                writer.write(field);
+                continue;
+            }
+            writer.write(QUOTE);
+            writer.write(field.replace(String.valueOf(QUOTE), "" + QUOTE + QUOTE));
+            writer.write(QUOTE);
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static String getLowerCaseFileName(Path filePath) {
+        return filePath.getFileName() == null ? "" : filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+    }
+}
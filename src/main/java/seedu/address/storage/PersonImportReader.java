@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads the persons to import from a CSV or JSON file, one record at a time, without validating their fields.
+ *
+ * A CSV file starts with a header naming its columns, which must include {@link #REQUIRED_COLUMNS} and may
+ * include {@link #COLUMN_PREMIUMS} and {@link #COLUMN_TAGS}, in any order. Fields may be quoted to contain
+ * commas, line breaks or doubled quotes, and tags are separated by spaces or semicolons.
+ * A JSON file is in the same format as the address book data file.
+ */
+public class PersonImportReader {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_EXTENSION = ".json";
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_BIRTHDAY = "birthday";
+    public static final String COLUMN_PREMIUMS = "premiums";
+    public static final String COLUMN_TAGS = "tags";
+    public static final List<String> REQUIRED_COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS, COLUMN_BIRTHDAY);
+
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV header is missing the %1$s column";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "The quoted field starting on line %1$d is not closed";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonImportReader.class);
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Returns true if persons can be imported from a file with the name of {@code filePath}.
+     */
+    public static boolean isSupported(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName() == null ? "" : filePath.getFileName().toString();
+        String lowerCaseFileName = fileName.toLowerCase(Locale.ROOT);
+        return lowerCaseFileName.endsWith(CSV_EXTENSION) || lowerCaseFileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Reads the persons in the CSV or JSON file at {@code filePath}, as told apart by its extension.
+     * The file must be supported, as checked by {@link #isSupported(Path)}.
+     *
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     */
+    public static List<ImportRow> read(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!isSupported(filePath)) {
+            throw new IllegalArgumentException("Unsupported import file " + filePath);
+        }
+
+        boolean isCsv = filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION);
+        try {
+            return isCsv ? readCsv(filePath) : readJson(filePath);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error importing from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static List<ImportRow> readJson(Path filePath) throws IOException, IllegalValueException {
+        List<ImportRow> rows = new ArrayList<>();
+        JsonUtil.NumberedElementHandler<JsonImportedPerson> handler = (person, lineNumber) ->
+                rows.add(person.toImportRow(lineNumber));
+        JsonUtil.readNumberedJsonArrayFile(filePath, PERSONS_FIELD, JsonImportedPerson.class, handler);
+        return rows;
+    }
+
+    private static List<ImportRow> readCsv(Path filePath) throws IOException, IllegalValueException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            CsvRecordReader records = new CsvRecordReader(reader);
+            List<String> header = records.next();
+            if (header == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, COLUMN_NAME));
+            }
+            Map<String, Integer> columns = indexColumns(header);
+
+            List<String> record;
+            while ((record = records.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rows.add(new ImportRow(records.getRecordLineNumber(),
+                        getField(record, columns, COLUMN_NAME),
+                        getField(record, columns, COLUMN_PHONE),
+                        getField(record, columns, COLUMN_EMAIL),
+                        getField(record, columns, COLUMN_ADDRESS),
+                        getField(record, columns, COLUMN_BIRTHDAY),
+                        getField(record, columns, COLUMN_PREMIUMS),
+                        splitTags(getField(record, columns, COLUMN_TAGS))));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the position of each column named in {@code header}, by its name in lower case.
+     *
+     * @throws IllegalValueException if a required column is missing.
+     */
+    private static Map<String, Integer> indexColumns(List<String> header) throws IllegalValueException {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheets may start the file with a byte order mark
+            String column = header.get(i).replace(BYTE_ORDER_MARK, "").trim();
+            columns.putIfAbsent(column.toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the trimmed field of {@code record} in {@code column}, or null if the record has no such field.
+     */
+    private static String getField(List<String> record, Map<String, Integer> columns, String column) {
+        Integer position = columns.get(column);
+        if (position == null || position >= record.size()) {
+            return null;
+        }
+        return record.get(position).trim();
+    }
+
+    private static List<String> splitTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return List.of();
+        }
+        return Arrays.asList(tags.trim().split("[\\s;]+"));
+    }
+
+    /**
+     * Splits the lines of a CSV file into records of fields, joining the lines of quoted fields that contain
+     * line breaks.
+     */
+    private static class CsvRecordReader {
+        private final BufferedReader reader;
+        private int lineNumber;
+        private int recordLineNumber;
+
+        CsvRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the line on which the record last returned by {@link #next()} starts.
+         */
+        int getRecordLineNumber() {
+            return recordLineNumber;
+        }
+
+        /**
+         * Returns the fields of the next record, or null if there are no more records.
+         */
+        List<String> next() throws IOException, IllegalValueException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            recordLineNumber = lineNumber;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isQuoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!isQuoted) {
+                        break;
+                    }
+                    // The quoted field continues on the next line
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordLineNumber));
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+                if (isQuoted) {
+                    if (c != QUOTE) {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (c == QUOTE) {
+                    isQuoted = true;
+                } else if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Loads the persons of the address book into the model after the application has started, so that startup
+ * does not wait for them.
+ *
+ * The address book is read on a background thread, since it must be read to the end to be validated.
+ * Its persons are then added to the model one page at a time on the UI thread, which stays responsive
+ * between pages. Persons must only be added to the model, and commands executed, on the UI thread, which
+ * can wait for the remaining persons with {@link #awaitLoaded()}.
+ */
+public class StagedAddressBookLoader {
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    /** Progress reported while the address book is being read and the number of persons is not known. */
+    public static final double PROGRESS_UNKNOWN = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(StagedAddressBookLoader.class);
+
+    private static final Executor BACKGROUND_READER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AddressBookStorage storage;
+    private final Model model;
+    private final Executor uiExecutor;
+    private final Executor backgroundExecutor;
+    private final int pageSize;
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(PROGRESS_UNKNOWN);
+
+    private CompletableFuture<List<Person>> readPersons;
+    private long startNanos;
+    // Accessed only on the UI thread
+    private int addedCount = 0;
+    private boolean isLoaded = false;
+
+    /**
+     * Creates a {@code StagedAddressBookLoader} that reads from {@code storage} on a background thread, and adds
+     * the persons to {@code model} in pages of the default size through {@code uiExecutor}.
+     */
+    public StagedAddressBookLoader(AddressBookStorage storage, Model model, Executor uiExecutor) {
+        this(storage, model, uiExecutor, BACKGROUND_READER, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a {@code StagedAddressBookLoader} that reads from {@code storage} using {@code backgroundExecutor},
+     * and adds the persons to {@code model} in pages of {@code pageSize} through {@code uiExecutor}.
+     */
+    public StagedAddressBookLoader(AddressBookStorage storage, Model model, Executor uiExecutor,
+                                   Executor backgroundExecutor, int pageSize) {
+        requireNonNull(storage);
+        requireNonNull(model);
+        requireNonNull(uiExecutor);
+        requireNonNull(backgroundExecutor);
+        checkArgument(pageSize > 0, "Page size must be positive");
+        this.storage = storage;
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.backgroundExecutor = backgroundExecutor;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Starts reading the address book. The persons are added to the model as they become available.
+     */
+    public void start() {
+        if (readPersons != null) {
+            throw new IllegalStateException("Loading has already started");
+        }
+        startNanos = System.nanoTime();
+        readPersons = CompletableFuture.supplyAsync(this::read, backgroundExecutor);
+        readPersons.thenRun(() -> uiExecutor.execute(this::addNextPage));
+    }
+
+    /**
+     * Returns the fraction of the persons that have been added to the model, or {@link #PROGRESS_UNKNOWN}
+     * while the address book is still being read.
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns true once all persons have been added to the model.
+     * Must only be called on the UI thread.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Waits for the address book to be read, then adds all the persons not yet added to the model.
+     * Must only be called on the UI thread, after {@link #start()}.
+     */
+    public void awaitLoaded() {
+        if (readPersons == null) {
+            throw new IllegalStateException("Loading has not started");
+        }
+        if (isLoaded) {
+            return;
+        }
+
+        List<Person> persons = readPersons.join();
+        addPersons(persons, persons.size());
+    }
+
+    private List<Person> read() {
+        try {
+            // Only the persons are read, as the model builds its indexes of them as they are added
+            Optional<List<Person>> personsOptional = storage.readPersons();
+            if (!personsOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            return List.copyOf(personsOptional.orElseGet(() -> List.of(SampleDataUtil.getSamplePersons())));
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            return List.of();
+        } catch (RuntimeException e) {
+            logger.severe("Failed to read data file at " + storage.getAddressBookFilePath() + ": " + e);
+            return List.of();
+        }
+    }
+
+    private void addNextPage() {
+        if (isLoaded) {
+            return;
+        }
+
+        List<Person> persons = readPersons.join();
+        addPersons(persons, Math.min(addedCount + pageSize, persons.size()));
+        if (!isLoaded) {
+            uiExecutor.execute(this::addNextPage);
+        }
+    }
+
+    /**
+     * Adds the persons from the first not yet added to the one before {@code end} to the model.
+     */
+    private void addPersons(List<Person> persons, int end) {
+        if (end > addedCount) {
+            synchronized (model) {
+                model.loadPersons(persons.subList(addedCount, end));
+            }
+            addedCount = end;
+        }
+
+        if (addedCount < persons.size()) {
+            progress.set((double) addedCount / persons.size());
+            return;
+        }
+        isLoaded = true;
+        progress.set(1);
+        logger.info("Loaded " + persons.size() + " persons in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+    }
+}
@@ -0,0 +1,234 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPolicyBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Persists the address book and policy book to {@code Storage} on a dedicated background thread.
+ * Books are only written after they have been marked dirty, and bursts of changes made within
+ * the flush delay are coalesced into a single write of each book.
+ *
+ * Snapshots of the lists of the books are taken while holding {@code mutationLock}, so callers that mutate the
+ * books must hold the same lock while doing so. Only the lists are copied under the lock, without building
+ * the indexes of a new book, so taking a snapshot blocks those callers as briefly as possible.
+ * A failed background write is retried, after a delay that doubles with each failure in a row.
+ */
+public class WriteBehindPersistence {
+
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 500;
+    public static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindPersistence.class);
+
+    private final Storage storage;
+    private final Object mutationLock;
+    private final long flushDelayMillis;
+    private final ScheduledThreadPoolExecutor writer;
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+
+    // Guarded by this
+    private ReadOnlyAddressBook dirtyAddressBook;
+    private ReadOnlyPolicyBook dirtyPolicyBook;
+    private boolean isFlushScheduled;
+    private int consecutiveFailures;
+
+    /**
+     * Creates a {@code WriteBehindPersistence} that writes to {@code storage} using the default flush delay.
+     */
+    public WriteBehindPersistence(Storage storage, Object mutationLock) {
+        this(storage, mutationLock, DEFAULT_FLUSH_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindPersistence} that writes to {@code storage} {@code flushDelayMillis}
+     * after the first unsaved change.
+     */
+    public WriteBehindPersistence(Storage storage, Object mutationLock, long flushDelayMillis) {
+        requireNonNull(storage);
+        requireNonNull(mutationLock);
+        this.storage = storage;
+        this.mutationLock = mutationLock;
+        this.flushDelayMillis = flushDelayMillis;
+        this.writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "persistence-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Pending changes are flushed explicitly on close, so delayed flushes need not outlive it
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Marks {@code addressBook} as changed so that it is written in the next flush.
+     */
+    public synchronized void markAddressBookDirty(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        dirtyAddressBook = addressBook;
+        scheduleFlush();
+    }
+
+    /**
+     * Marks {@code policyBook} as changed so that it is written in the next flush.
+     */
+    public synchronized void markPolicyBookDirty(ReadOnlyPolicyBook policyBook) {
+        requireNonNull(policyBook);
+        dirtyPolicyBook = policyBook;
+        scheduleFlush();
+    }
+
+    /**
+     * Returns and clears the error of the most recent failed background write, if any.
+     */
+    public Optional<IOException> pollFailure() {
+        return Optional.ofNullable(lastFailure.getAndSet(null));
+    }
+
+    /**
+     * Writes all pending changes and waits for the write to complete.
+     *
+     * @throws IOException if the pending changes could not be written.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePendingChanges();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes all pending changes and stops the background thread.
+     *
+     * @throws IOException if the pending changes could not be written.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void scheduleFlush() {
+        scheduleFlush(flushDelayMillis);
+    }
+
+    private void scheduleFlush(long delayMillis) {
+        if (isFlushScheduled || writer.isShutdown()) {
+            return;
+        }
+        isFlushScheduled = true;
+        writer.schedule(this::flushInBackground, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushInBackground() {
+        try {
+            writePendingChanges();
+            synchronized (this) {
+                consecutiveFailures = 0;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background: " + e.getMessage());
+            lastFailure.set(e);
+            synchronized (this) {
+                consecutiveFailures++;
+                scheduleFlush(getRetryDelayMillis());
+            }
+        }
+    }
+
+    /**
+     * Returns the delay before retrying a failed write, which starts at the flush delay and doubles with each
+     * failure in a row, up to {@link #MAX_RETRY_DELAY_MILLIS}.
+     */
+    private long getRetryDelayMillis() {
+        long delayMillis = Math.min(Math.max(flushDelayMillis, 1), MAX_RETRY_DELAY_MILLIS);
+        for (int i = 1; i < consecutiveFailures && delayMillis < MAX_RETRY_DELAY_MILLIS; i++) {
+            delayMillis *= 2;
+        }
+        return Math.min(delayMillis, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Writes a snapshot of every dirty book. Books that fail to be written remain dirty.
+     * Must only be called from the writer thread.
+     */
+    private void writePendingChanges() throws IOException {
+        ReadOnlyAddressBook addressBookToSave;
+        ReadOnlyPolicyBook policyBookToSave;
+        synchronized (this) {
+            addressBookToSave = dirtyAddressBook;
+            policyBookToSave = dirtyPolicyBook;
+            dirtyAddressBook = null;
+            dirtyPolicyBook = null;
+            isFlushScheduled = false;
+        }
+
+        List<Person> persons = null;
+        List<Policy> policies = null;
+        synchronized (mutationLock) {
+            if (addressBookToSave != null) {
+                persons = List.copyOf(addressBookToSave.getPersonList());
+            }
+            if (policyBookToSave != null) {
+                policies = List.copyOf(policyBookToSave.getPolicyList());
+            }
+        }
+        ReadOnlyAddressBook addressBookSnapshot = persons == null ? null : addressBookOf(persons);
+        ReadOnlyPolicyBook policyBookSnapshot = policies == null ? null : policyBookOf(policies);
+
+        try {
+            if (addressBookSnapshot != null) {
+                storage.saveAddressBook(addressBookSnapshot);
+                addressBookToSave = null;
+            }
+            if (policyBookSnapshot != null) {
+                storage.savePolicyBook(policyBookSnapshot);
+                policyBookToSave = null;
+            }
+        } finally {
+            restoreUnsaved(addressBookToSave, policyBookToSave);
+        }
+    }
+
+    private static ReadOnlyAddressBook addressBookOf(List<Person> persons) {
+        return () -> FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    private static ReadOnlyPolicyBook policyBookOf(List<Policy> policies) {
+        return () -> FXCollections.unmodifiableObservableList(FXCollections.observableList(policies));
+    }
+
+    private synchronized void restoreUnsaved(ReadOnlyAddressBook addressBook, ReadOnlyPolicyBook policyBook) {
+        if (addressBook != null && dirtyAddressBook == null) {
+            dirtyAddressBook = addressBook;
+        }
+        if (policyBook != null && dirtyPolicyBook == null) {
+            dirtyPolicyBook = policyBook;
+        }
+    }
+}
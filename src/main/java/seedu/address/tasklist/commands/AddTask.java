@@ -2,7 +2,7 @@ package seedu.address.tasklist.commands;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Deadline;
@@ -25,7 +25,7 @@ public class AddTask {
      * @return A success message confirming the addition.
      * @throws TaskManagerException If the task description is missing.
      */
-    public static String todo(String userInput, ArrayList<Task> taskList) throws TaskManagerException {
+    public static String todo(String userInput, List<Task> taskList) throws TaskManagerException {
         assert userInput != null : "User input should never be null in AddTask.todo()";
         assert taskList != null : "Task list should never be null in AddTask.todo()";
 
@@ -35,7 +35,7 @@ public class AddTask {
         String taskName = userInput.substring(5).trim();
         validateNonEmpty(taskName, "No task entered.");
         Task newTask = new ToDo(taskName);
-        if (isDuplicate(newTask, taskList)) {
+        if (taskList.contains(newTask)) {
             throw new TaskManagerException("This task already exists in your list.");
         }
         taskList.add(newTask);
@@ -52,7 +52,7 @@ public class AddTask {
      * @return A success message confirming the addition.
      * @throws TaskManagerException If the task description or deadline is missing or incorrectly formatted.
      */
-    public static String deadline(String userInput, ArrayList<Task> taskList) throws TaskManagerException {
+    public static String deadline(String userInput, List<Task> taskList) throws TaskManagerException {
         assert userInput != null : "User input should never be null in AddTask.deadline()";
         assert taskList != null : "Task list should never be null in AddTask.deadline()";
         if (!userInput.contains("/by")) {
@@ -73,7 +73,7 @@ public class AddTask {
         }
 
         Task newTask = new Deadline(taskName, dueDate);
-        if (isDuplicate(newTask, taskList)) {
+        if (taskList.contains(newTask)) {
             throw new TaskManagerException("This deadline already exists in your list.");
         }
         taskList.add(newTask);
@@ -89,7 +89,7 @@ public class AddTask {
      * @return A success message confirming the addition.
      * @throws TaskManagerException If the task description, start or enf time, is missing or wrong format.
      */
-    public static String event(String userInput, ArrayList<Task> taskList) throws TaskManagerException {
+    public static String event(String userInput, List<Task> taskList) throws TaskManagerException {
         assert userInput != null : "User input should never be null in AddTask.event()";
         assert taskList != null : "Task list should never be null in AddTask.event()";
         if (!userInput.contains("/from") || !userInput.contains("/to")) {
@@ -120,7 +120,7 @@ public class AddTask {
         }
 
         Task newTask = new Event(taskName, startTime, endTime);
-        if (isDuplicate(newTask, taskList)) {
+        if (taskList.contains(newTask)) {
             throw new TaskManagerException("This event already exists in your list.");
         }
         taskList.add(newTask);
@@ -159,23 +159,4 @@ public class AddTask {
         // Return the final success message
         return "New task added.\n " + task + "\n" + taskCountMessage;
     }
-
-    /**
-     * Checks if a task with the same description and relevant time details
-     * (if applicable) already exists in the provided task list.
-     *
-     * @param newTask  The task to check for duplicates.
-     * @param taskList The list of tasks to search for duplicates.
-     * @return true if a task with the same details exists in the list; false otherwise.
-     */
-    private static boolean isDuplicate(Task newTask, ArrayList<Task> taskList) {
-        for (Task task : taskList) {
-            if (task.equals(newTask)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
-
-
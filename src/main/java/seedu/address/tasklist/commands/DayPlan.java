@@ -3,16 +3,16 @@ package seedu.address.tasklist.commands;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Deadline;
 import seedu.address.tasklist.tasks.Event;
-import seedu.address.tasklist.tasks.Task;
+import seedu.address.tasklist.tasks.IndexedTaskList;
 
 /**
  * Represents a command that generates a day's plan based on tasks.
- * It checks for deadlines and events occurring on a specified date.
+ * It looks up the deadlines and events occurring on a specified date in the date indexes of the task list.
  */
 public class DayPlan {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
@@ -22,11 +22,11 @@ public class DayPlan {
      * Executes the "agenda for {date}" command, retrieving tasks and events for a specified date.
      *
      * @param userInput The user's input string containing the date
-     * @param taskList  The list of tasks to check against the specified date.
+     * @param taskList  The indexed list of tasks to look up the specified date in.
      * @return A formatted string of deadlines and events occurring on the specified date.
      * @throws TaskManagerException If the user input is invalid or contains an incorrect date format.
      */
-    public static String execute(String userInput, ArrayList<Task> taskList) throws TaskManagerException {
+    public static String execute(String userInput, IndexedTaskList taskList) throws TaskManagerException {
         assert userInput != null : "User input should never be null in DayPlan.execute()";
         assert taskList != null : "Task list should never be null in DayPlan.execute()";
 
@@ -43,8 +43,8 @@ public class DayPlan {
                 .append(formattedDate)
                 .append(":\n\n");
 
-        appendDeadlines(currDate, taskList, tasksOfDay);
-        appendEvents(currDate, taskList, tasksOfDay);
+        appendDeadlines(taskList.getDeadlinesBetween(currDate, currDate), tasksOfDay);
+        appendEvents(taskList.getEventsBetween(currDate, currDate), tasksOfDay);
 
         return tasksOfDay.toString().trim();
     }
@@ -79,24 +79,20 @@ public class DayPlan {
     }
 
     /**
-     * Appends deadlines occurring on the specified date to the output.
+     * Appends the deadlines occurring on the specified date to the output.
      *
-     * @param date      The date to filter deadlines.
-     * @param taskList  The list of tasks.
+     * @param deadlines  The deadlines due on the date.
      * @param tasksOfDay The StringBuilder storing the day's schedule.
      */
-    private static void appendDeadlines(LocalDate date, ArrayList<Task> taskList, StringBuilder tasksOfDay) {
+    private static void appendDeadlines(List<Deadline> deadlines, StringBuilder tasksOfDay) {
         tasksOfDay.append("DEADLINES:\n");
-        int deadlineCount = 0;
-
-        for (Task task : taskList) {
-            if (task instanceof Deadline && ((Deadline) task).getDueDate().toLocalDate().equals(date)) {
-                tasksOfDay.append(task.getName())
-                        .append(" due at: ")
-                        .append(((Deadline) task).getTime())
-                        .append("\n");
-                deadlineCount++;
-            }
+        int deadlineCount = deadlines.size();
+
+        for (Deadline deadline : deadlines) {
+            tasksOfDay.append(deadline.getName())
+                    .append(" due at: ")
+                    .append(deadline.getTime())
+                    .append("\n");
         }
 
         if (deadlineCount == 0) {
@@ -112,24 +108,20 @@ public class DayPlan {
     }
 
     /**
-     * Appends events occurring on the specified date to the output.
+     * Appends the events occurring on the specified date to the output.
      *
-     * @param date The date to filter events.
-     * @param taskList The list of tasks.
+     * @param events The events taking place on the date.
      * @param tasksOfDay The StringBuilder storing the day's schedule.
      */
-    private static void appendEvents(LocalDate date, ArrayList<Task> taskList, StringBuilder tasksOfDay) {
+    private static void appendEvents(List<Event> events, StringBuilder tasksOfDay) {
         tasksOfDay.append("EVENTS:\n");
-        int eventCount = 0;
-
-        for (Task task : taskList) {
-            if (task instanceof Event && ((Event) task).includesDate(date)) {
-                tasksOfDay.append(task.getName())
-                        .append(" ")
-                        .append(((Event) task).getDates())
-                        .append("\n");
-                eventCount++;
-            }
+        int eventCount = events.size();
+
+        for (Event event : events) {
+            tasksOfDay.append(event.getName())
+                    .append(" ")
+                    .append(event.getDates())
+                    .append("\n");
         }
 
         if (eventCount == 0) {
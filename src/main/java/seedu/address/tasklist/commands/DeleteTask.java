@@ -1,6 +1,6 @@
 package seedu.address.tasklist.commands;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Task;
@@ -18,7 +18,7 @@ public class DeleteTask {
      * @return A success message after deletion.
      * @throws TaskManagerException If the index is invalid.
      */
-    public static String execute(String index, ArrayList<Task> taskList) throws TaskManagerException {
+    public static String execute(String index, List<Task> taskList) throws TaskManagerException {
         try {
             int taskIndex = Integer.parseInt(index.split(" ")[1]) - 1;
             if (taskIndex < 0 || taskIndex >= taskList.size()) {
@@ -1,24 +1,23 @@
 package seedu.address.tasklist.commands;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import seedu.address.tasklist.tasks.Task;
+import seedu.address.tasklist.tasks.IndexedTaskList;
 
 /**
  * Represents a command to find tasks in the task list that match one or more keywords.
+ * Matches are looked up in the word index of the task list, and listed with their indices in the task list.
  */
 public class Find {
     /**
      * Extracts keywords from user input and calls the varargs-based execute method.
      *
      * @param userInput The full user input string, including the "find" command and keywords.
-     * @param tasks The list of tasks to search through.
+     * @param tasks The indexed list of tasks to search through.
      * @return A formatted string listing matching tasks or a message indicating no matches were found.
      */
-    public static String execute(String userInput, ArrayList<Task> tasks) {
+    public static String execute(String userInput, IndexedTaskList tasks) {
         assert userInput != null : "User input should not be null in Find.execute()";
         assert tasks != null : "Task list should not be null in Find.execute()";
 
@@ -35,46 +34,34 @@ public class Find {
     /**
      * Processes the search for tasks containing any of the provided keywords.
      *
-     * @param tasks The list of tasks.
+     * @param tasks The indexed list of tasks.
      * @param keywords The keywords to search for.
      * @return The formatted search results.
      */
-    private static String processKeywords(ArrayList<Task> tasks, List<String> keywords) {
+    private static String processKeywords(IndexedTaskList tasks, List<String> keywords) {
         assert !keywords.isEmpty() : "Keyword list should not be empty in Find.processKeywords()";
 
-        // Stream-based filtering of matching tasks
-        Set<Task> matchingTasks = tasks.stream()
-                .filter(task -> taskMatchesKeywords(task, keywords))
-                .collect(Collectors.toSet());
+        // Tasks containing more of the keywords come first, then tasks earlier in the list
+        List<Integer> matchingIndices = tasks.findIndices(keywords);
 
-        return formatResults(matchingTasks, keywords);
+        return formatResults(tasks, matchingIndices, keywords);
     }
 
     /**
-     * Checks if a task's name contains any of the provided keywords (case-insensitive).
-     */
-    private static boolean taskMatchesKeywords(Task task, List<String> keywords) {
-        String taskNameLower = task.getName().toLowerCase();
-
-        return keywords.stream()
-                .map(keyword -> keyword.toLowerCase())
-                .anyMatch(keyword -> taskNameLower.contains(keyword));
-    }
-
-    /**
-     * Extracts keywords from a string (splits by spaces, removes empties).
+     * Extracts keywords from a string (splits by whitespace, removes empties).
      */
     private static List<String> extractKeywords(String input) {
-        return List.of(input.split(" ")).stream()
+        return List.of(input.split("\\s+")).stream()
                 .filter(word -> !word.isEmpty())
                 .collect(Collectors.toList());
     }
 
     /**
-     * Formats the result string based on matching tasks.
+     * Formats the result string based on matching tasks, which are numbered by their indices
+     * in the task list so that they can be marked or deleted directly.
      */
-    private static String formatResults(Set<Task> matchingTasks, List<String> keywords) {
-        if (matchingTasks.isEmpty()) {
+    private static String formatResults(IndexedTaskList tasks, List<Integer> matchingIndices, List<String> keywords) {
+        if (matchingIndices.isEmpty()) {
             return "I couldn't find any tasks related to the keywords: \""
                     + String.join("\", \"", keywords) + "\".\nTry different ones!";
         }
@@ -82,9 +69,8 @@ public class Find {
         StringBuilder result = new StringBuilder("Here are the tasks I found related to the keywords: "
                 + String.join(", ", keywords) + ":\n");
 
-        int count = 1;
-        for (Task task : matchingTasks) {
-            result.append(count++).append(". ").append(task).append("\n");
+        for (int index : matchingIndices) {
+            result.append(index + 1).append(". ").append(tasks.get(index)).append("\n");
         }
 
         return result.toString().trim();
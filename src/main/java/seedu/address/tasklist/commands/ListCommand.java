@@ -1,6 +1,6 @@
 package seedu.address.tasklist.commands;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.tasklist.tasks.Task;
 
@@ -14,7 +14,7 @@ public class ListCommand {
      * @param taskList The list of tasks.
      * @return A formatted list of tasks or a message if the list is empty.
      */
-    public static String execute(ArrayList<Task> taskList) {
+    public static String execute(List<Task> taskList) {
         if (taskList.isEmpty()) {
             return "You have no tasks at the moment.";
         }
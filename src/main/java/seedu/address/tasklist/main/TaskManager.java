@@ -1,7 +1,11 @@
 package seedu.address.tasklist.main;
 
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import seedu.address.tasklist.commands.AddTask;
 import seedu.address.tasklist.commands.CommandType;
@@ -15,27 +19,64 @@ import seedu.address.tasklist.commands.Mark;
 import seedu.address.tasklist.commands.Unmark;
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.storage.TaskStorage;
-import seedu.address.tasklist.tasks.Task;
+import seedu.address.tasklist.tasks.IndexedTaskList;
 import seedu.address.tasklist.taskui.Ui;
 
 
 /**
  * The main class for the TaskList application.
  * This class validates and processes commands.
+ *
+ * A single TaskManager holds the tasks in memory for as long as the application runs, and is shared by
+ * the console and the GUI. Commands may be processed from either, one at a time.
  */
 public class TaskManager {
-    private final ArrayList<Task> taskList;
-    private final Scanner reader;
+    private static final Executor BACKGROUND_LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-list-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TaskStorage storage;
+    private final IndexedTaskList taskList;
 
     /**
-     * Constructs a new TaskList instance.
-     * Initializes the task list by loading stored tasks and sets up a scanner for user input.
+     * Constructs a new TaskList instance that stores its tasks at the default file path.
      *
      * @throws TaskManagerException if there is an error loading the stored tasks.
      */
     public TaskManager() throws TaskManagerException {
-        this.taskList = TaskStorage.loadList();
-        this.reader = new Scanner(System.in);
+        this(TaskStorage.DEFAULT_FILE_PATH);
+    }
+
+    /**
+     * Constructs a new TaskList instance that stores its tasks at the given file path.
+     * Initializes the task list by loading stored tasks.
+     *
+     * @param filePath The path of the file the tasks are stored in.
+     * @throws TaskManagerException if there is an error loading the stored tasks.
+     */
+    public TaskManager(Path filePath) throws TaskManagerException {
+        this.storage = new TaskStorage(filePath);
+        this.taskList = new IndexedTaskList(storage.loadList());
+    }
+
+    /**
+     * Constructs a new TaskList instance that stores its tasks at the given file path on a background thread,
+     * so that the stored tasks are loaded without keeping the caller waiting.
+     *
+     * @param filePath The path of the file the tasks are stored in.
+     * @return A future that completes with the TaskList instance once its tasks are loaded, or completes
+     *         exceptionally with the TaskManagerException thrown if they could not be loaded.
+     */
+    public static CompletableFuture<TaskManager> loadAsync(Path filePath) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return new TaskManager(filePath);
+            } catch (TaskManagerException e) {
+                throw new CompletionException(e);
+            }
+        }, BACKGROUND_LOADER);
     }
 
     /**
@@ -45,7 +86,7 @@ public class TaskManager {
      * @return The result message after executing the command.
      * @throws TaskManagerException If an invalid command or incorrect arguments are provided.
      */
-    private String processCommand(String userInput) throws TaskManagerException {
+    private synchronized String processCommand(String userInput) throws TaskManagerException {
         if (userInput == null || userInput.trim().isEmpty()) {
             throw new TaskManagerException("Input cannot be empty!");
         }
@@ -66,32 +107,32 @@ public class TaskManager {
 
         case MARK:
             String markResponse = Mark.execute(userInput, taskList);
-            TaskStorage.updateList(taskList);
+            storage.recordUpdate(parseIndex(userInput), taskList);
             return markResponse;
 
         case UNMARK:
             String unmarkResponse = Unmark.execute(userInput, taskList);
-            TaskStorage.updateList(taskList);
+            storage.recordUpdate(parseIndex(userInput), taskList);
             return unmarkResponse;
 
         case TODO:
             String todoResponse = AddTask.todo(userInput, taskList);
-            TaskStorage.updateList(taskList);
+            storage.recordAdd(taskList);
             return todoResponse;
 
         case DEADLINE:
             String deadlineResponse = AddTask.deadline(userInput, taskList);
-            TaskStorage.updateList(taskList);
+            storage.recordAdd(taskList);
             return deadlineResponse;
 
         case EVENT:
             String eventResponse = AddTask.event(userInput, taskList);
-            TaskStorage.updateList(taskList);
+            storage.recordAdd(taskList);
             return eventResponse;
 
         case DELETE:
             String deleteResponse = DeleteTask.execute(userInput, taskList);
-            TaskStorage.updateList(taskList);
+            storage.recordDelete(parseIndex(userInput), taskList);
             return deleteResponse;
 
         case FIND:
@@ -111,6 +152,17 @@ public class TaskManager {
         }
     }
 
+    /**
+     * Returns the zero-based index of the task given in a command that has already been executed
+     * successfully, and so has a valid index.
+     *
+     * @param userInput The input command string from the user.
+     * @return The index of the task.
+     */
+    private static int parseIndex(String userInput) {
+        return Integer.parseInt(userInput.split(" ")[1]) - 1;
+    }
+
     /**
      * Handles user input from the GUI and returns the response to be displayed.
      *
@@ -130,6 +182,7 @@ public class TaskManager {
      * Continuously listens for user commands until the user exits.
      */
     public void run() {
+        Scanner reader = new Scanner(System.in);
         Ui.showWelcomeMessage();
 
         while (true) {
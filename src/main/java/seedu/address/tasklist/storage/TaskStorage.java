@@ -1,14 +1,22 @@
 package seedu.address.tasklist.storage;
 
-import java.io.BufferedReader; //read data source file (line by line) - input needs to be wrapped by FileReader
-import java.io.BufferedWriter; //read data source file (line by line) - input needs to be wrapped by FileReader
-import java.io.File; //no r/w - only interacts with file metadata (exists, size, etc.)
-import java.io.FileReader; // reads file contents (char by char)
-import java.io.FileWriter;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Deadline;
 import seedu.address.tasklist.tasks.Event;
@@ -17,53 +25,90 @@ import seedu.address.tasklist.tasks.ToDo;
 
 /**
  * Handles the storage and retrieval of tasks from a file.
- * Provides methods to load, save, and ensure the file's existence.
+ *
+ * The tasks are kept in a snapshot file, one task per line, together with a log of the changes made since the
+ * snapshot was written. Each change appends a single line to the log, so marking or deleting a task does not
+ * rewrite the whole list. Once the log holds {@link #COMPACTION_THRESHOLD} changes, it is compacted into a new
+ * snapshot, which atomically replaces the old one so that a crash leaves either the old or the new snapshot.
+ *
+ * The log starts with the checksum of the snapshot it applies to, so a log left behind by a crash during
+ * compaction is recognised as stale and ignored. A torn last line left behind by a crash during an append is
+ * ignored as well.
  */
 public class TaskStorage {
-    private static final String FILE_PATH = "data/taskList.txt";
+    public static final Path DEFAULT_FILE_PATH = Paths.get("data", "taskList.txt");
+    public static final String LOG_FILE_SUFFIX = ".log";
+    public static final int COMPACTION_THRESHOLD = 200;
+
     private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
     private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final String SEPARATOR = " | ";
+    private static final String SEPARATOR_REGEX = " \\| ";
+    private static final String HEADER = "base";
+    private static final String ADD = "add";
+    private static final String UPDATE = "update";
+    private static final String DELETE = "delete";
+
+    private final Path filePath;
+    private final Path logPath;
+    // Checksum of the snapshot as of the last load or save, or null if neither has happened yet
+    private Long snapshotChecksum;
+    private int logLength;
 
     /**
-     * Ensures the task file and its parent directory exist.
+     * Constructs a TaskStorage that stores the tasks at the default file path.
      */
-    private static void ensureFileExists() {
-        try {
-            File file = new File(FILE_PATH);
-            File parentDir = file.getParentFile();
+    public TaskStorage() {
+        this(DEFAULT_FILE_PATH);
+    }
 
-            if (!parentDir.exists()) {
-                parentDir.mkdirs();
-            }
-            if (!file.exists()) {
-                file.createNewFile();
-            }
-        } catch (Exception e) {
-            System.out.println("An error occurred while ensuring the file exists: " + e.getMessage());
-        }
+    /**
+     * Constructs a TaskStorage that stores the tasks at the given file path.
+     * The log of changes is kept next to it, in a file with the same name followed by {@link #LOG_FILE_SUFFIX}.
+     *
+     * @param filePath The path of the snapshot file.
+     */
+    public TaskStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.logPath = filePath.resolveSibling(filePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public Path getLogPath() {
+        return logPath;
     }
 
     /**
-     * Loads the list of tasks from the file into an ArrayList.
-     * Parses each line and reconstructs corresponding Task objects.
+     * Loads the list of tasks from the snapshot file and applies the changes in the log to it.
+     * Creates an empty snapshot file if there is none yet.
+     * Lines of the snapshot that cannot be parsed are skipped.
      *
      * @return An ArrayList of Task objects representing the saved tasks.
-     * @throws TaskManagerException If an error occurs while loading tasks from the file.
+     * @throws TaskManagerException If an error occurs while loading tasks from the files.
      */
-    public static ArrayList<Task> loadList() throws TaskManagerException {
-        ensureFileExists();
+    public ArrayList<Task> loadList() throws TaskManagerException {
         ArrayList<Task> taskList = new ArrayList<>();
+        try {
+            if (!FileUtil.isFileExists(filePath)) {
+                saveList(taskList);
+                return taskList;
+            }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(FILE_PATH))) {
-            String currLine;
-
-            while ((currLine = reader.readLine()) != null) {
-                Task task = parseTask(currLine);
+            byte[] snapshotBytes = Files.readAllBytes(filePath);
+            String snapshot = new String(snapshotBytes, StandardCharsets.UTF_8);
+            for (String line : snapshot.split("\\R")) {
+                Task task = line.isEmpty() ? null : parseTask(line);
                 if (task != null) {
                     taskList.add(task);
                 }
             }
-        } catch (Exception e) {
+            snapshotChecksum = checksumOf(snapshotBytes);
+            logLength = replayLog(taskList);
+        } catch (IOException | RuntimeException e) {
             throw new TaskManagerException("An error occurred while loading tasks: " + e.getMessage());
         }
 
@@ -71,6 +116,171 @@ public class TaskStorage {
         return taskList;
     }
 
+    /**
+     * Writes the whole list of tasks to a new snapshot file, which atomically replaces the old one,
+     * and discards the log of changes.
+     *
+     * @param taskList The list of tasks to be saved.
+     * @throws TaskManagerException If an error occurs while writing the files.
+     */
+    public void saveList(List<Task> taskList) throws TaskManagerException {
+        StringBuilder snapshot = new StringBuilder();
+        for (Task task : taskList) {
+            snapshot.append(formatTask(task)).append(System.lineSeparator());
+        }
+        byte[] snapshotBytes = snapshot.toString().getBytes(StandardCharsets.UTF_8);
+
+        try {
+            FileUtil.writeToFile(filePath, outputStream -> outputStream.write(snapshotBytes), 0);
+            Files.deleteIfExists(logPath);
+        } catch (IOException e) {
+            throw new TaskManagerException("An error occurred while updating the task list: " + e.getMessage());
+        }
+        snapshotChecksum = checksumOf(snapshotBytes);
+        logLength = 0;
+    }
+
+    /**
+     * Records that a task was added to the end of the list.
+     *
+     * @param taskList The list of tasks after the task was added.
+     * @throws TaskManagerException If an error occurs while writing the files.
+     */
+    public void recordAdd(List<Task> taskList) throws TaskManagerException {
+        assert !taskList.isEmpty() : "A task should have been added to the list";
+        appendToLog(ADD + SEPARATOR + formatTask(taskList.get(taskList.size() - 1)), taskList);
+    }
+
+    /**
+     * Records that the task at the given index of the list was changed, such as by being marked as done.
+     *
+     * @param index The zero-based index of the changed task.
+     * @param taskList The list of tasks after the task was changed.
+     * @throws TaskManagerException If an error occurs while writing the files.
+     */
+    public void recordUpdate(int index, List<Task> taskList) throws TaskManagerException {
+        appendToLog(UPDATE + SEPARATOR + index + SEPARATOR + formatTask(taskList.get(index)), taskList);
+    }
+
+    /**
+     * Records that the task at the given index was deleted from the list.
+     *
+     * @param index The zero-based index the deleted task was at.
+     * @param taskList The list of tasks after the task was deleted.
+     * @throws TaskManagerException If an error occurs while writing the files.
+     */
+    public void recordDelete(int index, List<Task> taskList) throws TaskManagerException {
+        appendToLog(DELETE + SEPARATOR + index, taskList);
+    }
+
+    /**
+     * Appends {@code record} to the log, or compacts the log into a new snapshot of {@code taskList} instead
+     * if the log is full or does not belong to a snapshot that was loaded or saved.
+     */
+    private void appendToLog(String record, List<Task> taskList) throws TaskManagerException {
+        if (snapshotChecksum == null || logLength >= COMPACTION_THRESHOLD) {
+            saveList(taskList);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(logPath)) {
+            lines.append(HEADER).append(SEPARATOR).append(snapshotChecksum).append(System.lineSeparator());
+        }
+        lines.append(record).append(System.lineSeparator());
+
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new TaskManagerException("An error occurred while updating the task list: " + e.getMessage());
+        }
+        logLength++;
+    }
+
+    /**
+     * Applies the changes in the log to {@code taskList}. A log that does not belong to the loaded snapshot
+     * is deleted instead. If the last change was torn by a crash, it is skipped and the log is compacted
+     * straight away, so that the next change is not appended to the torn line.
+     *
+     * @return The number of changes applied that are still in the log.
+     */
+    private int replayLog(List<Task> taskList) throws IOException, TaskManagerException {
+        if (!Files.exists(logPath)) {
+            return 0;
+        }
+
+        String log = Files.readString(logPath, StandardCharsets.UTF_8);
+        List<String> lines = log.lines().toList();
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER + SEPARATOR + snapshotChecksum)) {
+            System.out.println("Warning: Discarding change log that does not match its task file - " + logPath);
+            Files.delete(logPath);
+            return 0;
+        }
+
+        // Every change is written together with its line separator, so a last line without one is torn
+        boolean isTorn = !log.endsWith("\n");
+        int end = isTorn ? lines.size() - 1 : lines.size();
+        int applied = 0;
+        for (int i = 1; i < end; i++) {
+            try {
+                applyRecord(lines.get(i), taskList);
+                applied++;
+            } catch (TaskManagerException | RuntimeException e) {
+                if (i == lines.size() - 1) {
+                    isTorn = true;
+                    break;
+                }
+                throw new TaskManagerException("Invalid change at line " + (i + 1) + " of " + logPath + ": "
+                        + e.getMessage());
+            }
+        }
+
+        if (isTorn) {
+            System.out.println("Warning: Skipping incomplete last change - " + lines.get(lines.size() - 1));
+            saveList(taskList);
+            return 0;
+        }
+        return applied;
+    }
+
+    private static void applyRecord(String record, List<Task> taskList) throws TaskManagerException {
+        String[] recordParts = record.split(SEPARATOR_REGEX, 2);
+        if (recordParts.length < 2) {
+            throw new TaskManagerException("Malformed change - " + record);
+        }
+
+        switch (recordParts[0]) {
+        case ADD:
+            taskList.add(parseRecordedTask(recordParts[1]));
+            break;
+        case UPDATE:
+            String[] updateParts = recordParts[1].split(SEPARATOR_REGEX, 2);
+            if (updateParts.length < 2) {
+                throw new TaskManagerException("Malformed change - " + record);
+            }
+            taskList.set(Integer.parseInt(updateParts[0]), parseRecordedTask(updateParts[1]));
+            break;
+        case DELETE:
+            taskList.remove(Integer.parseInt(recordParts[1]));
+            break;
+        default:
+            throw new TaskManagerException("Unknown change - " + record);
+        }
+    }
+
+    private static Task parseRecordedTask(String line) throws TaskManagerException {
+        Task task = parseTask(line);
+        if (task == null) {
+            throw new TaskManagerException("Invalid task - " + line);
+        }
+        return task;
+    }
+
     /**
      * Parses a task entry from the file and reconstructs the corresponding Task object.
      *
@@ -156,40 +366,6 @@ public class TaskStorage {
         return new Event(description, from, to, isDone);
     }
 
-    /**
-     * Updates the storage file with the current list of tasks.
-     * Creates a backup before writing and restores it if an error occurs.
-     *
-     * @param taskList The list of tasks to be saved.
-     * @throws TaskManagerException If an error occurs while updating the file.
-     */
-    public static void updateList(ArrayList<Task> taskList) throws TaskManagerException {
-        ensureFileExists();
-        File originalFile = new File(FILE_PATH);
-        File backupFile = new File(FILE_PATH + ".bak");
-
-        // Backup previous valid file
-        if (originalFile.exists()) {
-            originalFile.renameTo(backupFile);
-        }
-
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            for (Task task : taskList) {
-                writer.write(formatTask(task));
-                writer.newLine();
-            }
-        } catch (Exception e) {
-            if (backupFile.exists()) {
-                backupFile.renameTo(originalFile);
-            }
-            throw new TaskManagerException("An error occurred while updating the task list: " + e.getMessage());
-        } finally {
-            if (backupFile.exists()) {
-                backupFile.delete();
-            }
-        }
-    }
-
     /**
      * Formats a Task object into a string suitable for storage.
      *
@@ -217,4 +393,10 @@ public class TaskStorage {
         }
         return status + " | " + type + ": " + task.getName() + " | " + timeInfo;
     }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
 }
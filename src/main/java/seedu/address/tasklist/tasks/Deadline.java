@@ -2,6 +2,7 @@ package seedu.address.tasklist.tasks;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * Represents a task with a deadline that must be completed before a specific date/time.
@@ -78,4 +79,14 @@ public class Deadline extends Task {
         Deadline deadline = (Deadline) obj;
         return this.dueDate.equals(deadline.dueDate);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, computed from the description and due date.
+     *
+     * @return The hash code of the task.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), dueDate);
+    }
 }
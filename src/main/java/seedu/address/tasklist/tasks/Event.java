@@ -3,6 +3,7 @@ package seedu.address.tasklist.tasks;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 import seedu.address.tasklist.exception.TaskManagerException;
 
@@ -115,4 +116,14 @@ public class Event extends Task {
         Event event = (Event) obj;
         return this.start.equals(event.start) && this.end.equals(event.end);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, computed from the description and times.
+     *
+     * @return The hash code of the task.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), start, end);
+    }
 }
@@ -0,0 +1,295 @@
+package seedu.address.tasklist.tasks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * A list of tasks that also indexes its tasks by their details, the words in their descriptions, and their
+ * dates, so that whether it contains a task, which tasks mention some keywords, and which tasks fall in a range
+ * of dates can be found without going through the whole list.
+ *
+ * Tasks are kept in a hash index keyed on their type, description and dates, as compared by
+ * {@link Task#equals(Object)}, which makes {@link #contains(Object)} take constant time.
+ * Every suffix of every word in the descriptions is kept in a sorted index, so the words containing a keyword
+ * are those with a suffix starting with the keyword, which form a single range of the index.
+ * Deadlines are kept in buckets keyed by the date they are due. Events are kept in buckets keyed by the date
+ * they start, together with the number of days the longest event spans, which bounds how far before a range
+ * an event overlapping it can start. Finding the tasks in a range therefore takes time logarithmic in the
+ * number of buckets plus the number of tasks found, as long as events do not span much longer than the range.
+ * The indexes are updated on every change made through this list, including through its iterators and views.
+ */
+public class IndexedTaskList extends AbstractList<Task> implements RandomAccess {
+    private final ArrayList<Task> tasks = new ArrayList<>();
+    // Number of tasks equal to each task, which is usually one
+    private final HashMap<Task, Integer> countsByTask = new HashMap<>();
+    private final TreeMap<LocalDate, List<Deadline>> deadlinesByDueDate = new TreeMap<>();
+    private final TreeMap<LocalDate, List<Event>> eventsByStartDate = new TreeMap<>();
+    // Number of events spanning each number of days, so the longest span is known after a removal
+    private final TreeMap<Long, Integer> eventCountsBySpan = new TreeMap<>();
+    // Tasks with a word in their description ending in each lower case suffix
+    private final TreeMap<String, Set<Task>> tasksByWordSuffix = new TreeMap<>();
+    // Numbers that increase along the list, so that the index of a task can be found by binary search
+    private final IdentityHashMap<Task, Long> sequenceNumbers = new IdentityHashMap<>();
+    private long nextSequenceNumber = 0;
+
+    /**
+     * Constructs an empty IndexedTaskList.
+     */
+    public IndexedTaskList() {
+    }
+
+    /**
+     * Constructs an IndexedTaskList holding the given tasks, in the same order.
+     *
+     * @param tasks The tasks to initialize the list with.
+     */
+    public IndexedTaskList(Collection<? extends Task> tasks) {
+        addAll(tasks);
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns true if the list contains a task with the same type, description and dates as {@code obj}.
+     * Takes constant time.
+     */
+    @Override
+    public boolean contains(Object obj) {
+        return countsByTask.containsKey(obj);
+    }
+
+    /**
+     * Inserts the task at the given index. The same task object must not be in the list more than once.
+     */
+    @Override
+    public void add(int index, Task task) {
+        requireNonNull(task);
+        assert !sequenceNumbers.containsKey(task) : "A task should not be in the list more than once";
+        tasks.add(index, task);
+        if (index == tasks.size() - 1) {
+            sequenceNumbers.put(task, nextSequenceNumber++);
+        } else {
+            renumber();
+        }
+        index(task);
+        modCount++;
+    }
+
+    /**
+     * Replaces the task at the given index. The same task object must not be in the list more than once.
+     */
+    @Override
+    public Task set(int index, Task task) {
+        requireNonNull(task);
+        Task replaced = tasks.set(index, task);
+        sequenceNumbers.put(task, sequenceNumbers.remove(replaced));
+        unindex(replaced);
+        index(task);
+        return replaced;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = tasks.remove(index);
+        sequenceNumbers.remove(removed);
+        unindex(removed);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Finds the tasks with descriptions containing any of the given keywords, ignoring case.
+     * Tasks containing more of the keywords come first, and tasks containing as many come in list order.
+     * Takes time logarithmic in the number of words indexed for each keyword, plus time for the matches found.
+     *
+     * @param keywords The keywords to look for, none of which may contain whitespace.
+     * @return The zero-based indices of the tasks found.
+     */
+    public List<Integer> findIndices(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Task, Integer> matchCounts = new IdentityHashMap<>();
+        for (String keyword : keywords.stream().map(String::toLowerCase).distinct().toList()) {
+            Set<Task> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            tasksByWordSuffix.subMap(keyword, true, keyword + Character.MAX_VALUE, true).values()
+                    .forEach(matches::addAll);
+            matches.forEach(task -> matchCounts.merge(task, 1, Integer::sum));
+        }
+
+        Comparator<Task> byRank = Comparator.comparing((Task task) -> -matchCounts.get(task))
+                .thenComparing(sequenceNumbers::get);
+        return matchCounts.keySet().stream()
+                .sorted(byRank)
+                .map(this::indexOfIndexed)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the deadlines due on or between the given dates, in order of their due dates.
+     * Deadlines due on the same date are in the order they were added.
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range.
+     * @return The deadlines due in the range.
+     */
+    public List<Deadline> getDeadlinesBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Deadline> deadlines = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return deadlines;
+        }
+
+        deadlinesByDueDate.subMap(from, true, to, true).values().forEach(deadlines::addAll);
+        return deadlines;
+    }
+
+    /**
+     * Gets the events taking place on any date from and including {@code from} to and including {@code to},
+     * in order of their start dates. Events starting on the same date are in the order they were added.
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range.
+     * @return The events overlapping the range.
+     */
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Event> events = new ArrayList<>();
+        if (from.isAfter(to) || eventCountsBySpan.isEmpty()) {
+            return events;
+        }
+
+        LocalDate earliestStart = from.minusDays(eventCountsBySpan.lastKey());
+        for (List<Event> bucket : eventsByStartDate.subMap(earliestStart, true, to, true).values()) {
+            for (Event event : bucket) {
+                if (!event.getEnd().toLocalDate().isBefore(from)) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    private void index(Task task) {
+        countsByTask.merge(task, 1, Integer::sum);
+        for (String suffix : wordSuffixesOf(task)) {
+            tasksByWordSuffix.computeIfAbsent(suffix, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(task);
+        }
+        if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            deadlinesByDueDate.computeIfAbsent(deadline.getDueDate().toLocalDate(), date -> new ArrayList<>())
+                    .add(deadline);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            eventsByStartDate.computeIfAbsent(event.getStart().toLocalDate(), date -> new ArrayList<>())
+                    .add(event);
+            eventCountsBySpan.merge(spanOf(event), 1, Integer::sum);
+        }
+    }
+
+    private void unindex(Task task) {
+        countsByTask.computeIfPresent(task, (key, count) -> count == 1 ? null : count - 1);
+        for (String suffix : wordSuffixesOf(task)) {
+            tasksByWordSuffix.computeIfPresent(suffix, (key, tasksWithSuffix) -> {
+                tasksWithSuffix.remove(task);
+                return tasksWithSuffix.isEmpty() ? null : tasksWithSuffix;
+            });
+        }
+        if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            removeFromBucket(deadlinesByDueDate, deadline.getDueDate().toLocalDate(), deadline);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            removeFromBucket(eventsByStartDate, event.getStart().toLocalDate(), event);
+            eventCountsBySpan.computeIfPresent(spanOf(event), (span, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Removes {@code task} itself, rather than a task equal to it, from the bucket for {@code date}.
+     */
+    private static <T extends Task> void removeFromBucket(Map<LocalDate, List<T>> buckets, LocalDate date, T task) {
+        List<T> bucket = buckets.get(date);
+        assert bucket != null : "An indexed task should be in the bucket for its date";
+        for (Iterator<T> iterator = bucket.iterator(); iterator.hasNext();) {
+            if (iterator.next() == task) {
+                iterator.remove();
+                break;
+            }
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(date);
+        }
+    }
+
+    /**
+     * Returns the index of {@code task}, which must be in the list, by binary search on the sequence numbers.
+     */
+    private int indexOfIndexed(Task task) {
+        long sequenceNumber = sequenceNumbers.get(task);
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midSequenceNumber = sequenceNumbers.get(tasks.get(mid));
+            if (midSequenceNumber < sequenceNumber) {
+                low = mid + 1;
+            } else if (midSequenceNumber > sequenceNumber) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new IllegalStateException("Indexed task is not in the list: " + task);
+    }
+
+    /**
+     * Numbers the tasks again in list order, after a task was inserted before the end of the list.
+     */
+    private void renumber() {
+        nextSequenceNumber = 0;
+        for (Task task : tasks) {
+            sequenceNumbers.put(task, nextSequenceNumber++);
+        }
+    }
+
+    private static Set<String> wordSuffixesOf(Task task) {
+        Set<String> suffixes = new HashSet<>();
+        for (String word : task.getName().toLowerCase().split("\\s+")) {
+            for (int i = 0; i < word.length(); i++) {
+                suffixes.add(word.substring(i));
+            }
+        }
+        return suffixes;
+    }
+
+    private static long spanOf(Event event) {
+        return ChronoUnit.DAYS.between(event.getStart().toLocalDate(), event.getEnd().toLocalDate());
+    }
+}
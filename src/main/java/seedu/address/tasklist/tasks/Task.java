@@ -1,5 +1,7 @@
 package seedu.address.tasklist.tasks;
 
+import java.util.Objects;
+
 /**
  * Represents a generic task that can be tracked in the task list.
  */
@@ -64,8 +66,8 @@ public class Task {
 
     /**
      * Compares this task with another object to determine equality.
-     * Two tasks are considered equal if they have the same description (name),
-     * regardless of their type or completion status.
+     * Two tasks are considered equal if they are of the same type and have the same description (name),
+     * regardless of their completion status. Subclasses with dates also compare their dates.
      *
      * @param obj The object to compare with this task.
      * @return true if the object is a Task with the same description; false otherwise.
@@ -81,5 +83,15 @@ public class Task {
         Task task = (Task) obj;
         return this.name.equals(task.name);
     }
-}
 
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, computed from the type and the description.
+     * Since the completion status is not part of it, marking a task does not change its hash code.
+     *
+     * @return The hash code of the task.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), name);
+    }
+}
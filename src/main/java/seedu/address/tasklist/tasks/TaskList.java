@@ -1,18 +1,18 @@
 package seedu.address.tasklist.tasks;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages list of all tasks.
  */
 public class TaskList {
-    private final ArrayList<Task> tasks;
+    private final IndexedTaskList tasks;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this.tasks = new IndexedTaskList();
     }
 
     /**
@@ -20,32 +20,28 @@ public class TaskList {
      *
      * @param tasks The list of tasks to initialize the TaskList with.
      */
-    public TaskList(ArrayList<Task> tasks) {
-        this.tasks = tasks;
+    public TaskList(List<Task> tasks) {
+        this.tasks = new IndexedTaskList(tasks);
     }
 
     /**
      * Gets all tasks in the task list.
+     * Changes made to the returned list are reflected in the task list.
      *
-     * @return An ArrayList of Task objects.
+     * @return The indexed list of Task objects.
      */
-    public ArrayList<Task> getAllTasks() {
+    public IndexedTaskList getAllTasks() {
         return tasks;
     }
 
     /**
      * Checks if a task with the same description and relevant time details
-     * (if applicable) already exists in the task list.
+     * (if applicable) already exists in the task list. Takes constant time.
      *
      * @param newTask The task to check for duplicates.
      * @return true if a task with the same details exists; false otherwise.
      */
     public boolean isDuplicateTask(Task newTask) {
-        for (Task task : tasks) {
-            if (task.equals(newTask)) {
-                return true;
-            }
-        }
-        return false;
+        return tasks.contains(newTask);
     }
 }
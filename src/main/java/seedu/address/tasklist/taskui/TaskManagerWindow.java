@@ -1,8 +1,10 @@
 package seedu.address.tasklist.taskui;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -14,7 +16,6 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.util.Duration;
-import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.main.TaskManager;
 
 /**
@@ -40,12 +41,16 @@ public class TaskManagerWindow {
     /**
      * Launches the Task Manager window as a standalone JavaFX Stage.
      * Loads the TaskManagerWindow FXML layout, sets up the scene and window properties,
-     * and shows the window. Also initializes the controller with a new TaskManager instance
-     * and provides the Stage reference so it can be closed later.
+     * and shows the window. Also provides the controller with the shared TaskManager instance once its
+     * tasks are loaded, until which user input is disabled, and the Stage reference so it can be closed later.
+     * The returned window can be shown again with {@link #show()} after it is closed.
      *
-     * Catches and prints any IOException from FXML loading and TaskManagerException during setup.
+     * Catches and prints any IOException from FXML loading.
+     *
+     * @param taskManager The TaskManager instance being loaded, shared by every window.
+     * @return The launched window, or null if it could not be loaded.
      */
-    public static void launchTaskManagerWindow() {
+    public static TaskManagerWindow launchTaskManagerWindow(CompletableFuture<TaskManager> taskManager) {
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(TaskManagerWindow.class.getResource("/view/TaskManagerWindow.fxml"));
             AnchorPane ap = fxmlLoader.load();
@@ -63,19 +68,42 @@ public class TaskManagerWindow {
             ap.prefHeightProperty().bind(scene.heightProperty());
 
             TaskManagerWindow controller = fxmlLoader.getController();
-            try {
-                controller.setTaskManager(new TaskManager());
-            } catch (TaskManagerException e) {
-                e.printStackTrace();
-            }
             controller.setStage(taskStage);
+            controller.setInputDisabled(true);
+            taskManager.whenComplete((loaded, error) -> Platform.runLater(() -> {
+                if (loaded != null) {
+                    controller.setTaskManager(loaded);
+                } else {
+                    controller.showLoadingError(error);
+                }
+            }));
 
             taskStage.show();
+            return controller;
         } catch (IOException e) {
             e.printStackTrace();
+            return null;
         }
     }
 
+    /**
+     * Shows the window if it has been closed, or brings it to the front otherwise.
+     */
+    public void show() {
+        if (taskManagerStage.isShowing()) {
+            taskManagerStage.requestFocus();
+        } else {
+            taskManagerStage.show();
+        }
+    }
+
+    /**
+     * Hides the window.
+     */
+    public void hide() {
+        taskManagerStage.hide();
+    }
+
     /**
      * Sets the Stage for this Task Manager window.
      * This allows the controller to later close the window programmatically.
@@ -135,11 +163,28 @@ public class TaskManagerWindow {
     }
 
     /**
-     * Sets the TaskList instance for the UI.
+     * Sets the TaskList instance for the UI and enables user input.
      *
      * @param taskManager The TaskManager instance.
      */
     public void setTaskManager(TaskManager taskManager) {
         this.taskManager = taskManager;
+        setInputDisabled(false);
+    }
+
+    /**
+     * Displays why the tasks could not be loaded. User input stays disabled.
+     *
+     * @param error The error thrown while loading the tasks.
+     */
+    private void showLoadingError(Throwable error) {
+        Throwable cause = error.getCause() == null ? error : error.getCause();
+        dialogContainer.getChildren().add(DialogBox.getTaskManagerDialog(
+                "Your tasks could not be loaded: " + cause.getMessage(), chatImage));
+    }
+
+    private void setInputDisabled(boolean isDisabled) {
+        userInput.setDisable(isDisabled);
+        sendButton.setDisable(isDisabled);
     }
 }
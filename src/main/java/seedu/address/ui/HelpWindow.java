@@ -60,7 +60,8 @@ public class HelpWindow extends UiPart<Stage> {
     private void populateCommandSummary() {
         String[] actions = {
             "Add", "Clear", "Delete", "Edit", "Find", "List", "Help", "Add Policy", "List Policy", "Find Policy",
-            "Edit Policy", "Delete Policy", "Add Premium", "Edit Premium", "Delete Premium", "Profile"
+            "Edit Policy", "Delete Policy", "Add Premium", "Edit Premium", "Delete Premium", "List Clients",
+            "Statistics", "Import", "Export", "Batch", "Undo", "Redo", "Profile"
         };
 
         String[] formats = {
@@ -74,8 +75,9 @@ public class HelpWindow extends UiPart<Stage> {
             "edit INDEX [n/NAME] [p/PHONE_NUMBER] [e/EMAIL] [a/ADDRESS] [b/BIRTHDAY] "
                     + "[pr/PREMIUM_NAME PREMIUM_AMOUNT] [t/TAG]…*\n"
                     + "e.g., edit 2 n/James Lee e/jameslee@example.com b/2001-02-13",
-            "find KEYWORD [MORE_KEYWORDS]\n"
-                    + "e.g., find James Jake",
+            "find [KEYWORD]... [n/NAME_KEYWORD]... [p/PHONE]... [e/EMAIL]... [a/ADDRESS_PART]... [t/TAG]... "
+                    + "[b/BIRTHDAY or FROM..TO]... [pr/PREMIUM_NAME or FROM..TO]...\n"
+                    + "e.g., find James Jake, find t/friends b/1990-01-01..1999-12-31 pr/1000..",
             "list",
             "help",
             "addpolicy pn/POLICY_NUMBER n/PREMIUM_NAME pc/PROVIDER_COMPANY pl/POLICY_LINK\n"
@@ -93,6 +95,18 @@ public class HelpWindow extends UiPart<Stage> {
                     + "e.g., editpr 1 pr/LifeShield 300",
             "deletepr INDEX pr/PREMIUM_NAME\n"
                     + "e.g., deletepr 3 pr/LifeShield",
+            "clients [PREMIUM_NAME]\n"
+                    + "e.g., clients LifeShield",
+            "stats [INDEX]\n"
+                    + "e.g., stats 1",
+            "import FILE_PATH\n"
+                    + "e.g., import data/clients.csv",
+            "export [all] [policies] FILE_PATH\n"
+                    + "e.g., export all policies data/clients.csv",
+            "batch FILE_PATH\n"
+                    + "e.g., batch data/campaign.txt",
+            "undo",
+            "redo",
             "profile [n/USER_NAME] [e/USER_EMAIL] [p/USER_PHONE]\n"
                     + "e.g., profile n/James Ho e/jamesho@example.com p/22224444",
         };
@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,12 +16,14 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.tasklist.main.TaskManager;
 import seedu.address.tasklist.taskui.TaskManagerWindow;
 
 /**
@@ -30,6 +38,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CompletableFuture<TaskManager> taskManager;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -37,7 +46,10 @@ public class MainWindow extends UiPart<Stage> {
     private UserProfilePanel userProfilePanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private TaskManagerWindow taskManagerWindow;
     private UpcomingBirthdaysPanel upcomingBirthdaysPanel;
+    private PortfolioSummaryPanel portfolioSummaryPanel;
+    private PauseTransition upcomingBirthdaysUpdate;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -63,16 +75,21 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane birthdayPanelPlaceholder;
 
+    @FXML
+    private StackPane portfolioSummaryPanelPlaceholder;
+
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which opens the task list
+     * of the given {@code TaskManager} once it is loaded.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CompletableFuture<TaskManager> taskManager) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.taskManager = taskManager;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -84,7 +101,11 @@ public class MainWindow extends UiPart<Stage> {
 
     @FXML
     private void handleOpenTaskList() {
-        TaskManagerWindow.launchTaskManagerWindow();
+        if (taskManagerWindow == null) {
+            taskManagerWindow = TaskManagerWindow.launchTaskManagerWindow(taskManager);
+        } else {
+            taskManagerWindow.show();
+        }
     }
 
     public Stage getPrimaryStage() {
@@ -135,19 +156,39 @@ public class MainWindow extends UiPart<Stage> {
         policyListPanel = new PolicyListPanel(logic.getFilteredPolicyList());
         policyListPanelPlaceholder.getChildren().add(policyListPanel.getRoot());
 
-        userProfilePanel = new UserProfilePanel(logic.getUserProfile());
+        userProfilePanel = new UserProfilePanel(logic.getObservableUserProfile());
         userProfilePanelPlaceholder.getChildren().add(userProfilePanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.getLoadingProgress());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        updateUpcomingBirthdaysPanel();
+        portfolioSummaryPanel = new PortfolioSummaryPanel(logic.getPortfolioStatistics());
+        portfolioSummaryPanelPlaceholder.getChildren().add(portfolioSummaryPanel.getRoot());
+
+        upcomingBirthdaysPanel = new UpcomingBirthdaysPanel(logic.getUpcomingBirthdays());
+        birthdayPanelPlaceholder.getChildren().add(upcomingBirthdaysPanel.getRoot());
+        scheduleUpcomingBirthdaysUpdate();
+    }
+
+    /**
+     * Moves the upcoming birthdays forward at the next midnight, and at every midnight after that.
+     */
+    private void scheduleUpcomingBirthdaysUpdate() {
+        LocalDateTime now = LocalDateTime.now();
+        long millisUntilMidnight = ChronoUnit.MILLIS.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
+        upcomingBirthdaysUpdate = new PauseTransition(Duration.millis(millisUntilMidnight));
+        upcomingBirthdaysUpdate.setOnFinished(event -> {
+            logic.updateUpcomingBirthdays();
+            scheduleUpcomingBirthdaysUpdate();
+        });
+        upcomingBirthdaysUpdate.play();
     }
 
     /**
@@ -187,6 +228,9 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
+        if (taskManagerWindow != null) {
+            taskManagerWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -206,18 +250,20 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-
-            // Refresh upcoming birthdays if a person was added/edited/deleted
-            if (commandText.trim().startsWith("add")
-                    || commandText.trim().startsWith("edit")
-                    || commandText.trim().startsWith("delete")) {
-                updateUpcomingBirthdaysPanel();
-            } else if (commandText.trim().startsWith("profile")) {
-                updateUserProfilePanel();
-            }
-
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getPendingFeedback().ifPresent(pendingFeedback ->
+                    pendingFeedback.whenComplete((feedback, error) -> Platform.runLater(() -> {
+                        if (error != null) {
+                            logger.warning("An error occurred while completing command: " + commandText + ": "
+                                    + error);
+                            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                            resultDisplay.setFeedbackToUser(cause.getMessage());
+                            return;
+                        }
+                        logger.info("Result: " + feedback);
+                        resultDisplay.setFeedbackToUser(feedback);
+                    })));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -234,16 +280,4 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
-
-    private void updateUpcomingBirthdaysPanel() {
-        birthdayPanelPlaceholder.getChildren().clear();
-        upcomingBirthdaysPanel = new UpcomingBirthdaysPanel(logic.getUpcomingBirthdays());
-        birthdayPanelPlaceholder.getChildren().add(upcomingBirthdaysPanel.getRoot());
-    }
-
-    private void updateUserProfilePanel() {
-        userProfilePanelPlaceholder.getChildren().clear();
-        userProfilePanel = new UserProfilePanel(logic.getUserProfile());
-        userProfilePanelPlaceholder.getChildren().add(userProfilePanel.getRoot());
-    }
 }
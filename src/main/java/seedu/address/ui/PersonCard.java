@@ -1,16 +1,16 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 
-import javafx.beans.binding.Bindings;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.control.TableColumn;
-import javafx.scene.control.TableView;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
@@ -33,7 +33,10 @@ public class PersonCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final List<Label> premiumNames = new ArrayList<>();
+    private final List<Label> premiumAmounts = new ArrayList<>();
+
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -50,20 +53,35 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label birthday;
     @FXML
-    private TableView<Premium> premiumList;
-    @FXML
-    private TableColumn<Premium, String> premiumNameColumn;
-    @FXML
-    private TableColumn<Premium, String> premiumAmountColumn;
+    private GridPane premiumList;
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to
      * display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} on this card with the given index, replacing the person shown before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -72,32 +90,53 @@ public class PersonCard extends UiPart<Region> {
         email.setText(person.getEmail().value);
         birthday.setText(person.getBirthday().toString());
 
-        premiumNameColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getPremiumName()));
-        premiumAmountColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty("$" + cellData.getValue().getPremiumAmount()));
-        premiumList.setItems(FXCollections.observableArrayList(
-                person.getPremiumList().premiumList.stream()
-                        .filter(premium -> premium.getPremiumName() != null
-                                && !premium.getPremiumName().isEmpty())
-                        .collect(Collectors.toList())
-        ));
-        premiumList.setFixedCellSize(25);
-        premiumList.prefHeightProperty().bind(Bindings.size(premiumList.getItems()).multiply(25).add(30));
-        premiumList.widthProperty()
-                .addListener((observable, oldValue, newValue) -> {
-                    premiumNameColumn.setPrefWidth(newValue.doubleValue() / 2.03);
-                    premiumNameColumn.setResizable(false);
-                    premiumAmountColumn.setPrefWidth(newValue.doubleValue() / 2.03);
-                    premiumAmountColumn.setResizable(false);
-                });
-
-        person.getTags().stream()
+        showPremiums(person.getPremiumList().getPremiums().stream()
+                .filter(premium -> premium.getPremiumName() != null && !premium.getPremiumName().isEmpty())
+                .collect(Collectors.toList()));
+
+        tags.getChildren().setAll(person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
+                .map(tag -> {
                     Label tagLabel = new Label(tag.tagName);
                     tagLabel.setMaxWidth(80);
-                    tags.getChildren().add(tagLabel);
-                });
+                    return tagLabel;
+                })
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Shows one row of {@code premiums} per premium below the header row of the premium table.
+     * Rows are kept when they are no longer needed, and reused when the card shows another person.
+     */
+    private void showPremiums(List<Premium> premiums) {
+        while (premiumNames.size() < premiums.size()) {
+            int row = premiumNames.size() + 1;
+            Label premiumName = createPremiumCell();
+            Label premiumAmount = createPremiumCell();
+            premiumList.addRow(row, premiumName, premiumAmount);
+            premiumNames.add(premiumName);
+            premiumAmounts.add(premiumAmount);
+        }
+
+        for (int i = 0; i < premiumNames.size(); i++) {
+            boolean isUsed = i < premiums.size();
+            Label premiumName = premiumNames.get(i);
+            Label premiumAmount = premiumAmounts.get(i);
+            premiumName.setVisible(isUsed);
+            premiumName.setManaged(isUsed);
+            premiumAmount.setVisible(isUsed);
+            premiumAmount.setManaged(isUsed);
+            if (isUsed) {
+                premiumName.setText(premiums.get(i).getPremiumName());
+                premiumAmount.setText("$" + premiums.get(i).getPremiumAmount());
+            }
+        }
+    }
+
+    private static Label createPremiumCell() {
+        Label cell = new Label();
+        cell.getStyleClass().add("premium-table-cell");
+        cell.setMaxWidth(Double.MAX_VALUE);
+        return cell;
     }
 }
@@ -0,0 +1,94 @@
+package seedu.address.ui;
+
+import javafx.application.Platform;
+import javafx.collections.MapChangeListener;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.address.model.stats.PortfolioStatistics;
+import seedu.address.model.stats.PremiumAggregate;
+
+/**
+ * Panel containing the number of clients and premiums in the portfolio, and the total premium by provider company.
+ */
+public class PortfolioSummaryPanel extends UiPart<Region> {
+
+    private static final String FXML = "PortfolioSummaryPanel.fxml";
+
+    private final PortfolioStatistics statistics;
+    private boolean isRefreshPending;
+
+    @FXML
+    private Label clientsLabel;
+
+    @FXML
+    private Label premiumsLabel;
+
+    @FXML
+    private Label totalLabel;
+
+    @FXML
+    private VBox providerList;
+
+    /**
+     * Creates a {@code PortfolioSummaryPanel} that shows the current totals of {@code statistics}
+     * and is updated whenever they change. Changes made together are shown in one refresh.
+     */
+    public PortfolioSummaryPanel(PortfolioStatistics statistics) {
+        super(FXML);
+        this.statistics = statistics;
+        showTotals();
+        showProviders();
+        statistics.clientCountProperty().addListener((observable, oldCount, newCount) -> requestRefresh());
+        statistics.portfolioProperty().addListener((observable, oldPortfolio, newPortfolio) -> requestRefresh());
+        statistics.unlistedProperty().addListener((observable, oldUnlisted, newUnlisted) -> requestRefresh());
+        statistics.getByProvider().addListener(
+                (MapChangeListener<String, PremiumAggregate>) change -> requestRefresh());
+    }
+
+    /**
+     * Shows the statistics again once the current changes to them are done, unless that is already due.
+     */
+    private void requestRefresh() {
+        if (isRefreshPending) {
+            return;
+        }
+        isRefreshPending = true;
+        Platform.runLater(() -> {
+            isRefreshPending = false;
+            showTotals();
+            showProviders();
+        });
+    }
+
+    /**
+     * Sets the labels to the totals of the whole portfolio.
+     */
+    private void showTotals() {
+        PremiumAggregate portfolio = statistics.getPortfolio();
+        clientsLabel.setText("Clients: " + statistics.getClientCount());
+        premiumsLabel.setText("Premiums: " + portfolio.getCount());
+        totalLabel.setText("Total premium: $" + portfolio.getTotal());
+    }
+
+    /**
+     * Lists the number of premiums and the total premium of each provider company.
+     */
+    private void showProviders() {
+        providerList.getChildren().clear();
+        for (PremiumAggregate provider : statistics.getByProvider().values()) {
+            providerList.getChildren().add(createProviderLabel(provider));
+        }
+        if (!statistics.getUnlisted().isEmpty()) {
+            providerList.getChildren().add(createProviderLabel(statistics.getUnlisted()));
+        }
+    }
+
+    private static Label createProviderLabel(PremiumAggregate provider) {
+        Label label = new Label(provider.getName() + ": " + provider.getCount() + " premiums, $"
+                + provider.getTotal());
+        label.getStyleClass().add("cell_small_label");
+        return label;
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 
 /**
@@ -17,12 +20,27 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private ProgressBar loadingProgress;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows {@code progress} of loading
+     * the persons until they have all been loaded.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyDoubleProperty progress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+
+        // A negative progress shows the bar as indeterminate
+        loadingProgress.progressProperty().bind(progress);
+        BooleanBinding isLoading = progress.lessThan(1);
+        loadingStatus.visibleProperty().bind(isLoading);
+        loadingStatus.managedProperty().bind(isLoading);
+        loadingProgress.visibleProperty().bind(isLoading);
+        loadingProgress.managedProperty().bind(isLoading);
     }
 
 }
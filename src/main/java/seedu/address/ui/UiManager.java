@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +12,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.tasklist.main.TaskManager;
 
 /**
  * The manager of the UI component.
@@ -23,13 +25,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/ClientNest_32.png";
 
     private Logic logic;
+    private CompletableFuture<TaskManager> taskManager;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic} and the {@code TaskManager} being loaded.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CompletableFuture<TaskManager> taskManager) {
         this.logic = logic;
+        this.taskManager = taskManager;
     }
 
     @Override
@@ -40,7 +44,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, taskManager);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -2,8 +2,12 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -17,6 +21,9 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    // FXML documents by location, so that parts created many times (e.g. list cards) read their document once
+    private static final Map<String, byte[]> fxmlDocuments = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -69,12 +76,28 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlDocument(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only if it has not been read before.
+     */
+    private static byte[] getFxmlDocument(URL location) throws IOException {
+        // Keyed by the external form, as URL#equals may resolve host names
+        String key = location.toExternalForm();
+        byte[] document = fxmlDocuments.get(key);
+        if (document == null) {
+            try (InputStream inputStream = location.openStream()) {
+                document = inputStream.readAllBytes();
+            }
+            fxmlDocuments.put(key, document);
+        }
+        return document;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -16,7 +19,7 @@ public class UpcomingBirthdayCard extends UiPart<Region> {
 
     private static final String FXML = "UpcomingBirthdayCard.fxml";
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -29,13 +32,32 @@ public class UpcomingBirthdayCard extends UiPart<Region> {
     @FXML
     private Label daysUntil;
 
+    /**
+     * Constructs an empty card, to be filled in with {@link #setPerson(Person)}.
+     */
+    public UpcomingBirthdayCard() {
+        super(FXML);
+    }
+
     /**
      * Constructs a card displaying the given person's upcoming birthday info.
      *
      * @param person Person whose birthday info is shown.
      */
     public UpcomingBirthdayCard(Person person) {
-        super(FXML);
+        this();
+        setPerson(person);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows the upcoming birthday info of {@code person} on this card.
+     */
+    public void setPerson(Person person) {
+        requireNonNull(person);
         this.person = person;
         name.setText(person.getName().fullName);
         birthday.setText(person.getBirthday().toString());
@@ -50,15 +72,9 @@ public class UpcomingBirthdayCard extends UiPart<Region> {
      */
     private void setDaysUntilTextAndStyle(Person person) {
         LocalDate today = LocalDate.now();
-        LocalDate birthday = person.getBirthday().getValue();
-        LocalDate nextBirthday = birthday.withYear(today.getYear());
-
-        if (nextBirthday.isBefore(today)) {
-            nextBirthday = nextBirthday.plusYears(1);
-        }
-
-        long daysLeft = java.time.temporal.ChronoUnit.DAYS.between(today, nextBirthday);
+        LocalDate nextBirthday = person.getBirthday().getNextOccurrence(today);
 
+        long daysLeft = ChronoUnit.DAYS.between(today, nextBirthday);
         if (daysLeft == 0) {
             daysUntil.setText("Today! 🎂");
             daysUntil.setStyle("-fx-text-fill: #6eaa7c; -fx-font-weight: bold;");
@@ -8,7 +8,8 @@ import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
 
 /**
- * Panel displaying persons with birthdays in the next 30 days.
+ * Panel displaying persons with upcoming birthdays.
+ * The panel is bound to a live list, so it follows changes to the list without being rebuilt.
  */
 public class UpcomingBirthdaysPanel extends UiPart<Region> {
     private static final String FXML = "UpcomingBirthdaysPanel.fxml";
@@ -29,8 +30,11 @@ public class UpcomingBirthdaysPanel extends UiPart<Region> {
 
     /**
      * A custom {@code ListCell} that displays a {@code Person} using an {@code UpcomingBirthdayCard}.
+     * The card is created once per cell and refilled as the cell is reused for other persons.
      */
     class BirthdayListViewCell extends ListCell<Person> {
+        private UpcomingBirthdayCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -39,7 +43,11 @@ public class UpcomingBirthdaysPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new UpcomingBirthdayCard(person).getRoot());
+                if (card == null) {
+                    card = new UpcomingBirthdayCard();
+                }
+                card.setPerson(person);
+                setGraphic(card.getRoot());
             }
         }
     }
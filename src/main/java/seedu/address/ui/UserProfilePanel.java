@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.OverrunStyle;
@@ -26,32 +27,38 @@ public class UserProfilePanel extends UiPart<Region> {
     @FXML
     private Label emailLabel;
 
-    private final UserProfile userProfile;
-
     /**
-     * Creates a {@code UserProfilePanel} with the given model.
+     * Creates a {@code UserProfilePanel} that shows the current value of {@code userProfile}
+     * and is updated whenever it changes.
      */
-    public UserProfilePanel(UserProfile userProfile) {
+    public UserProfilePanel(ObservableValue<UserProfile> userProfile) {
         super(FXML);
-        this.userProfile = userProfile;
-        initializeUserProfile();
+        initializeLabels();
+        showUserProfile(userProfile.getValue());
+        userProfile.addListener((observable, oldProfile, newProfile) -> showUserProfile(newProfile));
     }
 
     /**
-     * Initializes and sets user profile data in the UI.
+     * Sets up how the labels lay out their text.
      */
-    private void initializeUserProfile() {
-        nameLabel.setText("Welcome, " + userProfile.getName().fullName);
+    private void initializeLabels() {
         nameLabel.setMinWidth(500);
         nameLabel.setWrapText(false);
         nameLabel.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
-        phoneLabel.setText("Phone: " + userProfile.getPhone().value);
         phoneLabel.setMinWidth(250);
         phoneLabel.setWrapText(false);
         phoneLabel.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
-        emailLabel.setText("Email: " + userProfile.getEmail().value);
         emailLabel.setMinWidth(250);
         emailLabel.setWrapText(false);
         emailLabel.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
     }
+
+    /**
+     * Sets the labels to the data of {@code userProfile}.
+     */
+    private void showUserProfile(UserProfile userProfile) {
+        nameLabel.setText("Welcome, " + userProfile.getName().fullName);
+        phoneLabel.setText("Phone: " + userProfile.getPhone().value);
+        emailLabel.setText("Email: " + userProfile.getEmail().value);
+    }
 }
@@ -1,9 +1,12 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +42,23 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveAndReadJsonArrayFile_elementsInOrder_success() throws Exception {
+        List<String> elements = List.of("first", "second", "third");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "elements", elements);
+
+        List<String> readBack = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readBack::add);
+        assertEquals(elements, readBack);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingArrayField_throwsIoException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\" : [ \"value\" ] }");
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements",
+                String.class, element -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
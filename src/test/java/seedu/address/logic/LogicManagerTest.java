@@ -4,18 +4,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.BIRTHDAY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BIRTHDAY_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PREMIUM_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PREMIUM_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,8 +34,12 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -39,7 +52,9 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonPolicyBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonUserProfileStorage;
+import seedu.address.storage.StagedAddressBookLoader;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindPersistence;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -97,6 +112,150 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_success() throws Exception {
+        logic = new LogicManager(model, createFailingStorage(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_throwsCommandException() throws Exception {
+        WriteBehindPersistence persistence = new WriteBehindPersistence(createFailingStorage(DUMMY_IO_EXCEPTION),
+                model, 0);
+        logic = new LogicManager(model, createFailingStorage(DUMMY_IO_EXCEPTION), persistence);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, persistence::flush);
+
+        // the failure of the earlier background save is reported on the next command
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getPolicyBook(), new UserPrefs(),
+                model.getUserProfile(), null);
+        assertCommandFailure(ListCommand.COMMAND_WORD, CommandException.class, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), expectedModel);
+    }
+
+    @Test
+    public void executeBatch_validCommands_savesOnce() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, createCountingStorage(saveCount));
+
+        CommandResult result = logic.executeBatch(List.of(
+                "# after the campaign",
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                        + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY,
+                "",
+                AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB
+                        + BIRTHDAY_DESC_BOB + PREMIUM_DESC_BOB));
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser().split("\n")[0]);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void executeBatch_failingCommand_rollsBackWithoutSaving() {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, createCountingStorage(saveCount));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY;
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_LINE_FAILED, 2,
+                AddCommand.MESSAGE_DUPLICATE_PERSON), () -> logic.executeBatch(List.of(addCommand, addCommand)));
+
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void execute_undoRedo_revertsAndRestoresCommand() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, createCountingStorage(saveCount));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        // read-only commands are not undone
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, addCommand),
+                logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertEquals(2, saveCount.get());
+
+        assertEquals(String.format(RedoCommand.MESSAGE_SUCCESS, addCommand),
+                logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(3, saveCount.get());
+    }
+
+    @Test
+    public void execute_failedCommand_notUndone() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.executeBatch(List.of(addCommand, addCommand)));
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_personsStillLoading_waitsOnlyForCommandsRequiringThem() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = createCountingStorage(saveCount);
+        storage.saveAddressBook(getTypicalAddressBook());
+        saveCount.set(0);
+
+        // The UI thread never gets to add the pages, so persons are only added by waiting for them
+        StagedAddressBookLoader loader = new StagedAddressBookLoader(storage, model, runnable -> { }, Runnable::run,
+                StagedAddressBookLoader.DEFAULT_PAGE_SIZE);
+        loader.start();
+        logic = new LogicManager(model, storage, null, loader);
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertEquals(1, logic.getLoadingProgress().get());
+        assertEquals(0, saveCount.get());
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose address book storage counts its saves in {@code saveCount}.
+     */
+    private StorageManager createCountingStorage(AtomicInteger saveCount) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                new JsonPolicyBookStorage(temporaryFolder.resolve("policyBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUserProfileStorage(temporaryFolder.resolve("userProfile.json")));
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose address book storage throws {@code e} when saving.
+     */
+    private StorageManager createFailingStorage(IOException e) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                throw e;
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                new JsonPolicyBookStorage(temporaryFolder.resolve("policyBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUserProfileStorage(temporaryFolder.resolve("userProfile.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -18,10 +18,12 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
@@ -33,7 +35,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PremiumHolders;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.stats.PortfolioStatistics;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -159,6 +163,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -259,6 +268,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableValue<UserProfile> getObservableUserProfile() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserProfile(UserProfile currentProfile, UserProfile userProfile) {
             throw new AssertionError("This method should not be called.");
@@ -279,6 +293,61 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setUpcomingBirthdayWindow(int windowDays) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PremiumHolders getPremiumHolders(String premiumName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PremiumHolders> getAllPremiumHolders() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PortfolioStatistics getPortfolioStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardUncommittedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -17,6 +17,7 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
@@ -27,11 +28,13 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PremiumHolders;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyLink;
 import seedu.address.model.policy.PolicyName;
 import seedu.address.model.policy.PolicyNumber;
 import seedu.address.model.policy.ProviderCompany;
+import seedu.address.model.stats.PortfolioStatistics;
 import seedu.address.testutil.PolicyBuilder;
 
 /**
@@ -128,6 +131,11 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -229,6 +237,11 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableValue<UserProfile> getObservableUserProfile() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserProfile(UserProfile currentProfile, UserProfile userProfile) {
             throw new AssertionError("This method should not be called.");
@@ -263,6 +276,61 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setUpcomingBirthdayWindow(int windowDays) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PremiumHolders getPremiumHolders(String premiumName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PremiumHolders> getAllPremiumHolders() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PortfolioStatistics getPortfolioStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardUncommittedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -2,16 +2,19 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PREMIUM_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PREMIUM_BOB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PremiumList;
 import seedu.address.testutil.PremiumListBuilder;
 
@@ -56,4 +59,17 @@ public class AddPremiumCommandTest {
                 + premiumList + "}";
         assertEquals(expected, addPremiumCommand.toString());
     }
+
+    @Test
+    public void createAddedPerson_originalPersonUnchanged() {
+        PremiumList originalPremiumList = ALICE.getPremiumList();
+        PremiumList premiumList = new PremiumListBuilder().withPremium(VALID_PREMIUM_AMY).build();
+        AddPremiumCommand addPremiumCommand = new AddPremiumCommand(INDEX_FIRST_PERSON, premiumList);
+
+        Person addedPerson = addPremiumCommand.createAddedPerson(ALICE, premiumList);
+
+        assertEquals(originalPremiumList.withAll(premiumList), addedPerson.getPremiumList());
+        assertEquals(1, ALICE.getPremiumList().size());
+        assertSame(originalPremiumList, ALICE.getPremiumList());
+    }
 }
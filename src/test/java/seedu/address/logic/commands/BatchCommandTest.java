@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void constructor_unbatchableCommand_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchCommand(Map.of(1, new ExitCommand())));
+    }
+
+    @Test
+    public void isBatchable() {
+        assertTrue(BatchCommand.isBatchable(new ListCommand()));
+        assertTrue(BatchCommand.isBatchable(new AddCommand(HOON)));
+        assertFalse(BatchCommand.isBatchable(new HelpCommand()));
+        assertFalse(BatchCommand.isBatchable(new ExitCommand()));
+        assertFalse(BatchCommand.isBatchable(new ExportCommand(Paths.get("export.json"), false, false)));
+        assertFalse(BatchCommand.isBatchable(new UndoCommand()));
+        assertFalse(BatchCommand.isBatchable(new RedoCommand()));
+        assertFalse(BatchCommand.isBatchable(new BatchCommand(Map.of(1, new ListCommand()))));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_reportsEachLine() {
+        BatchCommand batchCommand = new BatchCommand(Map.of(4, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new AddCommand(HOON)));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+        expectedModel.addPerson(HOON);
+        expectedModel.deletePerson(ALICE);
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 2) + "\n"
+                + String.format(BatchCommand.MESSAGE_LINE_RESULT, 2,
+                        String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(HOON))) + "\n"
+                + String.format(BatchCommand.MESSAGE_LINE_RESULT, 4,
+                        String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE)));
+
+        assertCommandSuccess(batchCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_restoresBooks() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size());
+        BatchCommand batchCommand = new BatchCommand(Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new DeletePolicyCommand(INDEX_SECOND_PERSON),
+                3, new DeleteCommand(outOfBoundIndex)));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_LINE_FAILED, 3,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+        assertEquals(getTypicalPolicyBook(), model.getPolicyBook());
+        assertTrue(model.hasPerson(ALICE));
+        assertEquals(BENSON, model.getFilteredPersonList().get(1));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand firstCommand = new BatchCommand(Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new BatchCommand(Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different line -> returns false
+        assertFalse(firstCommand.equals(new BatchCommand(Map.of(2, new DeleteCommand(INDEX_FIRST_PERSON)))));
+
+        // different command -> returns false
+        assertFalse(firstCommand.equals(new BatchCommand(Map.of(1, new DeleteCommand(INDEX_SECOND_PERSON)))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListCommand listCommand = new ListCommand();
+        BatchCommand batchCommand = new BatchCommand(Map.of(1, listCommand));
+        String expected = BatchCommand.class.getCanonicalName() + "{commandsByLine={1=" + listCommand + "}}";
+        assertEquals(expected, batchCommand.toString());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.HoldsPremiumPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ClientsCommand}.
+ */
+public class ClientsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void equals() {
+        HoldsPremiumPredicate firstPredicate = new HoldsPremiumPredicate("LifeShield");
+        HoldsPremiumPredicate secondPredicate = new HoldsPremiumPredicate("ElderShield");
+
+        ClientsCommand firstCommand = new ClientsCommand(firstPredicate);
+        ClientsCommand secondCommand = new ClientsCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ClientsCommand(firstPredicate)));
+        assertTrue(new ClientsCommand().equals(new ClientsCommand()));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different premium -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+        assertFalse(firstCommand.equals(new ClientsCommand()));
+    }
+
+    @Test
+    public void execute_heldPremium_holdersListed() {
+        String expectedMessage = String.format(ClientsCommand.MESSAGE_CLIENTS_LISTED, 2, "ElderShield", 5679);
+        HoldsPremiumPredicate predicate = new HoldsPremiumPredicate("eldershield");
+        ClientsCommand command = new ClientsCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unheldPremium_noPersonFound() {
+        String expectedMessage = String.format(ClientsCommand.MESSAGE_CLIENTS_LISTED, 0, "Unknown", 0);
+        HoldsPremiumPredicate predicate = new HoldsPremiumPredicate("Unknown");
+        ClientsCommand command = new ClientsCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_premiumEditedAfterListing_listUpdated() throws Exception {
+        new ClientsCommand(new HoldsPremiumPredicate("LifeShield")).execute(model);
+        assertEquals(Arrays.asList(BENSON, GEORGE), model.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withPremiumList("ElderShield $10").build();
+        model.setPerson(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()), editedBenson);
+        assertEquals(Arrays.asList(GEORGE), model.getFilteredPersonList());
+        assertEquals(1111, model.getPremiumHolders("LifeShield").getTotalAmount());
+        assertEquals(5689, model.getPremiumHolders("ElderShield").getTotalAmount());
+    }
+
+    @Test
+    public void execute_noPremiumName_summaryShown() {
+        String expectedMessage = ClientsCommand.MESSAGE_SUMMARY_HEADER
+                + "\n" + String.format(ClientsCommand.MESSAGE_PREMIUM_SUMMARY, "ElderShield", 2, 5679)
+                + "\n" + String.format(ClientsCommand.MESSAGE_PREMIUM_SUMMARY, "ETFBonds", 1, 456)
+                + "\n" + String.format(ClientsCommand.MESSAGE_PREMIUM_SUMMARY, "GreatInvestment", 1, 2321)
+                + "\n" + String.format(ClientsCommand.MESSAGE_PREMIUM_SUMMARY, "Health2040", 1, 1005460)
+                + "\n" + String.format(ClientsCommand.MESSAGE_PREMIUM_SUMMARY, "LifeShield", 2, 1344);
+        assertCommandSuccess(new ClientsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noPremiums_noPremiumsMessageShown() {
+        Model emptyModel = new ModelManager(new AddressBook(), new PolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+        assertCommandSuccess(new ClientsCommand(), emptyModel, ClientsCommand.MESSAGE_NO_PREMIUMS, emptyModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        HoldsPremiumPredicate predicate = new HoldsPremiumPredicate("LifeShield");
+        ClientsCommand command = new ClientsCommand(predicate);
+        String expected = ClientsCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,12 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // with pending feedback -> returns false
+        CompletableFuture<String> pendingFeedback = CompletableFuture.completedFuture("done");
+        assertFalse(commandResult.equals(new CommandResult("feedback", pendingFeedback)));
+        assertTrue(new CommandResult("feedback", pendingFeedback).equals(
+                new CommandResult("feedback", pendingFeedback)));
     }
 
     @Test
@@ -58,8 +58,7 @@ public class DeletePremiumCommandTest {
 
         // Create premium that doesn't exist in the person's premium list
         Premium nonExistentPremium = new Premium("LifeShield", 200);
-        PremiumList premiumsToDelete = new PremiumList();
-        premiumsToDelete.add(nonExistentPremium);
+        PremiumList premiumsToDelete = new PremiumList(nonExistentPremium);
 
         DeletePremiumCommand command = new DeletePremiumCommand(INDEX_FIRST_PERSON, premiumsToDelete);
 
@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+import seedu.address.storage.PersonExportWriter;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+    // Runs the export on the calling thread so that it has finished when the command returns
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void execute_filteredList_exportsDisplayedPersons() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path file = testFolder.resolve("clients.csv");
+
+        CommandResult result = new ExportCommand(file, false, false, DIRECT_EXECUTOR).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, file), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), getPendingFeedback(result));
+        assertEquals(write(file, Optional.empty(), List.of(ALICE)), Files.readString(file));
+    }
+
+    @Test
+    public void execute_allPersonsWithPolicies_exportsAddressBook() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path file = testFolder.resolve("clients.ndjson");
+
+        CommandResult result = new ExportCommand(file, true, true, DIRECT_EXECUTOR).execute(model);
+
+        int personCount = model.getAddressBook().getPersonList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, personCount, file), getPendingFeedback(result));
+        assertEquals(write(file, Optional.of(model.getPolicyBook().getPolicyList()),
+                model.getAddressBook().getPersonList()), Files.readString(file));
+    }
+
+    @Test
+    public void execute_laterChanges_notExported() throws Exception {
+        Path file = testFolder.resolve("clients.csv");
+        List<Runnable> pendingExports = new ArrayList<>();
+
+        CommandResult result = new ExportCommand(file, true, false, pendingExports::add).execute(model);
+        model.deletePerson(ALICE);
+        pendingExports.forEach(Runnable::run);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 7, file), getPendingFeedback(result));
+        assertEquals(write(file, Optional.empty(), getTypicalAddressBook().getPersonList()), Files.readString(file));
+    }
+
+    @Test
+    public void execute_unwritableFile_reportsFailure() throws Exception {
+        Path file = testFolder.resolve("clients.csv");
+        Files.createDirectory(file);
+
+        CommandResult result = new ExportCommand(file, true, false, DIRECT_EXECUTOR).execute(model);
+
+        assertTrue(getPendingFeedback(result).startsWith(String.format(ExportCommand.MESSAGE_FAILED, file, "")));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand firstCommand = new ExportCommand(Paths.get("clients.csv"), false, false);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ExportCommand(Paths.get("clients.csv"), false, false)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(firstCommand.equals(new ExportCommand(Paths.get("clients.ndjson"), false, false)));
+
+        // different scope -> returns false
+        assertFalse(firstCommand.equals(new ExportCommand(Paths.get("clients.csv"), true, false)));
+
+        // different policies -> returns false
+        assertFalse(firstCommand.equals(new ExportCommand(Paths.get("clients.csv"), false, true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("clients.csv");
+        ExportCommand exportCommand = new ExportCommand(filePath, true, false);
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath
+                + ", isAllPersons=true, isWithPolicies=false}";
+        assertEquals(expected, exportCommand.toString());
+    }
+
+    private static String getPendingFeedback(CommandResult result) throws Exception {
+        assertTrue(result.getPendingFeedback().isPresent());
+        CompletableFuture<String> pendingFeedback = result.getPendingFeedback().get().toCompletableFuture();
+        assertTrue(pendingFeedback.isDone());
+        return pendingFeedback.get();
+    }
+
+    private String write(Path file, Optional<List<Policy>> policies,
+            List<Person> persons) throws Exception {
+        Path expectedFile = testFolder.resolve("expected-" + file.getFileName());
+        new PersonExportWriter(expectedFile, policies).write(persons, expectedFile);
+        return Files.readString(expectedFile);
+    }
+}
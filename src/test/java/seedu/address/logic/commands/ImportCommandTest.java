@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+    private static final String HEADER = "name,phone,email,address,birthday,premiums,tags";
+    private static final String HOON_ROW = "Hoon Meier,8482424,stefan@example.com,little india,1994-01-01,"
+            + "GreatInvestment 1022200,";
+    private static final String IDA_ROW = "Ida Mueller,8482131,hans@example.com,chicago ave,1995-01-01,"
+            + "Health2040 10100,";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void execute_validRows_addsAllPersons() throws Exception {
+        Path file = write(HEADER, HOON_ROW, IDA_ROW);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, file),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectsThemByLine() throws Exception {
+        Path file = write(HEADER,
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",1990-01-01,,",
+                HOON_ROW,
+                "R@chel,12345678,rachel@example.com,somewhere,1990-01-01,,",
+                "Ida Mueller,8482131,hans@example.com,chicago ave,,,",
+                HOON_ROW,
+                IDA_ROW);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, file) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED, 4) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 2, AddCommand.MESSAGE_DUPLICATE_PERSON) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 5, "The birthday field is missing") + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6, ImportCommand.MESSAGE_DUPLICATE_IN_FILE);
+
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyRejectedRows_truncatesReport() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rejectedCount = ImportCommand.MAX_REJECTED_SHOWN + 3;
+        for (int i = 0; i < rejectedCount; i++) {
+            lines.add("R@chel,12345678,rachel@example.com,somewhere,1990-01-01,,");
+        }
+        Path file = write(lines.toArray(String[]::new));
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED, 3)));
+        assertEquals(ImportCommand.MAX_REJECTED_SHOWN + 3, feedback.split("\n").length);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        String expectedMessage = String.format(ImportCommand.MESSAGE_READ_FAILED, file, file);
+        assertCommandFailure(new ImportCommand(file), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand firstCommand = new ImportCommand(Paths.get("clients.csv"));
+        ImportCommand secondCommand = new ImportCommand(Paths.get("clients.json"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ImportCommand(Paths.get("clients.csv"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("clients.csv");
+        ImportCommand importCommand = new ImportCommand(filePath);
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path file = testFolder.resolve("clients.csv");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
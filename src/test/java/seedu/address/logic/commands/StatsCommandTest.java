@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void equals() {
+        StatsCommand firstCommand = new StatsCommand(INDEX_FIRST_PERSON);
+        StatsCommand secondCommand = new StatsCommand(INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new StatsCommand(INDEX_FIRST_PERSON)));
+        assertTrue(new StatsCommand().equals(new StatsCommand()));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+        assertFalse(firstCommand.equals(new StatsCommand()));
+    }
+
+    @Test
+    public void execute_noIndex_portfolioShown() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_PORTFOLIO, 7, 7, 1015260)
+                + "\n" + StatsCommand.MESSAGE_BY_PROVIDER
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "BondPlus", 1, 456)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "HealthPlus", 1, 1005460)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "InvestCorp", 1, 2321)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "ShieldCorp", 4, 7023)
+                + "\n" + StatsCommand.MESSAGE_BY_TAG
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "friends", 3, 1006693)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "owesMoney", 1, 233)
+                + "\n" + StatsCommand.MESSAGE_BY_POLICY
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "ElderShield", 2, 5679)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "ETFBonds", 1, 456)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "GreatInvestment", 1, 2321)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "Health2040", 1, 1005460)
+                + "\n" + String.format(StatsCommand.MESSAGE_GROUP, "LifeShield", 2, 1344);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyPortfolio_totalsShown() {
+        Model emptyModel = new ModelManager(new AddressBook(), new PolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+        String expectedMessage = String.format(StatsCommand.MESSAGE_PORTFOLIO, 0, 0, 0);
+        assertCommandSuccess(new StatsCommand(), emptyModel, expectedMessage, emptyModel);
+    }
+
+    @Test
+    public void execute_validIndex_clientShown() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_CLIENT, "Benson Meier", 1, 233);
+        assertCommandSuccess(new StatsCommand(INDEX_SECOND_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new StatsCommand(outOfBoundIndex), model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void toStringMethod() {
+        StatsCommand command = new StatsCommand(INDEX_FIRST_PERSON);
+        String expected = StatsCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BatchCommandParser parser = new BatchCommandParser(new ClientNestParser());
+
+    @Test
+    public void parse_scriptFile_returnsBatchCommand() throws Exception {
+        Path file = testFolder.resolve("script.txt");
+        Files.write(file, List.of("delete 2", "", "# then", "delete 1"), StandardCharsets.UTF_8);
+
+        BatchCommand expectedCommand = new BatchCommand(Map.of(1, new DeleteCommand(INDEX_SECOND_PERSON),
+                4, new DeleteCommand(INDEX_FIRST_PERSON)));
+        assertParseSuccess(parser, " " + file + " ", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidCommandInScript_throwsParseException() throws Exception {
+        Path file = testFolder.resolve("script.txt");
+        Files.write(file, List.of("delete 2", "delete"), StandardCharsets.UTF_8);
+
+        assertParseFailure(parser, file.toString(), String.format(BatchCommand.MESSAGE_LINE_RESULT, 2,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, file.toString(), String.format(BatchCommandParser.MESSAGE_READ_FAILED, file, file));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+}
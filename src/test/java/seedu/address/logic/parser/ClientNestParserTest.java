@@ -8,23 +8,33 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PREMIUM_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClientsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.EditPremiumCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HoldsPremiumPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -78,6 +88,52 @@ public class ClientNestParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_clients() throws Exception {
+        assertEquals(new ClientsCommand(), parser.parseCommand(ClientsCommand.COMMAND_WORD));
+        ClientsCommand command = (ClientsCommand) parser.parseCommand(ClientsCommand.COMMAND_WORD + " LifeShield");
+        assertEquals(new ClientsCommand(new HoldsPremiumPredicate("LifeShield")), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        StatsCommand command = (StatsCommand) parser.parseCommand(
+                StatsCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new StatsCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseBatch_validLines_returnsBatchCommand() throws Exception {
+        BatchCommand command = parser.parseBatch(List.of("  # cleanup", "",
+                DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+        assertEquals(new BatchCommand(Map.of(3, new DeleteCommand(INDEX_FIRST_PERSON))), command);
+    }
+
+    @Test
+    public void parseBatch_invalidLines_throwsParseException() {
+        assertThrows(ParseException.class, String.format(BatchCommand.MESSAGE_LINE_RESULT, 2,
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parseBatch(List.of(ListCommand.COMMAND_WORD, "unknown")));
+        assertThrows(ParseException.class, String.format(BatchCommand.MESSAGE_LINE_RESULT, 1,
+                String.format(BatchCommand.MESSAGE_NOT_BATCHABLE, ExitCommand.COMMAND_WORD)), () ->
+                parser.parseBatch(List.of(ExitCommand.COMMAND_WORD)));
+        assertThrows(ParseException.class, BatchCommand.MESSAGE_EMPTY, () -> parser.parseBatch(List.of("", "#")));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(
+                ExportCommand.COMMAND_WORD + " " + ExportCommand.KEYWORD_ALL + " data/clients.csv");
+        assertEquals(new ExportCommand(Paths.get("data/clients.csv"), true, false), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(
+                ImportCommand.COMMAND_WORD + " data/clients.csv");
+        assertEquals(new ImportCommand(Paths.get("data/clients.csv")), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -89,6 +145,20 @@ public class ClientNestParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                UndoCommand.MESSAGE_USAGE), () -> parser.parseCommand(UndoCommand.COMMAND_WORD + " 1"));
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RedoCommand.MESSAGE_USAGE), () -> parser.parseCommand(RedoCommand.COMMAND_WORD + " 1"));
+    }
+
     @Test
     public void parseCommand_editPremiumCommand() throws Exception {
         assertTrue(parser.parseCommand(EditPremiumCommand.COMMAND_WORD + " 1 pr/ LifeShield, $300")
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClientsCommand;
+import seedu.address.model.person.HoldsPremiumPredicate;
+
+public class ClientsCommandParserTest {
+
+    private ClientsCommandParser parser = new ClientsCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsSummaryCommand() {
+        assertParseSuccess(parser, "     ", new ClientsCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsClientsCommand() {
+        ClientsCommand expectedCommand = new ClientsCommand(new HoldsPremiumPredicate("LifeShield"));
+        assertParseSuccess(parser, "LifeShield", expectedCommand);
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \n LifeShield \t", expectedCommand);
+    }
+
+    @Test
+    public void parse_multipleWords_throwsParseException() {
+        assertParseFailure(parser, "Life Shield",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClientsCommand.MESSAGE_USAGE));
+    }
+}
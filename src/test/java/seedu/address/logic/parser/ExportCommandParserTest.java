@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_filePathOnly_returnsExportCommand() {
+        assertParseSuccess(parser, " data/clients.csv ",
+                new ExportCommand(Paths.get("data/clients.csv"), false, false));
+
+        // file named like a keyword
+        assertParseSuccess(parser, "all.csv", new ExportCommand(Paths.get("all.csv"), false, false));
+    }
+
+    @Test
+    public void parse_keywords_returnsExportCommand() {
+        assertParseSuccess(parser, "all clients.csv", new ExportCommand(Paths.get("clients.csv"), true, false));
+        assertParseSuccess(parser, "POLICIES  all my clients.ndjson",
+                new ExportCommand(Paths.get("my clients.ndjson"), true, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+        // no file
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "all", expectedMessage);
+
+        // unsupported file type
+        assertParseFailure(parser, "all clients.json", expectedMessage);
+    }
+}
@@ -4,12 +4,20 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.query.BirthdayCriterion;
+import seedu.address.model.person.query.KeywordCriterion;
+import seedu.address.model.person.query.PersonField;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.PremiumAmountCriterion;
+import seedu.address.model.util.Range;
 
 public class FindCommandParserTest {
 
@@ -31,4 +39,35 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldPrefixes_returnsQueryCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(List.of(
+                new KeywordCriterion(PersonField.NAME, List.of("Alice", "Bob")),
+                new KeywordCriterion(PersonField.ADDRESS, List.of("Clementi Ave")),
+                new KeywordCriterion(PersonField.TAG, List.of("friends", "colleagues")),
+                new BirthdayCriterion(List.of(new Range<>(LocalDate.of(1990, 1, 1), null),
+                        Range.of(LocalDate.of(1985, 5, 5)))),
+                new KeywordCriterion(PersonField.PREMIUM, List.of("LifeShield")),
+                new PremiumAmountCriterion(List.of(new Range<>(100, 500))))));
+        assertParseSuccess(parser, " Alice n/Bob a/ Clementi Ave t/friends t/colleagues b/1990-01-01.. "
+                + "b/1985-05-05 pr/LifeShield pr/$100..$500", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldValues_throwsParseException() {
+        // empty value
+        assertParseFailure(parser, " t/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid date
+        assertParseFailure(parser, " b/1990-13-01..", FindCommandParser.MESSAGE_INVALID_DATE);
+
+        // invalid amount
+        assertParseFailure(parser, " pr/..-5", FindCommandParser.MESSAGE_INVALID_AMOUNT);
+
+        // unbounded range
+        assertParseFailure(parser, " pr/..", FindCommandParser.MESSAGE_UNBOUNDED_RANGE);
+
+        // reversed range
+        assertParseFailure(parser, " pr/500..100", Range.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -346,6 +346,12 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parsePremium(specialCharsPremiumInput));
     }
 
+    @Test
+    public void parsePremium_duplicatePremiumName_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PremiumList.MESSAGE_DUPLICATE_PREMIUM, "LifeShield"), () ->
+                ParserUtil.parsePremium("LifeShield $300 HealthPlus $200 LifeShield $400"));
+    }
+
     @Test
     public void parseDeletePremium_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseDeletePremium(null));
@@ -359,17 +365,16 @@ public class ParserUtilTest {
 
     @Test
     public void parseDeletePremium_singleValidValue_returnsPremiumList() throws Exception {
-        PremiumList expectedList = new PremiumList();
-        expectedList.add(new Premium(VALID_PREMIUM_1, 0));
+        PremiumList expectedList = new PremiumList().with(new Premium(VALID_PREMIUM_1, 0));
 
         assertEquals(expectedList, ParserUtil.parseDeletePremium(VALID_PREMIUM_1));
     }
 
     @Test
     public void parseDeletePremium_multipleValidValues_returnsPremiumList() throws Exception {
-        PremiumList expectedList = new PremiumList();
-        expectedList.add(new Premium(VALID_PREMIUM_1, 0));
-        expectedList.add(new Premium(VALID_PREMIUM_2, 0));
+        PremiumList expectedList = new PremiumList()
+                .with(new Premium(VALID_PREMIUM_1, 0))
+                .with(new Premium(VALID_PREMIUM_2, 0));
 
         assertEquals(expectedList,
                 ParserUtil.parseDeletePremium(VALID_PREMIUM_1 + " " + VALID_PREMIUM_2));
@@ -380,9 +385,9 @@ public class ParserUtilTest {
         String premiumsWithWhitespace = WHITESPACE + VALID_PREMIUM_1 + " "
                 + VALID_PREMIUM_2 + WHITESPACE;
 
-        PremiumList expectedList = new PremiumList();
-        expectedList.add(new Premium(VALID_PREMIUM_1, 0));
-        expectedList.add(new Premium(VALID_PREMIUM_2, 0));
+        PremiumList expectedList = new PremiumList()
+                .with(new Premium(VALID_PREMIUM_1, 0))
+                .with(new Premium(VALID_PREMIUM_2, 0));
 
         assertEquals(expectedList, ParserUtil.parseDeletePremium(premiumsWithWhitespace));
     }
@@ -16,7 +16,9 @@ import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
@@ -26,10 +28,16 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.PolicyContainsKeywordsPredicate;
 import seedu.address.model.policy.PolicyLink;
 import seedu.address.model.policy.PolicyName;
 import seedu.address.model.policy.PolicyNumber;
 import seedu.address.model.policy.ProviderCompany;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonPolicyBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserProfileStorage;
+import seedu.address.storage.StorageManager;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PolicyBookBuilder;
@@ -196,6 +204,39 @@ public class ModelManagerTest {
         assertEquals(HEALTH_2040, filteredList.get(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_nameKeywords_tracksLaterChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("ALICE")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person aliceMeier = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setPerson(BENSON, aliceMeier);
+        assertEquals(Arrays.asList(ALICE, aliceMeier), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        assertEquals(Arrays.asList(aliceMeier), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPolicyList_nameKeywords_matchesPartsOfWords() {
+        modelManager.addPolicy(HEALTH_2040);
+        modelManager.addPolicy(LIFE_SHIELD);
+        modelManager.updateFilteredPolicyList(new PolicyContainsKeywordsPredicate(Arrays.asList("SHIELD")));
+        assertEquals(Arrays.asList(LIFE_SHIELD), modelManager.getFilteredPolicyList());
+
+        Policy healthShield = new PolicyBuilder(HEALTH_2040).withPolicyName("Health Shield").build();
+        modelManager.setPolicy(HEALTH_2040, healthShield);
+        assertEquals(Arrays.asList(healthShield, LIFE_SHIELD), modelManager.getFilteredPolicyList());
+
+        modelManager.deletePolicy(LIFE_SHIELD);
+        assertEquals(Arrays.asList(healthShield), modelManager.getFilteredPolicyList());
+    }
+
     @Test
     public void getFilteredPolicyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPolicyList().remove(0));
@@ -309,6 +350,42 @@ public class ModelManagerTest {
         assertEquals("Later", birthdays.get(1).getName().fullName);
     }
 
+    @Test
+    public void setUpcomingBirthdayWindow_updatesUpcomingBirthdaysAndUserPrefs() {
+        Person inFortyDays = new PersonBuilder()
+                .withName("Forty")
+                .withBirthday(LocalDate.now().plusDays(40).withYear(2000).toString())
+                .build();
+        modelManager.addPerson(inFortyDays);
+        ObservableList<Person> birthdays = modelManager.getUpcomingBirthdays();
+        assertFalse(birthdays.contains(inFortyDays));
+
+        modelManager.setUpcomingBirthdayWindow(60);
+        assertTrue(birthdays.contains(inFortyDays));
+        assertEquals(60, modelManager.getUserPrefs().getUpcomingBirthdayWindow());
+
+        assertThrows(IllegalArgumentException.class, () -> modelManager.setUpcomingBirthdayWindow(-1));
+    }
+
+    @Test
+    public void saveUserProfile_notifiesObservableUserProfile(@TempDir Path tempDir) throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(tempDir.resolve("ab.json")),
+                new JsonPolicyBookStorage(tempDir.resolve("pb.json")),
+                new JsonUserPrefsStorage(tempDir.resolve("prefs.json")),
+                new JsonUserProfileStorage(tempDir.resolve("profile.json")));
+        ModelManager model = new ModelManager(new AddressBook(), new PolicyBook(), new UserPrefs(),
+                new UserProfile(), storage);
+        ObservableValue<UserProfile> observableUserProfile = model.getObservableUserProfile();
+        UserProfile[] notifiedProfile = new UserProfile[1];
+        observableUserProfile.addListener((observable, oldProfile, newProfile) -> notifiedProfile[0] = newProfile);
+
+        UserProfile newProfile = new UserProfile(new Name("John Doe"), new Email("johnd@example.com"),
+                new Phone("98765432"));
+        model.saveUserProfile(newProfile);
+        assertEquals(newProfile, observableUserProfile.getValue());
+        assertEquals(newProfile, notifiedProfile[0]);
+    }
+
     @Test
     public void setUserProfileFilePath_validPath_updatesPath() {
         Path path = Paths.get("new/file/path.json");
@@ -0,0 +1,85 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListEditTest {
+
+    @Test
+    public void constructor_negativeIndex_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListEdit<>(-1, List.of(), List.of("a")));
+    }
+
+    @Test
+    public void of_changes_recordsEditsThatReproduceThem() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d");
+        List<String> before = new ArrayList<>(list);
+        List<ListEdit<String>> edits = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> edits.addAll(ListEdit.of(change)));
+
+        list.remove(1);
+        list.add(0, "e");
+        list.set(2, "f");
+        FXCollections.sort(list);
+        List<String> after = new ArrayList<>(list);
+
+        // Making the edits again reproduces the changes
+        ObservableList<String> replay = FXCollections.observableArrayList(before);
+        edits.forEach(edit -> edit.applyTo(replacer(replay)));
+        assertEquals(after, replay);
+
+        // Making their inverses in reverse order reverts them
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).inverse().applyTo(replacer(replay));
+        }
+        assertEquals(before, replay);
+    }
+
+    @Test
+    public void inverse() {
+        ListEdit<String> edit = new ListEdit<>(2, List.of("a"), List.of("b", "c"));
+        assertEquals(new ListEdit<>(2, List.of("b", "c"), List.of("a")), edit.inverse());
+        assertEquals(edit, edit.inverse().inverse());
+    }
+
+    @Test
+    public void equals() {
+        ListEdit<String> edit = new ListEdit<>(1, List.of("a"), List.of("b"));
+
+        // same values -> returns true
+        assertTrue(edit.equals(new ListEdit<>(1, List.of("a"), List.of("b"))));
+
+        // same object -> returns true
+        assertTrue(edit.equals(edit));
+
+        // null -> returns false
+        assertFalse(edit.equals(null));
+
+        // different types -> returns false
+        assertFalse(edit.equals(5.0f));
+
+        // different index -> returns false
+        assertFalse(edit.equals(new ListEdit<>(2, List.of("a"), List.of("b"))));
+
+        // different items -> returns false
+        assertFalse(edit.equals(new ListEdit<>(1, List.of("b"), List.of("a"))));
+    }
+
+    private static ListEdit.Replacer<String> replacer(List<String> list) {
+        return (index, count, replacements) -> {
+            list.subList(index, index + count).clear();
+            list.addAll(index, replacements);
+        };
+    }
+}
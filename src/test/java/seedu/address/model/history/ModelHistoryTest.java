@@ -0,0 +1,122 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.ELDER_SHIELD;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModelHistoryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PolicyBook policyBook = getTypicalPolicyBook();
+    private final ModelHistory history = createHistory(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createHistory(0));
+    }
+
+    @Test
+    public void commit_noChanges_doesNothing() {
+        history.commit("list");
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_committedChanges_revertsAndRestoresThem() {
+        AddressBook originalAddressBook = new AddressBook(addressBook);
+        PolicyBook originalPolicyBook = new PolicyBook(policyBook);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(BOB);
+        policyBook.removePolicy(ELDER_SHIELD);
+        history.commit("edit");
+        AddressBook editedAddressBook = new AddressBook(addressBook);
+        PolicyBook editedPolicyBook = new PolicyBook(policyBook);
+
+        assertEquals("edit", history.undo());
+        assertEquals(originalAddressBook, addressBook);
+        assertEquals(originalPolicyBook, policyBook);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        assertEquals("edit", history.redo());
+        assertEquals(editedAddressBook, addressBook);
+        assertEquals(editedPolicyBook, policyBook);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsUndoneSteps() {
+        addressBook.addPerson(BOB);
+        history.commit("add");
+        history.undo();
+
+        addressBook.removePerson(ALICE);
+        history.commit("delete");
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_beyondCapacity_forgetsOldestStep() {
+        addressBook.addPerson(BOB);
+        history.commit("add");
+        AddressBook oldestKeptAddressBook = new AddressBook(addressBook);
+        addressBook.removePerson(BOB);
+        history.commit("delete");
+        addressBook.removePerson(ALICE);
+        history.commit("delete");
+
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(oldestKeptAddressBook, addressBook);
+    }
+
+    @Test
+    public void discardUncommitted_revertsChangesSinceLastCommit() {
+        addressBook.addPerson(BOB);
+        history.commit("add");
+        AddressBook committedAddressBook = new AddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(BOB);
+        assertTrue(history.hasUncommittedChanges());
+        history.discardUncommitted();
+
+        assertEquals(committedAddressBook, addressBook);
+        assertFalse(history.hasUncommittedChanges());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_throwsIllegalStateException() {
+        addressBook.addPerson(BOB);
+        history.commit("add");
+        addressBook.removePerson(ALICE);
+        assertThrows(IllegalStateException.class, history::undo);
+    }
+
+    @Test
+    public void redo_nothingUndone_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    private ModelHistory createHistory(int capacity) {
+        return new ModelHistory(addressBook.getPersonList(), addressBook::replacePersons,
+                policyBook.getPolicyList(), policyBook::replacePolicies, capacity);
+    }
+}
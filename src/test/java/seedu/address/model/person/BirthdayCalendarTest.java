@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class BirthdayCalendarTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 2, 20);
+
+    private static final Person FEB_20 = createPerson("Feb Twenty", "1990-02-20");
+    private static final Person FEB_28 = createPerson("Feb TwentyEight", "1991-02-28");
+    private static final Person LEAP_DAY = createPerson("Leap Day", "1992-02-29");
+    private static final Person MAR_05 = createPerson("Mar Five", "1993-03-05");
+    private static final Person MAR_30 = createPerson("Mar Thirty", "1994-03-30");
+    private static final Person FEB_19 = createPerson("Feb Nineteen", "1995-02-19");
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private BirthdayCalendar calendar;
+
+    @BeforeEach
+    public void setUp() {
+        persons.setAll(MAR_30, MAR_05, LEAP_DAY, FEB_19, FEB_28, FEB_20);
+        calendar = new BirthdayCalendar(persons, TODAY, BirthdayCalendar.DEFAULT_WINDOW_DAYS);
+    }
+
+    private static Person createPerson(String name, String birthday) {
+        return new PersonBuilder().withName(name).withBirthday(birthday).build();
+    }
+
+    @Test
+    public void constructor_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BirthdayCalendar(persons, TODAY, -1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new BirthdayCalendar(persons, TODAY, BirthdayCalendar.MAX_WINDOW_DAYS + 1));
+    }
+
+    @Test
+    public void getUpcomingBirthdays_sortedByNextBirthday() {
+        // 29 February is celebrated after 28 February in years that are not leap years
+        assertEquals(Arrays.asList(FEB_20, FEB_28, LEAP_DAY, MAR_05), calendar.getUpcomingBirthdays());
+    }
+
+    @Test
+    public void getUpcomingBirthdays_isUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> calendar.getUpcomingBirthdays().remove(0));
+    }
+
+    @Test
+    public void personsChanged_updatesUpcomingBirthdays() {
+        Person mar01 = createPerson("Mar One", "1980-03-01");
+        persons.add(mar01);
+        assertEquals(Arrays.asList(FEB_20, FEB_28, LEAP_DAY, mar01, MAR_05), calendar.getUpcomingBirthdays());
+
+        persons.remove(FEB_28);
+        assertEquals(Arrays.asList(FEB_20, LEAP_DAY, mar01, MAR_05), calendar.getUpcomingBirthdays());
+
+        Person editedMar05 = new PersonBuilder(MAR_05).withBirthday("1993-02-21").build();
+        persons.set(persons.indexOf(MAR_05), editedMar05);
+        assertEquals(Arrays.asList(FEB_20, editedMar05, LEAP_DAY, mar01), calendar.getUpcomingBirthdays());
+
+        // Adding a person outside the window leaves the upcoming birthdays unchanged
+        persons.add(createPerson("Jun One", "1980-06-01"));
+        assertEquals(Arrays.asList(FEB_20, editedMar05, LEAP_DAY, mar01), calendar.getUpcomingBirthdays());
+    }
+
+    @Test
+    public void personsChanged_manyPersonsReplaced_updatesUpcomingBirthdays() {
+        List<Person> replacement = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            replacement.add(createPerson("Person " + i, TODAY.minusYears(30).plusDays(i).toString()));
+        }
+        persons.setAll(replacement);
+        assertEquals(replacement.subList(0, BirthdayCalendar.DEFAULT_WINDOW_DAYS + 1),
+                calendar.getUpcomingBirthdays());
+    }
+
+    @Test
+    public void setToday_movesUpcomingBirthdaysForward() {
+        ObservableList<Person> upcoming = calendar.getUpcomingBirthdays();
+        calendar.setToday(TODAY.plusDays(8));
+        // The list is updated in place
+        assertEquals(Arrays.asList(FEB_28, LEAP_DAY, MAR_05, MAR_30), upcoming);
+
+        calendar.setToday(TODAY.plusDays(9));
+        assertEquals(Arrays.asList(MAR_05, MAR_30), upcoming);
+    }
+
+    @Test
+    public void setToday_leapYear_leapDayCelebratedOnLeapDay() {
+        calendar.setToday(LocalDate.of(2024, 2, 29));
+        assertEquals(Arrays.asList(LEAP_DAY, MAR_05, MAR_30), calendar.getUpcomingBirthdays().subList(0, 3));
+    }
+
+    @Test
+    public void setWindowDays_changesUpcomingBirthdays() {
+        calendar.setWindowDays(0);
+        assertEquals(Arrays.asList(FEB_20), calendar.getUpcomingBirthdays());
+
+        calendar.setWindowDays(BirthdayCalendar.MAX_WINDOW_DAYS);
+        assertEquals(Arrays.asList(FEB_20, FEB_28, LEAP_DAY, MAR_05, MAR_30, FEB_19),
+                calendar.getUpcomingBirthdays());
+
+        assertThrows(IllegalArgumentException.class, () -> calendar.setWindowDays(-1));
+    }
+
+    @Test
+    public void upcomingBirthdays_matchBirthdayNextOccurrence() {
+        for (int i = 0; i < 366; i++) {
+            LocalDate today = TODAY.plusDays(i);
+            calendar.setToday(today);
+            for (Person person : persons) {
+                LocalDate nextBirthday = person.getBirthday().getNextOccurrence(today);
+                boolean isUpcoming = !nextBirthday.isAfter(today.plusDays(BirthdayCalendar.DEFAULT_WINDOW_DAYS));
+                assertEquals(isUpcoming, calendar.getUpcomingBirthdays().contains(person));
+            }
+            assertTrue(calendar.getUpcomingBirthdays().size() <= persons.size());
+        }
+    }
+}
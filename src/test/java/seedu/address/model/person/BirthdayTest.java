@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -105,4 +106,24 @@ public class BirthdayTest {
         assertTrue(birthday.isWithinNext30Days());
     }
 
+    @Test
+    public void getNextOccurrence_birthdayLaterThisYear_returnsThisYear() {
+        Birthday birthday = new Birthday("1990-05-21");
+        assertEquals(LocalDate.of(2025, 5, 21), birthday.getNextOccurrence(LocalDate.of(2025, 5, 1)));
+        assertEquals(LocalDate.of(2025, 5, 21), birthday.getNextOccurrence(LocalDate.of(2025, 5, 21)));
+    }
+
+    @Test
+    public void getNextOccurrence_birthdayPassedThisYear_returnsNextYear() {
+        Birthday birthday = new Birthday("1990-05-21");
+        assertEquals(LocalDate.of(2026, 5, 21), birthday.getNextOccurrence(LocalDate.of(2025, 5, 22)));
+    }
+
+    @Test
+    public void getNextOccurrence_leapDayBirthday_returnsLeapDayOrLastDayOfFebruary() {
+        Birthday birthday = new Birthday("2000-02-29");
+        assertEquals(LocalDate.of(2025, 2, 28), birthday.getNextOccurrence(LocalDate.of(2025, 1, 1)));
+        assertEquals(LocalDate.of(2028, 2, 29), birthday.getNextOccurrence(LocalDate.of(2027, 3, 1)));
+        assertEquals(LocalDate.of(2028, 2, 29), birthday.getNextOccurrence(LocalDate.of(2028, 2, 29)));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class HoldsPremiumPredicateTest {
+
+    @Test
+    public void equals() {
+        HoldsPremiumPredicate firstPredicate = new HoldsPremiumPredicate("LifeShield");
+        HoldsPremiumPredicate secondPredicate = new HoldsPremiumPredicate("ElderShield");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new HoldsPremiumPredicate("LifeShield")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different premium name -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personHoldsPremium_returnsTrue() {
+        assertTrue(new HoldsPremiumPredicate("LifeShield").test(BENSON));
+
+        // mixed case
+        assertTrue(new HoldsPremiumPredicate("lIfEsHiElD").test(BENSON));
+
+        // one of several premiums
+        assertTrue(new HoldsPremiumPredicate("Health2040")
+                .test(new PersonBuilder().withPremiumList("LifeShield $100 Health2040 $200").build()));
+    }
+
+    @Test
+    public void test_personDoesNotHoldPremium_returnsFalse() {
+        assertFalse(new HoldsPremiumPredicate("LifeShield").test(ALICE));
+
+        // partial name
+        assertFalse(new HoldsPremiumPredicate("Life").test(BENSON));
+
+        // no premiums
+        assertFalse(new HoldsPremiumPredicate("LifeShield").test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void usingIndex_matchesSamePersonsAsTest() {
+        PremiumIndex premiumIndex = new PremiumIndex();
+        premiumIndex.add(ALICE);
+        premiumIndex.add(BENSON);
+
+        HoldsPremiumPredicate predicate = new HoldsPremiumPredicate("lifeshield");
+        Predicate<Person> indexedPredicate = predicate.usingIndex(premiumIndex);
+        assertEquals(predicate.test(ALICE), indexedPredicate.test(ALICE));
+        assertEquals(predicate.test(BENSON), indexedPredicate.test(BENSON));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HoldsPremiumPredicate predicate = new HoldsPremiumPredicate("LifeShield");
+        String expected = HoldsPremiumPredicate.class.getCanonicalName() + "{premiumName=LifeShield}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PremiumIndexTest {
+
+    private final PremiumIndex premiumIndex = new PremiumIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // FIONA is added before ALICE, but holders are ordered by name
+        premiumIndex.add(FIONA);
+        premiumIndex.add(ALICE);
+        premiumIndex.add(BENSON);
+    }
+
+    @Test
+    public void getHolders_heldPremium_returnsHoldersAndTotal() {
+        PremiumHolders holders = premiumIndex.getHolders("ElderShield");
+        assertEquals(Arrays.asList(ALICE, FIONA), holders.getHolders());
+        assertEquals(1000, holders.getAmount(ALICE));
+        assertEquals(4679, holders.getAmount(FIONA));
+        assertEquals(5679, holders.getTotalAmount());
+        assertThrows(IllegalArgumentException.class, () -> holders.getAmount(BENSON));
+    }
+
+    @Test
+    public void getHolders_differentCase_returnsHolders() {
+        PremiumHolders holders = premiumIndex.getHolders(" eldershield ");
+        assertEquals(Arrays.asList(ALICE, FIONA), holders.getHolders());
+        // The name is given as it was first added
+        assertEquals("ElderShield", holders.getPremiumName());
+    }
+
+    @Test
+    public void getHolders_unheldPremium_returnsNoHolders() {
+        PremiumHolders holders = premiumIndex.getHolders("Unknown");
+        assertTrue(holders.isEmpty());
+        assertEquals(0, holders.getTotalAmount());
+        assertEquals("Unknown", holders.getPremiumName());
+    }
+
+    @Test
+    public void remove_person_updatesHoldersAndTotal() {
+        premiumIndex.remove(FIONA);
+        PremiumHolders holders = premiumIndex.getHolders("ElderShield");
+        assertEquals(List.of(ALICE), holders.getHolders());
+        assertEquals(1000, holders.getTotalAmount());
+
+        premiumIndex.remove(ALICE);
+        assertTrue(premiumIndex.getHolders("ElderShield").isEmpty());
+        assertEquals(List.of("LifeShield"), premiumIndex.getAllHolders().stream()
+                .map(PremiumHolders::getPremiumName).toList());
+    }
+
+    @Test
+    public void remove_equalPersonNotIndexed_noChange() {
+        // Persons are compared by identity
+        premiumIndex.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Arrays.asList(ALICE, FIONA), premiumIndex.getHolders("ElderShield").getHolders());
+    }
+
+    @Test
+    public void add_premiumsDifferingInCase_combinesAmounts() {
+        Person person = new PersonBuilder().withName("Case Person")
+                .withPremiumList("LifeShield $100 lifeshield $50").build();
+        premiumIndex.add(person);
+
+        PremiumHolders holders = premiumIndex.getHolders("LifeShield");
+        assertEquals(Arrays.asList(BENSON, person), holders.getHolders());
+        assertEquals(150, holders.getAmount(person));
+        assertEquals(383, holders.getTotalAmount());
+
+        premiumIndex.remove(person);
+        assertEquals(233, premiumIndex.getHolders("LifeShield").getTotalAmount());
+    }
+
+    @Test
+    public void getAllHolders_returnsHoldersOrderedByPremiumName() {
+        premiumIndex.add(GEORGE);
+        List<PremiumHolders> allHolders = premiumIndex.getAllHolders();
+        assertEquals(2, allHolders.size());
+        assertEquals(premiumIndex.getHolders("ElderShield"), allHolders.get(0));
+        assertEquals(Arrays.asList(BENSON, GEORGE), allHolders.get(1).getHolders());
+        assertEquals(1344, allHolders.get(1).getTotalAmount());
+    }
+
+    @Test
+    public void asPredicate_reflectsLaterChanges() {
+        Predicate<Person> predicate = premiumIndex.asPredicate("lifeshield");
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(GEORGE));
+
+        premiumIndex.add(GEORGE);
+        assertTrue(predicate.test(GEORGE));
+
+        premiumIndex.clear();
+        assertFalse(predicate.test(BENSON));
+    }
+}
@@ -2,10 +2,13 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,53 +42,78 @@ public class PremiumListTest {
     }
 
     @Test
-    public void add_validPremium_success() {
+    public void constructor_duplicateNames_keepsLastPremiumInFirstPosition() {
+        PremiumList premiumList = new PremiumList(List.of(
+                new Premium("test1", 100), new Premium("test2", 200), new Premium("test1", 300)));
+
+        assertEquals(List.of(new Premium("test1", 300), new Premium("test2", 200)), premiumList.getPremiums());
+    }
+
+    @Test
+    public void getPremiums_modify_throwsUnsupportedOperationException() {
+        PremiumList premiumList = new PremiumList(new Premium("test", 100));
+        assertThrows(UnsupportedOperationException.class, () -> premiumList.getPremiums().remove(0));
+    }
+
+    @Test
+    public void getPremium() {
+        Premium premium = new Premium("test", 100);
+        PremiumList premiumList = new PremiumList(premium);
+
+        assertEquals(Optional.of(premium), premiumList.getPremium("test"));
+        assertEquals(Optional.empty(), premiumList.getPremium("other"));
+    }
+
+    @Test
+    public void with_validPremium_success() {
         PremiumList premiumList = new PremiumList();
         Premium premium = new Premium("test", 100);
 
-        premiumList.add(premium);
+        PremiumList addedPremiumList = premiumList.with(premium);
 
-        assertTrue(premiumList.contains(premium));
-        assertFalse(premiumList.isEmpty());
-        assertEquals(1, premiumList.premiumList.size());
+        assertTrue(addedPremiumList.contains(premium));
+        assertFalse(addedPremiumList.isEmpty());
+        assertEquals(1, addedPremiumList.size());
+
+        // original premium list is unchanged
+        assertTrue(premiumList.isEmpty());
     }
 
     @Test
-    public void add_nullPremium_throwsNullPointerException() {
-        PremiumList premiumList = new PremiumList();
-        assertThrows(NullPointerException.class, () -> premiumList.add((Premium) null));
+    public void with_samePremium_returnsSamePremiumList() {
+        Premium premium = new Premium("test", 100);
+        PremiumList premiumList = new PremiumList(premium);
+
+        assertSame(premiumList, premiumList.with(new Premium("test", 100)));
     }
 
     @Test
-    public void add_invalidStringPremium_throwsIllegalArgumentException() {
+    public void with_nullPremium_throwsNullPointerException() {
         PremiumList premiumList = new PremiumList();
-        String invalidPremiumString = "this is not a valid premium string";
-
-        assertThrows(IllegalArgumentException.class, () -> premiumList.add(invalidPremiumString));
+        assertThrows(NullPointerException.class, () -> premiumList.with(null));
     }
 
     @Test
-    public void remove_existingPremium_success() {
+    public void without_existingPremium_success() {
         Premium premium = new Premium("test", 100);
         PremiumList premiumList = new PremiumList(premium);
 
-        premiumList.remove(premium);
+        PremiumList removedPremiumList = premiumList.without(premium);
 
-        assertTrue(premiumList.isEmpty());
-        assertFalse(premiumList.contains(premium));
+        assertTrue(removedPremiumList.isEmpty());
+        assertFalse(removedPremiumList.contains(premium));
+
+        // original premium list is unchanged
+        assertTrue(premiumList.contains(premium));
     }
 
     @Test
-    public void remove_nonExistingPremium_noChange() {
+    public void without_nonExistingPremium_returnsSamePremiumList() {
         Premium premium1 = new Premium("test1", 100);
         Premium premium2 = new Premium("test2", 200);
         PremiumList premiumList = new PremiumList(premium1);
 
-        premiumList.remove(premium2);
-
-        assertFalse(premiumList.isEmpty());
-        assertTrue(premiumList.contains(premium1));
-        assertEquals(1, premiumList.premiumList.size());
+        assertSame(premiumList, premiumList.without(premium2));
     }
 
     @Test
@@ -106,24 +134,33 @@ public class PremiumListTest {
     }
 
     @Test
-    public void addAll_validPremiumList_success() {
+    public void withAll_validPremiumList_success() {
         Premium premium1 = new Premium("test1", 100);
         Premium premium2 = new Premium("test2", 200);
 
         PremiumList list1 = new PremiumList(premium1);
         PremiumList list2 = new PremiumList(premium2);
 
-        list1.addAll(list2);
+        PremiumList combinedList = list1.withAll(list2);
+
+        assertTrue(combinedList.contains(premium1));
+        assertTrue(combinedList.contains(premium2));
+        assertEquals(2, combinedList.size());
+        assertEquals(1, list1.size());
+    }
+
+    @Test
+    public void withAll_emptyPremiumList_sharesPremiumList() {
+        PremiumList premiumList = new PremiumList(new Premium("test", 100));
 
-        assertTrue(list1.contains(premium1));
-        assertTrue(list1.contains(premium2));
-        assertEquals(2, list1.premiumList.size());
+        assertSame(premiumList, premiumList.withAll(new PremiumList()));
+        assertSame(premiumList, new PremiumList().withAll(premiumList));
     }
 
     @Test
-    public void addAll_nullPremiumList_throwsNullPointerException() {
+    public void withAll_nullPremiumList_throwsNullPointerException() {
         PremiumList premiumList = new PremiumList();
-        assertThrows(NullPointerException.class, () -> premiumList.addAll(null));
+        assertThrows(NullPointerException.class, () -> premiumList.withAll(null));
     }
 
     @Test
@@ -145,9 +182,7 @@ public class PremiumListTest {
         Premium premium1 = new Premium("test1", 100);
         Premium premium2 = new Premium("test2", 200);
 
-        PremiumList premiumList = new PremiumList();
-        premiumList.add(premium1);
-        premiumList.add(premium2);
+        PremiumList premiumList = new PremiumList(List.of(premium1, premium2));
 
         String expected = premium1.toString() + "\n" + premium2.toString() + "\n";
         assertEquals(expected, premiumList.toString());
@@ -206,9 +241,7 @@ public class PremiumListTest {
 
         PremiumList list1 = new PremiumList(premium1);
 
-        PremiumList list2 = new PremiumList();
-        list2.add(premium1);
-        list2.add(premium2);
+        PremiumList list2 = new PremiumList(List.of(premium1, premium2));
 
         assertFalse(list1.equals(list2));
     }
@@ -225,36 +258,41 @@ public class PremiumListTest {
     }
 
     @Test
-    public void replace_existingPremium_success() {
+    public void withReplaced_existingPremium_success() {
         Premium originalPremium = new Premium("test", 100);
+        Premium otherPremium = new Premium("other", 300);
         Premium replacementPremium = new Premium("test", 200);
-        PremiumList premiumList = new PremiumList(originalPremium);
+        PremiumList premiumList = new PremiumList(List.of(originalPremium, otherPremium));
+
+        PremiumList replacedPremiumList = premiumList.withReplaced(replacementPremium);
 
-        premiumList.replace(replacementPremium);
+        assertTrue(replacedPremiumList.contains(replacementPremium));
+        assertEquals(2, replacedPremiumList.size());
+        // the replaced premium keeps its position
+        assertTrue(replacedPremiumList.getPremiums().get(0).getPremiumAmount().equals(200));
 
-        assertTrue(premiumList.contains(replacementPremium));
-        assertEquals(1, premiumList.premiumList.size());
-        assertTrue(premiumList.premiumList.get(0).getPremiumAmount().equals(200));
+        // original premium list is unchanged
+        assertEquals(originalPremium, premiumList.getPremiums().get(0));
     }
 
     @Test
-    public void replace_nonExistingPremium_noChange() {
+    public void withReplaced_nonExistingPremium_noChange() {
         Premium originalPremium = new Premium("test1", 100);
         Premium replacementPremium = new Premium("test2", 200);
         PremiumList premiumList = new PremiumList(originalPremium);
 
-        premiumList.replace(replacementPremium);
+        PremiumList replacedPremiumList = premiumList.withReplaced(replacementPremium);
 
-        assertTrue(premiumList.contains(originalPremium));
-        assertFalse(premiumList.contains(replacementPremium));
-        assertEquals(1, premiumList.premiumList.size());
+        assertSame(premiumList, replacedPremiumList);
+        assertFalse(replacedPremiumList.contains(replacementPremium));
+        assertEquals(1, replacedPremiumList.size());
     }
 
     @Test
-    public void replace_nullPremium_throwsNullPointerException() {
+    public void withReplaced_nullPremium_throwsNullPointerException() {
         Premium premium = new Premium("test", 100);
         PremiumList premiumList = new PremiumList(premium);
 
-        assertThrows(NullPointerException.class, () -> premiumList.replace(null));
+        assertThrows(NullPointerException.class, () -> premiumList.withReplaced(null));
     }
 }
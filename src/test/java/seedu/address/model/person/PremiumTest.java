@@ -9,6 +9,11 @@ import org.junit.jupiter.api.Test;
 
 public class PremiumTest {
 
+    @Test
+    public void ofValidated_validPremium_equalsConstructedPremium() {
+        assertEquals(new Premium("LifeShield", 500), Premium.ofValidated("LifeShield", 500));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Premium(null, null));
@@ -0,0 +1,113 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.Range;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final Criterion FRIENDS = new KeywordCriterion(PersonField.TAG, List.of("FRIENDS"));
+    private static final Criterion STREET = new KeywordCriterion(PersonField.ADDRESS, List.of("street"));
+    private static final Criterion BORN_IN_1990 = new BirthdayCriterion(List.of(
+            new Range<>(LocalDate.of(1990, 1, 1), LocalDate.of(1990, 12, 31))));
+    private static final Criterion PAYS_AT_MOST_1000 = new PremiumAmountCriterion(List.of(new Range<>(null, 1000)));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        PersonQuery firstQuery = new PersonQuery(List.of(FRIENDS, BORN_IN_1990));
+        PersonQuery secondQuery = new PersonQuery(List.of(FRIENDS));
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new PersonQuery(List.of(FRIENDS, BORN_IN_1990))));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different criteria -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+    }
+
+    @Test
+    public void test_allCriteriaMatched_returnsTrue() {
+        PersonQuery query = new PersonQuery(List.of(FRIENDS, PAYS_AT_MOST_1000));
+        assertEquals(Arrays.asList(ALICE, BENSON), filter(query));
+    }
+
+    @Test
+    public void test_valuesOfOneCriterion_matchAny() {
+        PersonQuery query = new PersonQuery(List.of(new KeywordCriterion(PersonField.PHONE,
+                List.of("94351253", "95352563"))));
+        assertEquals(Arrays.asList(ALICE, CARL), filter(query));
+    }
+
+    @Test
+    public void usingIndexes_sameMatchesAsTest() {
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(FRIENDS, PAYS_AT_MOST_1000)),
+                new PersonQuery(List.of(STREET, BORN_IN_1990)),
+                new PersonQuery(List.of(new KeywordCriterion(PersonField.EMAIL, List.of("Werner@Example.com")))),
+                new PersonQuery(List.of(new KeywordCriterion(PersonField.NAME, List.of("meier")),
+                        new KeywordCriterion(PersonField.PREMIUM, List.of("health2040")))));
+        for (PersonQuery query : queries) {
+            assertEquals(filter(query), filter(addressBook.withPersonIndexes(query)));
+        }
+        assertEquals(Arrays.asList(CARL, DANIEL), filter(new PersonQuery(List.of(STREET, BORN_IN_1990))));
+    }
+
+    @Test
+    public void usingIndexes_noIndexedCriterion_returnsQuery() {
+        PersonQuery query = new PersonQuery(List.of(STREET));
+        assertSame(query, addressBook.withPersonIndexes(query));
+    }
+
+    @Test
+    public void usingIndexes_personsChanged_matchesUpdated() {
+        PersonQuery query = new PersonQuery(List.of(FRIENDS, BORN_IN_1990));
+        Predicate<Person> indexedQuery = addressBook.withPersonIndexes(query);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), filter(indexedQuery));
+
+        Person editedElle = new PersonBuilder(ELLE).withBirthday("1990-06-15").withTags("friends").build();
+        addressBook.setPerson(ELLE, editedElle);
+        addressBook.removePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, DANIEL, editedElle), filter(indexedQuery));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = new PersonQuery(List.of(FRIENDS));
+        String expected = PersonQuery.class.getCanonicalName() + "{criteria=" + List.of(FRIENDS) + "}";
+        assertEquals(expected, query.toString());
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
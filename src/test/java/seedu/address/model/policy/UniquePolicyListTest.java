@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPolicy.ELDER_SHIELD;
 import static seedu.address.testutil.TypicalPolicy.ETF_BONDS;
 import static seedu.address.testutil.TypicalPolicy.GREAT_INVESTMENT;
+import static seedu.address.testutil.TypicalPolicy.LIFE_SHIELD;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -163,6 +165,23 @@ public class UniquePolicyListTest {
         assertThrows(DuplicatePolicyException.class, () -> uniquePolicyList.setPolicy(listWithDuplicatePolicies));
     }
 
+    @Test
+    public void replaceRange_validReplacements_replacesRange() {
+        uniquePolicyList.setPolicy(Arrays.asList(GREAT_INVESTMENT, ETF_BONDS));
+        uniquePolicyList.replaceRange(0, 1, Arrays.asList(LIFE_SHIELD, ELDER_SHIELD));
+        UniquePolicyList expectedUniquePolicyList = new UniquePolicyList();
+        expectedUniquePolicyList.setPolicy(Arrays.asList(LIFE_SHIELD, ELDER_SHIELD, ETF_BONDS));
+        assertEquals(expectedUniquePolicyList, uniquePolicyList);
+    }
+
+    @Test
+    public void replaceRange_duplicateOutsideRange_throwsDuplicatePolicyException() {
+        uniquePolicyList.setPolicy(Arrays.asList(GREAT_INVESTMENT, ETF_BONDS));
+        assertThrows(DuplicatePolicyException.class, () ->
+                uniquePolicyList.replaceRange(1, 1, List.of(GREAT_INVESTMENT)));
+        assertTrue(uniquePolicyList.contains(ETF_BONDS));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
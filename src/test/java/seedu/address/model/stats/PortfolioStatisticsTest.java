@@ -0,0 +1,141 @@
+package seedu.address.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalPolicy.ELDER_SHIELD;
+import static seedu.address.testutil.TypicalPolicy.LIFE_SHIELD;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PolicyBuilder;
+
+public class PortfolioStatisticsTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final ObservableList<Policy> policies = FXCollections.observableArrayList();
+    private PortfolioStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        persons.setAll(getTypicalPersons());
+        policies.setAll(getTypicalPolicy());
+        statistics = new PortfolioStatistics(persons, policies);
+    }
+
+    @Test
+    public void constructor_typicalPortfolio_aggregated() {
+        assertEquals(7, statistics.getClientCount());
+        assertEquals(new PremiumAggregate(PortfolioStatistics.PORTFOLIO_NAME, 7, 1015260),
+                statistics.getPortfolio());
+        assertTrue(statistics.getUnlisted().isEmpty());
+
+        assertEquals(Arrays.asList("BondPlus", "HealthPlus", "InvestCorp", "ShieldCorp"),
+                List.copyOf(statistics.getByProvider().keySet()));
+        assertEquals(new PremiumAggregate("ShieldCorp", 4, 7023), statistics.getProviderAggregate("ShieldCorp"));
+
+        assertEquals(new PremiumAggregate("friends", 3, 1006693), statistics.getTagAggregate("friends"));
+        assertEquals(new PremiumAggregate("owesMoney", 1, 233), statistics.getTagAggregate("owesMoney"));
+
+        assertEquals(5, statistics.getByPremium().size());
+        assertEquals(new PremiumAggregate("LifeShield", 2, 1344), statistics.getPremiumAggregate("lifeshield"));
+    }
+
+    @Test
+    public void getPremiumAggregate_unheldPremium_returnsEmptyAggregate() {
+        assertEquals(PremiumAggregate.empty("Unknown"), statistics.getPremiumAggregate("Unknown"));
+        assertEquals(PremiumAggregate.empty("Unknown"), statistics.getTagAggregate("Unknown"));
+        assertEquals(PremiumAggregate.empty("Unknown"), statistics.getProviderAggregate("Unknown"));
+    }
+
+    @Test
+    public void getByPremium_isUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> statistics.getByPremium().clear());
+    }
+
+    @Test
+    public void personsChanged_aggregatesUpdated() {
+        Person editedBenson = new PersonBuilder(BENSON).withPremiumList("ElderShield $10 Unlisted $5")
+                .withTags("friends").build();
+        persons.set(persons.indexOf(BENSON), editedBenson);
+
+        assertEquals(7, statistics.getClientCount());
+        assertEquals(new PremiumAggregate(PortfolioStatistics.PORTFOLIO_NAME, 8, 1015042),
+                statistics.getPortfolio());
+        assertEquals(new PremiumAggregate("LifeShield", 1, 1111), statistics.getPremiumAggregate("LifeShield"));
+        assertEquals(new PremiumAggregate("ElderShield", 3, 5689), statistics.getPremiumAggregate("ElderShield"));
+        assertEquals(new PremiumAggregate("ShieldCorp", 4, 6800), statistics.getProviderAggregate("ShieldCorp"));
+        assertEquals(new PremiumAggregate(PortfolioStatistics.UNLISTED_NAME, 1, 5), statistics.getUnlisted());
+
+        // groups without any items left are removed
+        assertFalse(statistics.getByTag().containsKey("owesMoney"));
+        assertEquals(new PremiumAggregate("friends", 3, 1006475), statistics.getTagAggregate("friends"));
+
+        persons.clear();
+        assertEquals(0, statistics.getClientCount());
+        assertTrue(statistics.getPortfolio().isEmpty());
+        assertTrue(statistics.getUnlisted().isEmpty());
+        assertTrue(statistics.getByPremium().isEmpty());
+        assertTrue(statistics.getByTag().isEmpty());
+        assertTrue(statistics.getByProvider().isEmpty());
+    }
+
+    @Test
+    public void personsChanged_manyPersons_eachAggregateSetOnce() {
+        persons.clear();
+        List<Object> notifications = new ArrayList<>();
+        statistics.clientCountProperty().addListener((observable, oldCount, newCount) -> notifications.add(newCount));
+        statistics.portfolioProperty().addListener((observable, oldPortfolio, newPortfolio) ->
+                notifications.add(newPortfolio));
+        statistics.getByProvider().addListener((MapChangeListener<String, PremiumAggregate>) change ->
+                notifications.add(change.getKey()));
+
+        persons.addAll(getTypicalPersons());
+        assertEquals(List.of(7, new PremiumAggregate(PortfolioStatistics.PORTFOLIO_NAME, 7, 1015260)),
+                notifications.subList(0, 2));
+        assertEquals(List.of("BondPlus", "HealthPlus", "InvestCorp", "ShieldCorp"),
+                notifications.subList(2, notifications.size()).stream().sorted().toList());
+    }
+
+    @Test
+    public void policiesChanged_premiumsMovedBetweenProviders() {
+        // LifeShield premiums are no longer in the policy book
+        policies.remove(LIFE_SHIELD);
+        assertEquals(new PremiumAggregate("ShieldCorp", 2, 5679), statistics.getProviderAggregate("ShieldCorp"));
+        assertEquals(new PremiumAggregate(PortfolioStatistics.UNLISTED_NAME, 2, 1344), statistics.getUnlisted());
+
+        // LifeShield premiums are bought under a policy of another provider
+        policies.add(new PolicyBuilder(LIFE_SHIELD).withPolicyName("lifeshield").withProviderCompany("LifeCorp")
+                .build());
+        assertEquals(new PremiumAggregate("LifeCorp", 2, 1344), statistics.getProviderAggregate("LifeCorp"));
+        assertTrue(statistics.getUnlisted().isEmpty());
+
+        // ElderShield premiums move with the provider of their policy
+        policies.set(policies.indexOf(ELDER_SHIELD),
+                new PolicyBuilder(ELDER_SHIELD).withProviderCompany("ElderCorp").build());
+        assertEquals(new PremiumAggregate("ElderCorp", 2, 5679), statistics.getProviderAggregate("ElderCorp"));
+        assertFalse(statistics.getByProvider().containsKey("ShieldCorp"));
+    }
+
+    @Test
+    public void getClientAggregate() {
+        Person person = new PersonBuilder().withName("Amy Bee").withPremiumList("LifeShield $100 Health2040 $200")
+                .build();
+        assertEquals(new PremiumAggregate("Amy Bee", 2, 300), PortfolioStatistics.getClientAggregate(person));
+    }
+}
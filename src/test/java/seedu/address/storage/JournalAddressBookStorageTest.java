@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournalAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = ListJournal.getJournalPath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        storage = new JournalAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_existingJsonFile_importsData() throws Exception {
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_fileDoesNotExist_createsDefaultAddressBook() throws Exception {
+        Path missingFilePath = testFolder.resolve("missing.json");
+        assertFalse(storage.readAddressBook(missingFilePath).get().getPersonList().isEmpty());
+        assertTrue(Files.exists(missingFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_changedPersons_appendsToJournalOnly() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags("client").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPersons_writesNothing() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_clearedPersons_compactsIntoSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalPath));
+
+        AddressBook emptyAddressBook = new AddressBook();
+        storage.saveAddressBook(emptyAddressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(emptyAddressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_compactsIntoSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person person = new PersonBuilder().withName("Journal Person").withPhone("000").build();
+        addressBook.addPerson(person);
+        for (int i = 0; i <= ListJournal.COMPACTION_THRESHOLD; i++) {
+            Person editedPerson = new PersonBuilder(person).withPhone(String.format("%03d", i % 2 + 1)).build();
+            addressBook.setPerson(person, editedPerson);
+            person = editedPerson;
+            storage.saveAddressBook(addressBook);
+        }
+
+        assertTrue(!Files.exists(journalPath)
+                || Files.readAllLines(journalPath).size() <= ListJournal.COMPACTION_THRESHOLD + 1);
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalFromOlderSnapshot_ignoresJournal() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // simulate a crash after a compaction rewrote the snapshot but before it removed the journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresRecord() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "insert\t8\t{\"name\":\"Ida".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastRecord_changesReloaded() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "insert\t8\t{\"name\":\"Ida".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reloadedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook reloaded = new AddressBook(reloadedStorage.readAddressBook().get());
+        reloaded.addPerson(IDA);
+        reloadedStorage.saveAddressBook(reloaded);
+
+        assertEquals(reloaded, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        String journal = Files.readString(journalPath).replace("insert\t7", "insert\t70");
+        Files.writeString(journalPath, journal);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPolicy.HEALTH_2040;
+import static seedu.address.testutil.TypicalPolicy.LIFE_SHIELD;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.PolicyBook;
+import seedu.address.testutil.PolicyBuilder;
+
+public class JournalPolicyBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalPolicyBookStorage storage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("policybook.json");
+        new JsonPolicyBookStorage(filePath).savePolicyBook(getTypicalPolicyBook());
+        storage = new JournalPolicyBookStorage(filePath);
+    }
+
+    @Test
+    public void readPolicyBook_existingJsonFile_importsData() throws Exception {
+        assertEquals(getTypicalPolicyBook(), storage.readPolicyBook().get());
+    }
+
+    @Test
+    public void savePolicyBook_changedPolicies_appendsToJournalOnly() throws Exception {
+        PolicyBook policyBook = new PolicyBook(storage.readPolicyBook().get());
+        String snapshot = Files.readString(filePath);
+
+        policyBook.addPolicy(new PolicyBuilder().withPolicyName("Journal Shield").withPolicyNumber("JRN001").build());
+        policyBook.removePolicy(HEALTH_2040);
+        policyBook.setPolicy(LIFE_SHIELD, new PolicyBuilder(LIFE_SHIELD).withProviderCompany("Shield Co").build());
+        storage.savePolicyBook(policyBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(ListJournal.getJournalPath(filePath)));
+        assertEquals(policyBook, new JournalPolicyBookStorage(filePath).readPolicyBook().get());
+    }
+
+    @Test
+    public void savePolicyBook_clearedPolicies_compactsIntoSnapshot() throws Exception {
+        storage.readPolicyBook();
+        storage.savePolicyBook(new PolicyBook());
+        assertFalse(Files.exists(ListJournal.getJournalPath(filePath)));
+        assertEquals(new PolicyBook(), new JournalPolicyBookStorage(filePath).readPolicyBook().get());
+    }
+}
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Premium;
 import seedu.address.model.person.PremiumList;
 
@@ -50,9 +53,9 @@ public class JsonAdaptedPremiumListTest {
     @Test
     public void addAll_premiumList_success() {
         JsonAdaptedPremiumList jsonAdaptedPremiumList = new JsonAdaptedPremiumList();
-        PremiumList modelPremiumList = new PremiumList();
-        modelPremiumList.add(new Premium("test1", 100));
-        modelPremiumList.add(new Premium("test2", 200));
+        PremiumList modelPremiumList = new PremiumList()
+                .with(new Premium("test1", 100))
+                .with(new Premium("test2", 200));
 
         jsonAdaptedPremiumList.addAll(modelPremiumList);
 
@@ -65,6 +68,25 @@ public class JsonAdaptedPremiumListTest {
     }
 
 
+    @Test
+    public void toModelType_invalidPremium_throwsIllegalValueException() {
+        JsonAdaptedPremiumList jsonAdaptedPremiumList = new JsonAdaptedPremiumList();
+        jsonAdaptedPremiumList.add("test -100");
+
+        assertThrows(IllegalValueException.class, () -> jsonAdaptedPremiumList.toModelType("Alice"));
+    }
+
+    @Test
+    public void toModelType_duplicatePremiumName_keepsFirstPremium() throws Exception {
+        JsonAdaptedPremiumList jsonAdaptedPremiumList = new JsonAdaptedPremiumList();
+        jsonAdaptedPremiumList.add("LifeShield 300");
+        jsonAdaptedPremiumList.add("HealthPlus 200");
+        jsonAdaptedPremiumList.add("LifeShield 400");
+
+        assertEquals(List.of(new Premium("LifeShield", 300), new Premium("HealthPlus", 200)),
+                jsonAdaptedPremiumList.toModelType("Alice").getPremiums());
+    }
+
     @Test
     public void isEmpty_emptyList_returnsTrue() {
         JsonAdaptedPremiumList jsonAdaptedPremiumList = new JsonAdaptedPremiumList();
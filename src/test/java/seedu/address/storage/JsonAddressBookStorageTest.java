@@ -13,13 +13,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -155,6 +160,67 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        Path duplicateFilePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () ->
+                new JsonAddressBookStorage(duplicateFilePath).readAddressBook(duplicateFilePath));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(duplicateFilePath).readPersons());
+    }
+
+    @Test
+    public void readPersons_repeatedPremiumName_keepsFirstPremiumAndOtherPersons() throws Exception {
+        List<Person> persons = new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("repeatedPremiumAddressBook.json"))
+                .readPersons().get();
+
+        assertEquals(2, persons.size());
+        assertEquals(List.of(new Premium("LifeShield", 300)), persons.get(0).getPremiumList().getPremiums());
+        assertEquals("Benson Meier", persons.get(1).getName().fullName);
+        assertEquals(List.of(new Premium("ElderShield", 233)), persons.get(1).getPremiumList().getPremiums());
+    }
+
+    @Test
+    public void readPersons_typicalAddressBook_returnsPersonsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook().getPersonList(), jsonAddressBookStorage.readPersons().get());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAndEmptyAddressBooks_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        AddressBook typical = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(typical, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typical)),
+                FileUtil.readFromFile(filePath));
+
+        AddressBook empty = new AddressBook();
+        jsonAddressBookStorage.saveAddressBook(empty, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(empty)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_recoversFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook(), filePath);
+
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ {");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+
+        // a missing file is recovered instead of being replaced by the default data
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -70,6 +70,15 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidValuesInFile_defaultValuesUsed() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        UserPrefs actual = readUserPrefs("InvalidValuesUserPref.json").get();
+
+        assertEquals(expected, actual);
+        assertEquals(expected, new UserPrefs(actual));
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
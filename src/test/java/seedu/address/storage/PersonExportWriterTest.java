@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalPolicy.ELDER_SHIELD;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.ImportRowParser;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+import seedu.address.model.person.PremiumList;
+import seedu.address.model.policy.Policy;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonExportWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(PersonExportWriter.isSupported(Paths.get("clients.CSV")));
+        assertTrue(PersonExportWriter.isSupported(Paths.get("data", "clients.ndjson")));
+        assertTrue(PersonExportWriter.isSupported(Paths.get("clients.jsonl")));
+        assertFalse(PersonExportWriter.isSupported(Paths.get("clients.json")));
+    }
+
+    @Test
+    public void constructor_unsupportedFile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new PersonExportWriter(Paths.get("clients.txt"), Optional.empty()));
+    }
+
+    @Test
+    public void write_csv_writesOneRowPerPerson() throws Exception {
+        Person quoted = new PersonBuilder(BENSON).withAddress("Block \"A\", Clementi").build();
+        assertEquals("name,phone,email,address,birthday,premiums,tags\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",1990-01-01,"
+                + "ElderShield 1000,friends\n"
+                + "Benson Meier,98765432,johnd@example.com,\"Block \"\"A\"\", Clementi\",1990-01-01,"
+                + "LifeShield 233,friends owesMoney\n",
+                write("clients.csv", Optional.empty(), ALICE, quoted));
+    }
+
+    @Test
+    public void write_csvWithPolicies_writesOneRowPerPremium() throws Exception {
+        Person noPremiums = new PersonBuilder(BENSON).withPremiumList(new PremiumList()).build();
+        Person twoPremiums = new PersonBuilder(ALICE)
+                .withPremiumList(new PremiumList(List.of(new Premium("ElderShield", 1000), new Premium("Gold", 5))))
+                .build();
+        assertEquals("name,phone,email,address,birthday,tags,premium name,premium amount,policy number,"
+                + "provider company,policy link\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",1990-01-01,friends,"
+                + "ElderShield,1000,POL789,ShieldCorp,https://www.shieldcorp.com/policy789\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",1990-01-01,friends,"
+                + "Gold,5,,,\n"
+                + "Benson Meier,98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\",1990-01-01,"
+                + "friends owesMoney,,,,,\n",
+                write("clients.csv", Optional.of(List.of(ELDER_SHIELD)), twoPremiums, noPremiums));
+    }
+
+    @Test
+    public void write_ndjson_writesOneObjectPerLine() throws Exception {
+        assertEquals("{\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"email\":\"alice@example.com\","
+                + "\"address\":\"123, Jurong West Ave 6, #08-111\",\"birthday\":\"1990-01-01\","
+                + "\"premiums\":\"ElderShield 1000\",\"tags\":[\"friends\"]}\n"
+                + "{\"name\":\"Benson Meier\",\"phone\":\"98765432\",\"email\":\"johnd@example.com\","
+                + "\"address\":\"311, Clementi Ave 2, #02-25\",\"birthday\":\"1990-01-01\","
+                + "\"premiums\":\"LifeShield 233\",\"tags\":[\"friends\",\"owesMoney\"]}\n",
+                write("clients.ndjson", Optional.empty(), ALICE, BENSON));
+    }
+
+    @Test
+    public void write_ndjsonWithPolicies_listsPolicyOfEachPremium() throws Exception {
+        String expectedAlice = "{\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"email\":\"alice@example.com\","
+                + "\"address\":\"123, Jurong West Ave 6, #08-111\",\"birthday\":\"1990-01-01\","
+                + "\"premiums\":\"ElderShield 1000\",\"tags\":[\"friends\"],"
+                + "\"policies\":[{\"premiumName\":\"ElderShield\",\"premiumAmount\":1000,\"policyNumber\":\"POL789\","
+                + "\"providerCompany\":\"ShieldCorp\",\"policyLink\":\"https://www.shieldcorp.com/policy789\"}]}\n";
+        String expectedBenson = "{\"name\":\"Benson Meier\",\"phone\":\"98765432\",\"email\":\"johnd@example.com\","
+                + "\"address\":\"311, Clementi Ave 2, #02-25\",\"birthday\":\"1990-01-01\","
+                + "\"premiums\":\"LifeShield 233\",\"tags\":[\"friends\",\"owesMoney\"],"
+                + "\"policies\":[{\"premiumName\":\"LifeShield\",\"premiumAmount\":233}]}\n";
+        assertEquals(expectedAlice + expectedBenson,
+                write("clients.jsonl", Optional.of(List.of(ELDER_SHIELD)), ALICE, BENSON));
+    }
+
+    @Test
+    public void write_csvFile_canBeImported() throws Exception {
+        Path file = testFolder.resolve("clients.csv");
+        new PersonExportWriter(file, Optional.empty()).write(getTypicalPersons(), file);
+
+        List<Person> imported = new ArrayList<>();
+        for (ImportRow row : PersonImportReader.read(file)) {
+            imported.add(ImportRowParser.parse(row));
+        }
+        assertEquals(getTypicalPersons(), imported);
+    }
+
+    private static String write(String fileName, Optional<List<Policy>> policies,
+            Person... persons) throws Exception {
+        StringWriter writer = new StringWriter();
+        new PersonExportWriter(Paths.get(fileName), policies).write(List.of(persons), writer);
+        return writer.toString();
+    }
+}
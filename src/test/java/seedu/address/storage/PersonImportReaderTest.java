@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class PersonImportReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(PersonImportReader.isSupported(Paths.get("clients.csv")));
+        assertTrue(PersonImportReader.isSupported(Paths.get("data", "clients.JSON")));
+        assertFalse(PersonImportReader.isSupported(Paths.get("clients.txt")));
+        assertFalse(PersonImportReader.isSupported(Paths.get("csv")));
+    }
+
+    @Test
+    public void read_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonImportReader.read(null));
+    }
+
+    @Test
+    public void read_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> PersonImportReader.read(testFolder.resolve("missing.csv")));
+    }
+
+    @Test
+    public void read_csv_returnsRowsWithLineNumbers() throws Exception {
+        Path file = write("clients.csv",
+                "Name,Phone,Email,Address,Birthday,Premiums,Tags",
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6\",1990-01-01,ElderShield 1000,"
+                        + "friends",
+                "",
+                "Benson Meier,98765432,johnd@example.com,\"Block \"\"A\"\"",
+                "Clementi\",1990-01-01,,owesMoney; friends",
+                "Carl Kurz,95352563");
+
+        List<ImportRow> rows = PersonImportReader.read(file);
+        assertEquals(List.of(
+                new ImportRow(2, "Alice Pauline", "94351253", "alice@example.com", "123, Jurong West Ave 6",
+                        "1990-01-01", "ElderShield 1000", List.of("friends")),
+                new ImportRow(4, "Benson Meier", "98765432", "johnd@example.com", "Block \"A\"\nClementi",
+                        "1990-01-01", "", List.of("owesMoney", "friends")),
+                new ImportRow(6, "Carl Kurz", "95352563", null, null, null, null, List.of())), rows);
+    }
+
+    @Test
+    public void read_csvColumnsInAnyOrder_returnsRows() throws Exception {
+        Path file = write("clients.csv",
+                "\uFEFFbirthday,address,email,phone,name",
+                "1990-01-01,wall street,heinz@example.com,95352563,Carl Kurz");
+
+        assertEquals(List.of(new ImportRow(2, "Carl Kurz", "95352563", "heinz@example.com", "wall street",
+                "1990-01-01", null, List.of())), PersonImportReader.read(file));
+    }
+
+    @Test
+    public void read_csvMissingColumn_throwsDataLoadingException() throws Exception {
+        Path file = write("clients.csv", "name,phone,email,address", "Carl Kurz,95352563,heinz@example.com,wall");
+
+        IllegalValueException cause = new IllegalValueException(
+                String.format(PersonImportReader.MESSAGE_MISSING_COLUMN, PersonImportReader.COLUMN_BIRTHDAY));
+        assertThrows(DataLoadingException.class, cause.toString(), () -> PersonImportReader.read(file));
+    }
+
+    @Test
+    public void read_csvUnterminatedQuote_throwsDataLoadingException() throws Exception {
+        Path file = write("clients.csv", "name,phone,email,address,birthday",
+                "Carl Kurz,95352563,heinz@example.com,\"wall street,1990-01-01");
+
+        IllegalValueException cause = new IllegalValueException(
+                String.format(PersonImportReader.MESSAGE_UNTERMINATED_QUOTE, 2));
+        assertThrows(DataLoadingException.class, cause.toString(), () -> PersonImportReader.read(file));
+    }
+
+    @Test
+    public void read_json_returnsRowsWithLineNumbers() throws Exception {
+        List<ImportRow> rows = PersonImportReader.read(TYPICAL_PERSONS_FILE);
+
+        assertEquals(7, rows.size());
+        assertEquals(new ImportRow(3, "Alice Pauline", "94351253", "alice@example.com",
+                "123, Jurong West Ave 6, #08-111", "1990-01-01", "ElderShield 1000", List.of("friends")), rows.get(0));
+        assertEquals(11, rows.get(1).getLineNumber());
+    }
+
+    @Test
+    public void read_jsonWithoutPersons_throwsDataLoadingException() throws Exception {
+        Path file = write("clients.json", "{ \"policies\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> PersonImportReader.read(file));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
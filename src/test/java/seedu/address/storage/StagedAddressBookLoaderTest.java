@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StagedAddressBookLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    // Tasks handed to the UI thread, which the tests run one at a time
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+
+    private JsonAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void start_readSucceeds_addsPersonsOnePageAtATime() {
+        StagedAddressBookLoader loader = createLoader(3);
+        assertEquals(StagedAddressBookLoader.PROGRESS_UNKNOWN, loader.progressProperty().get());
+        loader.start();
+
+        uiTasks.remove().run();
+        assertEquals(getTypicalPersons().subList(0, 3), model.getAddressBook().getPersonList());
+        assertEquals(3.0 / 7, loader.progressProperty().get());
+        assertFalse(loader.isLoaded());
+
+        uiTasks.remove().run();
+        uiTasks.remove().run();
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertEquals(1, loader.progressProperty().get());
+        assertTrue(loader.isLoaded());
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void start_alreadyStarted_throwsIllegalStateException() {
+        StagedAddressBookLoader loader = createLoader(3);
+        loader.start();
+        assertThrows(IllegalStateException.class, loader::start);
+    }
+
+    @Test
+    public void awaitLoaded_pagesRemaining_addsAllPersons() {
+        StagedAddressBookLoader loader = createLoader(3);
+        loader.start();
+        uiTasks.remove().run();
+
+        loader.awaitLoaded();
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertTrue(loader.isLoaded());
+
+        // the page scheduled before waiting adds nothing more
+        uiTasks.remove().run();
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void awaitLoaded_notStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, createLoader(3)::awaitLoaded);
+    }
+
+    @Test
+    public void awaitLoaded_invalidFile_startsEmpty() throws IOException {
+        Files.writeString(storage.getAddressBookFilePath(), "not json");
+        StagedAddressBookLoader loader = createLoader(3);
+        loader.start();
+
+        loader.awaitLoaded();
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertTrue(loader.isLoaded());
+    }
+
+    @Test
+    public void awaitLoaded_personsLoaded_cannotBeUndone() {
+        StagedAddressBookLoader loader = createLoader(3);
+        loader.start();
+        loader.awaitLoaded();
+
+        model.commitChanges("load");
+        assertFalse(model.canUndo());
+    }
+
+    private StagedAddressBookLoader createLoader(int pageSize) {
+        return new StagedAddressBookLoader(storage, model, uiTasks::add, Runnable::run, pageSize);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindPersistenceTest {
+
+    private static final long NEVER = Long.MAX_VALUE / 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = createStorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")));
+    }
+
+    private StorageManager createStorageManager(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage,
+                new JsonPolicyBookStorage(testFolder.resolve("pb")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonUserProfileStorage(testFolder.resolve("up")));
+    }
+
+    @Test
+    public void flush_noDirtyBooks_writesNothing() throws Exception {
+        WriteBehindPersistence persistence = new WriteBehindPersistence(storageManager, new Object(), NEVER);
+        persistence.close();
+        assertFalse(Files.exists(testFolder.resolve("ab")));
+        assertFalse(Files.exists(testFolder.resolve("pb")));
+    }
+
+    @Test
+    public void flush_dirtyBooks_writesLatestData() throws Exception {
+        WriteBehindPersistence persistence = new WriteBehindPersistence(storageManager, new Object(), NEVER);
+        AddressBook addressBook = new AddressBook();
+        persistence.markAddressBookDirty(addressBook);
+        addressBook.resetData(getTypicalAddressBook());
+        persistence.markAddressBookDirty(addressBook);
+        persistence.markPolicyBookDirty(getTypicalPolicyBook());
+        persistence.close();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(getTypicalPolicyBook(), new PolicyBook(storageManager.readPolicyBook().get()));
+    }
+
+    @Test
+    public void markDirty_afterDelay_writesInBackground() throws Exception {
+        WriteBehindPersistence persistence = new WriteBehindPersistence(storageManager, new Object(), 0);
+        persistence.markAddressBookDirty(getTypicalAddressBook());
+        for (int i = 0; i < 100 && !Files.exists(testFolder.resolve("ab")); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.exists(testFolder.resolve("ab")));
+        persistence.close();
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_keepsBookDirty() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        StorageManager failingStorage = createStorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        });
+        WriteBehindPersistence persistence = new WriteBehindPersistence(failingStorage, new Object(), NEVER);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        persistence.markAddressBookDirty(addressBook);
+
+        assertThrows(IOException.class, exception.getMessage(), persistence::flush);
+        assertThrows(IOException.class, exception.getMessage(), persistence::close);
+    }
+
+    @Test
+    public void markDirty_backgroundWriteFails_retried() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager flakyStorage = createStorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.getAndIncrement() == 0) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        WriteBehindPersistence persistence = new WriteBehindPersistence(flakyStorage, new Object(), 0);
+        persistence.markAddressBookDirty(getTypicalAddressBook());
+        for (int i = 0; i < 100 && !Files.exists(testFolder.resolve("ab")); i++) {
+            Thread.sleep(20);
+        }
+
+        assertTrue(persistence.pollFailure().isPresent());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+        persistence.close();
+    }
+
+    @Test
+    public void pollFailure_noFailure_returnsEmpty() {
+        WriteBehindPersistence persistence = new WriteBehindPersistence(storageManager, new Object(), NEVER);
+        assertFalse(persistence.pollFailure().isPresent());
+    }
+}
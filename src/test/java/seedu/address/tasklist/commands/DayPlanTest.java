@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,15 +12,15 @@ import org.junit.jupiter.api.Test;
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Deadline;
 import seedu.address.tasklist.tasks.Event;
-import seedu.address.tasklist.tasks.Task;
+import seedu.address.tasklist.tasks.IndexedTaskList;
 
 public class DayPlanTest {
     private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
-    private ArrayList<Task> taskList;
+    private IndexedTaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new IndexedTaskList();
     }
 
     @Test
@@ -92,4 +91,21 @@ public class DayPlanTest {
         assert result.contains("You have 2 deadlines on this day.");
         assert result.contains("You have 2 events on this day.");
     }
+
+    @Test
+    void deletedTasks_notInAgenda() throws TaskManagerException {
+        taskList.add(new Deadline("Submit proposal", LocalDateTime.parse("10/2/2025 2359", INPUT_FORMATTER)));
+        taskList.add(new Event("Conference",
+                LocalDateTime.parse("9/2/2025 0900", INPUT_FORMATTER),
+                LocalDateTime.parse("10/2/2025 1700", INPUT_FORMATTER)));
+        DeleteTask.execute("delete 2", taskList);
+        DeleteTask.execute("delete 1", taskList);
+        AddTask.todo("todo Buy milk", taskList);
+
+        String expectedOutput = "Here's what's happening on Monday, Feb 10 2025:\n"
+                + "\nDEADLINES:\nYou have no deadlines on this day.\n"
+                + "\nEVENTS:\nYou have no events on this day.";
+
+        assertEquals(expectedOutput, DayPlan.execute("agenda for 10/2/2025", taskList));
+    }
 }
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,18 +11,18 @@ import org.junit.jupiter.api.Test;
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Deadline;
 import seedu.address.tasklist.tasks.Event;
-import seedu.address.tasklist.tasks.Task;
+import seedu.address.tasklist.tasks.IndexedTaskList;
 import seedu.address.tasklist.tasks.ToDo;
 
 
 
 public class FindTest {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
-    private ArrayList<Task> taskList;
+    private IndexedTaskList taskList;
 
     @BeforeEach
     void setUp() throws TaskManagerException {
-        taskList = new ArrayList<>();
+        taskList = new IndexedTaskList();
         taskList.add(new ToDo("Buy milk"));
         taskList.add(new ToDo("Call John"));
         taskList.add(new Deadline("Submit report", LocalDateTime.parse("10/2/2025 2359", FORMATTER)));
@@ -39,16 +38,27 @@ public class FindTest {
         assertEquals(expected, result);
     }
 
-    /*
     @Test
     void findMultipleMatches() {
         String result = Find.execute("find meeting report", taskList);
         String expected = "Here are the tasks I found related to the keywords: meeting, report:\n"
-                + "1. [E][ ] Team meeting (from: saturday, feb 15 2025, 10:00am to: saturday, feb 15 2025, 12:00pm)\n"
+                + "3. [D][ ] Submit report (by: monday, feb 10 2025, 11:59pm)\n"
+                + "4. [E][ ] Team meeting (from: saturday, feb 15 2025, 10:00am to: saturday, feb 15 2025, 12:00pm)";
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void findMoreKeywordsMatched_rankedFirst() {
+        taskList.add(new ToDo("Call John about the report"));
+        taskList.remove(0);
+
+        String result = Find.execute("find REPORT john", taskList);
+        String expected = "Here are the tasks I found related to the keywords: REPORT, john:\n"
+                + "4. [T][ ] Call John about the report\n"
+                + "1. [T][ ] Call John\n"
                 + "2. [D][ ] Submit report (by: monday, feb 10 2025, 11:59pm)";
         assertEquals(expected, result);
     }
-    */
 
     @Test
     void noMatch() {
@@ -56,15 +66,13 @@ public class FindTest {
         assertEquals("I couldn't find any tasks related to the keywords: \"groceries\".\nTry different ones!", result);
     }
 
-    /*
     @Test
     void findWithMultipleKeywordsOneMatching() {
         String result = Find.execute("find groceries meeting", taskList);
         String expected = "Here are the tasks I found related to the keywords: groceries, meeting:\n"
-                + "1. [E][ ] Team meeting (from: saturday, feb 15 2025, 10:00am to: saturday, feb 15 2025, 12:00pm)";
+                + "4. [E][ ] Team meeting (from: saturday, feb 15 2025, 10:00am to: saturday, feb 15 2025, 12:00pm)";
         assertEquals(expected, result);
     }
-     */
 
     @Test
     void findWithoutKeywords() {
@@ -1,11 +1,17 @@
 package seedu.address.tasklist.main;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.storage.TaskStorage;
@@ -14,15 +20,33 @@ import seedu.address.tasklist.tasks.ToDo;
 
 public class TaskManagerTest {
 
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
     private TaskManager taskManager;
 
     @BeforeEach
     void setUp() throws TaskManagerException {
         ArrayList<Task> initialTasks = new ArrayList<>();
         initialTasks.add(new ToDo("Test Task"));
-        TaskStorage.updateList(initialTasks); // Reset with known state
+        filePath = testFolder.resolve("taskList.txt");
+        new TaskStorage(filePath).saveList(initialTasks); // Reset with known state
+
+        taskManager = new TaskManager(filePath);
+    }
+
+    @Test
+    void loadAsync_storedTasks_loaded() {
+        String response = TaskManager.loadAsync(filePath).join().getResponse("list");
+        assertTrue(response.contains("Test Task"));
+    }
 
-        taskManager = new TaskManager();
+    @Test
+    void loadAsync_invalidFile_completesExceptionally() {
+        CompletableFuture<TaskManager> loaded = TaskManager.loadAsync(testFolder);
+        CompletionException e = assertThrows(CompletionException.class, loaded::join);
+        assertTrue(e.getCause() instanceof TaskManagerException);
     }
 
     @Test
@@ -64,6 +88,19 @@ public class TaskManagerTest {
         assertTrue(response.contains("[ ] Complete project"));
     }
 
+    @Test
+    void getResponse_changingCommands_changesReloaded() throws TaskManagerException {
+        taskManager.getResponse("todo Buy milk");
+        taskManager.getResponse("deadline Submit report /by 18/2/2025 2359");
+        taskManager.getResponse("mark 2");
+        taskManager.getResponse("delete 1");
+
+        ArrayList<Task> reloaded = new TaskStorage(filePath).loadList();
+        assertEquals(2, reloaded.size());
+        assertEquals("[T][X] Buy milk", reloaded.get(0).toString());
+        assertTrue(reloaded.get(1).toString().contains("Submit report"));
+    }
+
     @Test
     void getResponse_findCommand_findsTasksWithKeyword() {
         String response = taskManager.getResponse("find Test");
@@ -1,60 +1,134 @@
 package seedu.address.tasklist.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.io.File;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.tasklist.exception.TaskManagerException;
 import seedu.address.tasklist.tasks.Event;
 import seedu.address.tasklist.tasks.Task;
 import seedu.address.tasklist.tasks.ToDo;
 
 public class TaskStorageTest {
-    private static final String FILE_PATH = "data/taskList.txt";
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private TaskStorage storage;
 
     @BeforeEach
     void setUp() {
-        // Clear file before each test
-        File file = new File(FILE_PATH);
-        if (file.exists()) {
-            file.delete();
-        }
-    }
-
-    @AfterEach
-    void cleanUp() {
-        File file = new File(FILE_PATH);
-        if (file.exists()) {
-            file.delete();
-        }
-
-        File backup = new File(FILE_PATH + ".bak");
-        if (backup.exists()) {
-            backup.delete();
-        }
+        filePath = testFolder.resolve("data").resolve("taskList.txt");
+        storage = new TaskStorage(filePath);
     }
 
     @Test
     public void loadList_malformedLines_skipsThem() throws Exception {
-        File file = new File(FILE_PATH);
-        try (var writer = new java.io.FileWriter(file)) {
-            writer.write("X | T: Valid ToDo | --\n");
-            writer.write("Corrupted line without proper format\n");
-            writer.write(" | D: Incomplete | missing time info\n");
-            writer.write("X | E: Meeting | from: 20/4/2025 1000, to: 20/4/2025 1200\n");
-        }
+        Files.createDirectories(filePath.getParent());
+        Files.writeString(filePath, "X | T: Valid ToDo | --\n"
+                + "Corrupted line without proper format\n"
+                + " | D: Incomplete | missing time info\n"
+                + "X | E: Meeting | from: 20/4/2025 1000, to: 20/4/2025 1200\n");
 
-        ArrayList<Task> loaded = TaskStorage.loadList();
+        ArrayList<Task> loaded = storage.loadList();
         assertEquals(2, loaded.size());
         assertTrue(loaded.get(0) instanceof ToDo);
         assertTrue(loaded.get(1) instanceof Event);
     }
 
+    @Test
+    public void loadList_missingFile_createsEmptyFile() throws TaskManagerException {
+        assertTrue(storage.loadList().isEmpty());
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void recordChanges_afterLoad_appendedToLogAndReplayed() throws Exception {
+        List<Task> tasks = storage.loadList();
+        tasks.add(new ToDo("Buy milk"));
+        storage.recordAdd(tasks);
+        tasks.add(new ToDo("Call mom"));
+        storage.recordAdd(tasks);
+        tasks.get(1).mark();
+        storage.recordUpdate(1, tasks);
+        tasks.remove(0);
+        storage.recordDelete(0, tasks);
+
+        // the snapshot is left as it was loaded
+        assertEquals("", Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(storage.getLogPath()).size());
+
+        List<Task> reloaded = new TaskStorage(filePath).loadList();
+        assertEquals(List.of("[T][X] Call mom"), reloaded.stream().map(Task::toString).toList());
+    }
+
+    @Test
+    public void recordAdd_logFull_compactsIntoSnapshot() throws Exception {
+        List<Task> tasks = storage.loadList();
+        for (int i = 0; i <= TaskStorage.COMPACTION_THRESHOLD; i++) {
+            tasks.add(new ToDo("Task " + i));
+            storage.recordAdd(tasks);
+        }
+
+        assertFalse(Files.exists(storage.getLogPath()));
+        assertEquals(TaskStorage.COMPACTION_THRESHOLD + 1, Files.readAllLines(filePath).size());
+        assertEquals(tasks, new TaskStorage(filePath).loadList());
+    }
+
+    @Test
+    public void recordAdd_notLoaded_savesWholeList() throws Exception {
+        storage.recordAdd(List.of(new ToDo("Buy milk")));
+
+        assertFalse(Files.exists(storage.getLogPath()));
+        assertEquals(List.of(new ToDo("Buy milk")), new TaskStorage(filePath).loadList());
+    }
+
+    @Test
+    public void loadList_staleLog_logDiscarded() throws Exception {
+        List<Task> tasks = storage.loadList();
+        tasks.add(new ToDo("Buy milk"));
+        storage.recordAdd(tasks);
+        String staleLog = Files.readString(storage.getLogPath());
+
+        // a crash after a new snapshot was written, but before the log was deleted
+        storage.saveList(tasks);
+        Files.writeString(storage.getLogPath(), staleLog);
+
+        assertEquals(List.of(new ToDo("Buy milk")), new TaskStorage(filePath).loadList());
+        assertFalse(Files.exists(storage.getLogPath()));
+    }
+
+    @Test
+    public void loadList_tornLastChange_changeSkipped() throws Exception {
+        List<Task> tasks = storage.loadList();
+        tasks.add(new ToDo("Buy milk"));
+        storage.recordAdd(tasks);
+        Files.writeString(storage.getLogPath(), Files.readString(storage.getLogPath()) + "update | 0 | X | T:");
+
+        assertEquals("[T][ ] Buy milk", new TaskStorage(filePath).loadList().get(0).toString());
+    }
+
+    @Test
+    public void recordAdd_afterTornLastChange_changeReloaded() throws Exception {
+        List<Task> tasks = storage.loadList();
+        tasks.add(new ToDo("Buy milk"));
+        storage.recordAdd(tasks);
+        Files.writeString(storage.getLogPath(), Files.readString(storage.getLogPath()) + "add |   | T: Call");
+
+        TaskStorage reloadedStorage = new TaskStorage(filePath);
+        List<Task> reloaded = reloadedStorage.loadList();
+        reloaded.add(new ToDo("Call mom"));
+        reloadedStorage.recordAdd(reloaded);
+
+        assertEquals(List.of(new ToDo("Buy milk"), new ToDo("Call mom")), new TaskStorage(filePath).loadList());
+    }
 }
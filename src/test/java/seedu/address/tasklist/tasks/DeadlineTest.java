@@ -1,6 +1,7 @@
 package seedu.address.tasklist.tasks;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -37,4 +38,19 @@ public class DeadlineTest {
         Deadline deadline = new Deadline("Lunch break", dueDate);
         assertEquals("12:00pm", deadline.getTime(), "getTime() should correctly handle noon.");
     }
+
+    @Test
+    public void equals_sameNameAndDueDate_equalWithSameHashCode() {
+        LocalDateTime dueDate = LocalDateTime.parse("2/12/2025 0930", INPUT_FORMATTER);
+        Deadline deadline = new Deadline("Submit report", dueDate);
+        Deadline markedDeadline = new Deadline("Submit report", dueDate, true);
+        assertEquals(deadline, markedDeadline);
+        assertEquals(deadline.hashCode(), markedDeadline.hashCode());
+    }
+
+    @Test
+    public void equals_todoWithSameName_returnsFalse() {
+        Deadline deadline = new Deadline("Submit report", LocalDateTime.parse("2/12/2025 0930", INPUT_FORMATTER));
+        assertNotEquals(deadline, new ToDo("Submit report"));
+    }
 }
@@ -84,6 +84,17 @@ public class EventTest {
         assertEquals(true, e1.equals(e2));
     }
 
+    @Test
+    public void hashCode_equalEventsDifferentStatus_sameHashCode() throws TaskManagerException {
+        Event e1 = new Event("Symposium",
+                LocalDateTime.parse("1/5/2025 1000", INPUT_FORMATTER),
+                LocalDateTime.parse("1/5/2025 1200", INPUT_FORMATTER));
+        Event e2 = new Event("Symposium",
+                LocalDateTime.parse("1/5/2025 1000", INPUT_FORMATTER),
+                LocalDateTime.parse("1/5/2025 1200", INPUT_FORMATTER), true);
+        assertEquals(e1.hashCode(), e2.hashCode());
+    }
+
     @Test
     public void equals_differentTime_returnsFalse() throws TaskManagerException {
         Event e1 = new Event("Webinar",
@@ -0,0 +1,157 @@
+package seedu.address.tasklist.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.tasklist.exception.TaskManagerException;
+
+public class IndexedTaskListTest {
+    private static final LocalDate FEB_10 = LocalDate.of(2025, 2, 10);
+    private static final LocalDate FEB_11 = LocalDate.of(2025, 2, 11);
+    private static final LocalDate FEB_16 = LocalDate.of(2025, 2, 16);
+
+    private IndexedTaskList taskList;
+    private Deadline report;
+    private Deadline essay;
+    private Event conference;
+    private Event retreat;
+
+    @BeforeEach
+    void setUp() throws TaskManagerException {
+        taskList = new IndexedTaskList();
+        report = new Deadline("Submit report", LocalDateTime.of(2025, 2, 10, 23, 59));
+        essay = new Deadline("Submit essay", LocalDateTime.of(2025, 2, 16, 12, 0));
+        conference = new Event("Conference", LocalDateTime.of(2025, 2, 11, 9, 0),
+                LocalDateTime.of(2025, 2, 11, 17, 0));
+        retreat = new Event("Retreat", LocalDateTime.of(2025, 2, 1, 9, 0),
+                LocalDateTime.of(2025, 2, 12, 17, 0));
+    }
+
+    @Test
+    void getDeadlinesBetween_singleDay_returnsDeadlinesDueThatDay() {
+        taskList.addAll(List.of(new ToDo("Buy milk"), essay, report, conference));
+
+        assertEquals(List.of(report), taskList.getDeadlinesBetween(FEB_10, FEB_10));
+        assertTrue(taskList.getDeadlinesBetween(FEB_11, FEB_11).isEmpty());
+    }
+
+    @Test
+    void getDeadlinesBetween_week_returnsDeadlinesInDueDateOrder() {
+        taskList.addAll(List.of(essay, report));
+
+        assertEquals(List.of(report, essay), taskList.getDeadlinesBetween(FEB_10, FEB_16));
+        assertTrue(taskList.getDeadlinesBetween(FEB_16, FEB_10).isEmpty());
+    }
+
+    @Test
+    void getEventsBetween_eventStartingBeforeRange_included() {
+        taskList.addAll(List.of(conference, retreat));
+
+        assertEquals(List.of(retreat), taskList.getEventsBetween(FEB_10, FEB_10));
+        assertEquals(List.of(retreat, conference), taskList.getEventsBetween(FEB_11, FEB_16));
+    }
+
+    @Test
+    void getEventsBetween_eventEndedBeforeRange_excluded() {
+        taskList.addAll(List.of(conference, retreat));
+
+        assertTrue(taskList.getEventsBetween(FEB_16, FEB_16).isEmpty());
+    }
+
+    @Test
+    void remove_indexedTask_removedFromIndexes() {
+        taskList.addAll(List.of(report, retreat, conference));
+        taskList.remove(1);
+        taskList.remove(report);
+
+        assertTrue(taskList.getDeadlinesBetween(FEB_10, FEB_10).isEmpty());
+        // Without the longest event, earlier start dates no longer need to be looked at
+        assertEquals(List.of(conference), taskList.getEventsBetween(FEB_10, FEB_16));
+    }
+
+    @Test
+    void remove_equalTask_onlyRemovesThatTask() {
+        Deadline copy = new Deadline("Submit report", LocalDateTime.of(2025, 2, 10, 23, 59), true);
+        taskList.addAll(List.of(report, copy));
+        taskList.remove(0);
+
+        List<Deadline> deadlines = taskList.getDeadlinesBetween(FEB_10, FEB_10);
+        assertEquals(1, deadlines.size());
+        assertTrue(deadlines.get(0) == copy);
+    }
+
+    @Test
+    void set_replacedTask_indexesUpdated() {
+        taskList.add(report);
+        taskList.set(0, essay);
+
+        assertTrue(taskList.getDeadlinesBetween(FEB_10, FEB_10).isEmpty());
+        assertEquals(List.of(essay), taskList.getDeadlinesBetween(FEB_16, FEB_16));
+    }
+
+    @Test
+    void clear_allTasks_indexesEmpty() {
+        taskList.addAll(List.of(report, retreat));
+        taskList.clear();
+
+        assertTrue(taskList.getDeadlinesBetween(FEB_10, FEB_16).isEmpty());
+        assertTrue(taskList.getEventsBetween(FEB_10, FEB_16).isEmpty());
+    }
+
+    @Test
+    void contains_equalTask_returnsTrue() {
+        taskList.addAll(List.of(new ToDo("Buy milk"), report));
+        taskList.get(0).mark();
+
+        assertTrue(taskList.contains(new ToDo("Buy milk")));
+        assertTrue(taskList.contains(new Deadline("Submit report", LocalDateTime.of(2025, 2, 10, 23, 59))));
+        assertFalse(taskList.contains(new Deadline("Submit report", LocalDateTime.of(2025, 2, 11, 23, 59))));
+        assertFalse(taskList.contains(new ToDo("Submit report")));
+    }
+
+    @Test
+    void contains_oneOfEqualTasksRemoved_returnsTrue() {
+        Deadline copy = new Deadline("Submit report", LocalDateTime.of(2025, 2, 10, 23, 59), true);
+        taskList.addAll(List.of(report, copy));
+
+        taskList.remove(0);
+        assertTrue(taskList.contains(report));
+        taskList.remove(0);
+        assertFalse(taskList.contains(report));
+    }
+
+    @Test
+    void findIndices_partOfWord_foundIgnoringCase() {
+        taskList.addAll(List.of(new ToDo("Buy milk"), report, essay));
+
+        assertEquals(List.of(1, 2), taskList.findIndices(List.of("SUBMIT")));
+        assertEquals(List.of(0), taskList.findIndices(List.of("ilk")));
+        assertTrue(taskList.findIndices(List.of("milk report")).isEmpty());
+    }
+
+    @Test
+    void findIndices_tasksInsertedAndRemoved_indicesInListOrder() {
+        ToDo todo = new ToDo("Submit form");
+        taskList.addAll(List.of(report, essay));
+        taskList.add(1, todo);
+        taskList.remove(report);
+
+        assertEquals(List.of(0, 1), taskList.findIndices(List.of("submit")));
+        assertEquals(List.of(0), taskList.findIndices(List.of("form")));
+    }
+
+    @Test
+    void findIndices_repeatedKeyword_countedOnce() {
+        taskList.addAll(List.of(new ToDo("Submit report"), new ToDo("Submit essay report")));
+
+        assertEquals(List.of(1, 0), taskList.findIndices(List.of("essay", "submit", "Submit")));
+    }
+}
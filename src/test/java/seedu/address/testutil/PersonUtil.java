@@ -42,7 +42,7 @@ public class PersonUtil {
         if (!person.getPremiumList().isEmpty()) {
             PremiumList premiumList = person.getPremiumList();
             sb.append(PREFIX_PREMIUM).append(" ");
-            premiumList.premiumList.stream().forEach(p -> sb.append(
+            premiumList.getPremiums().forEach(p -> sb.append(
                 p.getPremiumName()).append(" ").append(p.getPremiumAmount()).append(" "));
         }
 
@@ -68,7 +68,7 @@ public class PersonUtil {
             PremiumList premiumList = descriptor.getPremium().get();
             if (!premiumList.isEmpty()) {
                 sb.append(PREFIX_PREMIUM).append(" ");
-                premiumList.premiumList.stream().forEach(p -> sb.append(
+                premiumList.getPremiums().forEach(p -> sb.append(
                         p.getPremiumName()).append(" ").append(p.getPremiumAmount()).append(" "));
             } else {
                 sb.append(PREFIX_PREMIUM).append(" ");
@@ -37,11 +37,7 @@ public class PremiumListBuilder {
      */
     public PremiumListBuilder withPremium(String premiumString) {
         try {
-            PremiumList newPremium = ParserUtil.parsePremium(premiumString);
-            // Assuming PremiumList has a method to add all premiums from another PremiumList
-            for (Premium premium : newPremium.premiumList) {
-                premiumList.add(premium);
-            }
+            premiumList = premiumList.withAll(ParserUtil.parsePremium(premiumString));
         } catch (ParseException e) {
             throw new IllegalArgumentException("Invalid premium format: " + premiumString, e);
         }
@@ -55,7 +51,7 @@ public class PremiumListBuilder {
      * @return The updated PremiumListBuilder
      */
     public PremiumListBuilder withPremium(Premium premium) {
-        premiumList.add(premium);
+        premiumList = premiumList.with(premium);
         return this;
     }
 
@@ -66,7 +62,7 @@ public class PremiumListBuilder {
      * @return The updated PremiumListBuilder
      */
     public PremiumListBuilder withPremiumList(PremiumList premiumList) {
-        this.premiumList.addAll(premiumList);
+        this.premiumList = this.premiumList.withAll(premiumList);
         return this;
     }
 